@@ -0,0 +1,92 @@
+
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.github.f4b6a3.uuid.codec.base.Base58BtcCodec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.BaseNCodec;
+
+/**
+ * Measures time and allocation of the base-n codecs that use the remainder
+ * operator.
+ * <p>
+ * The encoder should allocate only the string (about 104 bytes for Base62) and
+ * the decoder only the UUID (32 bytes). The {@code main()} method runs it with
+ * the GC profiler, which reports {@code gc.alloc.rate.norm} in bytes per
+ * operation:
+ *
+ * <pre>{@code
+ * java -cp target/benchmarks.jar benchmark.BaseNAlloc
+ * }</pre>
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BaseNAlloc {
+
+	@Param({ "base36", "base58", "base62" })
+	String name;
+
+	BaseNCodec codec;
+	UUID uuid;
+	String string;
+
+	@Setup
+	public void setup() {
+		switch (name) {
+		case "base36":
+			codec = BaseNCodec.newInstance(36);
+			break;
+		case "base58":
+			codec = Base58BtcCodec.INSTANCE;
+			break;
+		default:
+			codec = Base62Codec.INSTANCE;
+			break;
+		}
+		uuid = UUID.randomUUID();
+		string = codec.encode(uuid);
+	}
+
+	@Benchmark
+	public String encode() {
+		return codec.encode(uuid);
+	}
+
+	@Benchmark
+	public UUID decode() {
+		return codec.decode(string);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder() //
+				.include(BaseNAlloc.class.getSimpleName()) //
+				.addProfiler(GCProfiler.class) //
+				.build();
+		new Runner(options).run();
+	}
+}
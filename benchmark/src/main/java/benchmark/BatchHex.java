@@ -0,0 +1,99 @@
+
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.codec.AsciiCodec;
+import com.github.f4b6a3.uuid.util.internal.HexVector;
+
+/**
+ * Measures the cost per UUID of bulk formatting and parsing of canonical ASCII
+ * strings.
+ * <p>
+ * The bulk methods of {@link AsciiCodec} use the Vector API only if the module
+ * is added to the JVM. Run it twice on JDK 17 to compare both paths:
+ *
+ * <pre>{@code
+ * # scalar (SWAR)
+ * java -jar target/benchmarks.jar BatchHex
+ * 
+ * # vector
+ * java -jar target/benchmarks.jar BatchHex -jvmArgsAppend "--add-modules=jdk.incubator.vector"
+ * }</pre>
+ * <p>
+ * The methods {@code encodeEach} and {@code decodeEach} convert one UUID per
+ * call, for reference.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BatchHex {
+
+	private static final int COUNT = 1024;
+
+	long[] uuids = new long[2 * COUNT];
+	UUID[] objects = new UUID[COUNT];
+	byte[] bytes = new byte[AsciiCodec.LENGTH * COUNT];
+
+	@Setup
+	public void setup() {
+		for (int i = 0; i < COUNT; i++) {
+			objects[i] = UUID.randomUUID();
+			uuids[2 * i] = objects[i].getMostSignificantBits();
+			uuids[2 * i + 1] = objects[i].getLeastSignificantBits();
+		}
+		AsciiCodec.INSTANCE.encodeAll(uuids, 0, COUNT, bytes, 0);
+		System.out.printf("%nVector API: %s%n", HexVector.isSupported());
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public byte[] encodeAll() {
+		AsciiCodec.INSTANCE.encodeAll(uuids, 0, COUNT, bytes, 0);
+		return bytes;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public long[] decodeAll() {
+		AsciiCodec.INSTANCE.decodeAll(bytes, 0, COUNT, uuids, 0);
+		return uuids;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public byte[] encodeEach() {
+		for (int i = 0; i < COUNT; i++) {
+			AsciiCodec.INSTANCE.encode(objects[i], bytes, AsciiCodec.LENGTH * i);
+		}
+		return bytes;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public UUID decodeEach() {
+		UUID uuid = null;
+		for (int i = 0; i < COUNT; i++) {
+			uuid = AsciiCodec.INSTANCE.decode(bytes, AsciiCodec.LENGTH * i, AsciiCodec.LENGTH);
+		}
+		return uuid;
+	}
+}
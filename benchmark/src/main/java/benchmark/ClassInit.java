@@ -0,0 +1,42 @@
+
+package benchmark;
+
+import com.github.f4b6a3.uuid.factory.function.impl.DefaultClockSeqFunction;
+import com.github.f4b6a3.uuid.factory.function.impl.DefaultTimeFunction;
+import com.github.f4b6a3.uuid.util.internal.RandomUtil;
+import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
+
+/**
+ * Measures the latency of the first instances of the default time and clock
+ * sequence functions in a fresh process.
+ * <p>
+ * Both read the shared {@link java.security.SecureRandom} of
+ * {@link RandomUtil}, which is seeded on first use and may block on freshly
+ * booted hosts.
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * # synchronous seeding (default)
+ * java -cp target/benchmarks.jar benchmark.ClassInit
+ * 
+ * # asynchronous seeding
+ * java -Duuidcreator.securerandom.async=true -cp target/benchmarks.jar benchmark.ClassInit
+ * }</pre>
+ */
+public class ClassInit {
+
+	public static void main(String[] args) {
+
+		final long start = System.nanoTime();
+		new DefaultClockSeqFunction();
+		final long middle = System.nanoTime();
+		new DefaultTimeFunction();
+		final long end = System.nanoTime();
+
+		System.out.printf("async: %s%n", SettingsUtil.isSecureRandomAsync());
+		System.out.printf("DefaultClockSeqFunction: %d us%n", (middle - start) / 1000);
+		System.out.printf("DefaultTimeFunction: %d us%n", (end - middle) / 1000);
+		System.out.printf("seeded: %s%n", RandomUtil.isSeeded());
+	}
+}
@@ -0,0 +1,106 @@
+package benchmark;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.util.UuidComparator;
+import com.github.f4b6a3.uuid.util.UuidSorter;
+
+/**
+ * Compares {@link UuidSorter} with {@link Arrays#parallelSort(Object[],
+ * java.util.Comparator)} for large batches of random time-based UUIDs
+ * (version 1) in the default order of {@link UuidComparator}.
+ * <p>
+ * Each invocation sorts a fresh copy of the same shuffled batch. The larger
+ * batches need a large heap:
+ *
+ * <pre>{@code
+ * java -jar target/benchmarks.jar Sort -p count=1000000,10000000
+ * java -jar target/benchmarks.jar Sort -p count=100000000 -jvmArgsAppend "-Xmx24g"
+ * }</pre>
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Sort {
+
+	@Param({ "1000000", "10000000", "100000000" })
+	int count;
+
+	UUID[] source;
+	long[] longs;
+
+	UUID[] objects;
+	long[] pairs;
+
+	@Setup
+	public void setup() {
+		SplittableRandom random = new SplittableRandom(1);
+		source = new UUID[count];
+		longs = new long[2 * count];
+		for (int i = 0; i < count; i++) {
+			final long time = 0x1ed0000000000000L + random.nextLong(1L << 40);
+			final long msb = (time << 32) | ((time >>> 16) & 0xffff0000L) | 0x1000L | ((time >>> 48) & 0x0fffL);
+			final long lsb = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+			source[i] = new UUID(msb, lsb);
+			longs[2 * i] = msb;
+			longs[2 * i + 1] = lsb;
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void copy() {
+		objects = source.clone();
+		pairs = longs.clone();
+	}
+
+	@Benchmark
+	public UUID[] arraysParallelSort() {
+		Arrays.parallelSort(objects, UuidComparator.getDefaultInstance());
+		return objects;
+	}
+
+	@Benchmark
+	public UUID[] sort() {
+		UuidSorter.sort(objects);
+		return objects;
+	}
+
+	@Benchmark
+	public UUID[] sortParallel() {
+		UuidSorter.sortParallel(objects);
+		return objects;
+	}
+
+	@Benchmark
+	public long[] sortLongs() {
+		UuidSorter.sort(pairs, 0, count);
+		return pairs;
+	}
+
+	@Benchmark
+	public long[] sortLongsParallel() {
+		UuidSorter.sortParallel(pairs, 0, count);
+		return pairs;
+	}
+}
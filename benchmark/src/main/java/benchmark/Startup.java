@@ -0,0 +1,50 @@
+
+package benchmark;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+
+/**
+ * Measures the time to the first UUID in a fresh process.
+ * <p>
+ * JMH can't measure it because it only reports warmed up results. Run this
+ * class once per process, either on the JVM or as a native executable. See
+ * {@code startup.sh}.
+ * <p>
+ * Usage:
+ *
+ * <pre>{@code
+ * java -cp target/benchmarks.jar benchmark.Startup [v1|v4|v6|v7|string]
+ * }</pre>
+ */
+public class Startup {
+
+	public static void main(String[] args) {
+
+		final String type = args.length > 0 ? args[0] : "v7";
+
+		final long start = System.nanoTime();
+		final Object first = first(type);
+		final long end = System.nanoTime();
+
+		System.out.printf("%s: %s in %d us%n", type, first, (end - start) / 1000);
+	}
+
+	private static Object first(String type) {
+		switch (type) {
+		case "v1":
+			return UuidCreator.getTimeBased();
+		case "v4":
+			return UuidCreator.getRandomBased();
+		case "v6":
+			return UuidCreator.getTimeOrdered();
+		case "v7":
+			return UuidCreator.getTimeOrderedEpoch();
+		case "string":
+			return UuidCreator.fromString(new UUID(0x0123456789abcdefL, 0x0123456789abcdefL).toString());
+		default:
+			throw new IllegalArgumentException("Unknown type: " + type);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+
+package benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.f4b6a3.uuid.codec.StringCodec;
+
+/**
+ * Compares {@link StringCodec#decode(String)} with {@link UUID#fromString}.
+ * <p>
+ * The JDK parser changed a lot between versions, so run it on each JDK of
+ * interest using the JMH option {@code -jvm}, for example:
+ *
+ * <pre>{@code
+ * java -jar target/benchmarks.jar StringDecode -jvm /usr/lib/jvm/java-8-openjdk/bin/java
+ * java -jar target/benchmarks.jar StringDecode -jvm /usr/lib/jvm/java-11-openjdk/bin/java
+ * java -jar target/benchmarks.jar StringDecode -jvm /usr/lib/jvm/java-17-openjdk/bin/java
+ * }</pre>
+ * <p>
+ * Add {@code -prof gc} to check that only the UUID is allocated.
+ */
+@Fork(1)
+@Threads(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StringDecode {
+
+	String canonical = "01234567-89ab-cdef-0123-456789abcdef";
+	String uppercase = canonical.toUpperCase();
+	String hexadecimal = canonical.replace("-", "");
+	String braces = "{" + canonical + "}";
+	String urn = "urn:uuid:" + canonical;
+
+	@Benchmark
+	public UUID jdkFromString() {
+		return UUID.fromString(canonical);
+	}
+
+	@Benchmark
+	public UUID jdkFromStringUpperCase() {
+		return UUID.fromString(uppercase);
+	}
+
+	@Benchmark
+	public UUID codecCanonical() {
+		return StringCodec.INSTANCE.decode(canonical);
+	}
+
+	@Benchmark
+	public UUID codecUpperCase() {
+		return StringCodec.INSTANCE.decode(uppercase);
+	}
+
+	@Benchmark
+	public UUID codecHexadecimal() {
+		return StringCodec.INSTANCE.decode(hexadecimal);
+	}
+
+	@Benchmark
+	public UUID codecBraces() {
+		return StringCodec.INSTANCE.decode(braces);
+	}
+
+	@Benchmark
+	public UUID codecUrn() {
+		return StringCodec.INSTANCE.decode(urn);
+	}
+}
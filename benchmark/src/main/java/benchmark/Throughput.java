@@ -86,6 +86,11 @@ public class Throughput {
 		return UuidCreator.getNameBasedSha1(bytes);
 	}
 
+	@Benchmark
+	public UUID uuidCreatorV5WithNamespace() {
+		return UuidCreator.getNameBasedSha1(UuidCreator.NAMESPACE_DNS, bytes);
+	}
+
 	@Benchmark
 	public UUID uuidCreatorV6() {
 		return UuidCreator.getTimeOrdered();
@@ -96,6 +101,16 @@ public class Throughput {
 		return UuidCreator.getTimeOrderedEpoch();
 	}
 
+	@Benchmark
+	public UUID uuidCreatorV8() {
+		return UuidCreator.getNameBasedSha256(bytes);
+	}
+
+	@Benchmark
+	public UUID uuidCreatorV8WithNamespace() {
+		return UuidCreator.getNameBasedSha256(UuidCreator.NAMESPACE_DNS, bytes);
+	}
+
 	/*********** GUID ***********/
 
 	@Benchmark
@@ -137,4 +152,10 @@ public class Throughput {
 	public GUID altGUIDv7() {
 		return GUID.v7();
 	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public GUID altGUIDv8() {
+		return GUID.v8(null, string);
+	}
 }
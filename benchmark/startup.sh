@@ -0,0 +1,43 @@
+#!/bin/bash
+
+# Measures the time to the first UUID on the JVM and, if GraalVM's
+# native-image is installed, as a native executable.
+#
+# Run ./run.sh once before this script to build target/benchmarks.jar.
+
+# find the script folder
+SCRIPT_DIR=$(dirname "$0")
+
+# go to the benchmark folder
+cd "${SCRIPT_DIR}"
+
+JAR=target/benchmarks.jar
+TYPES="v1 v4 v6 v7 string"
+
+if [ ! -f "${JAR}" ]; then
+    echo "${JAR} not found. Run ./run.sh first."
+    exit 1
+fi
+
+# total wall time of a process, in milliseconds
+wall() {
+    local start=$(date +%s%N)
+    "$@"
+    local end=$(date +%s%N)
+    echo "  process: $(( (end - start) / 1000000 )) ms"
+}
+
+echo "JVM:"
+for type in ${TYPES}; do
+    wall java -cp "${JAR}" benchmark.Startup "${type}"
+done
+
+if command -v native-image > /dev/null; then
+    native-image --no-fallback -cp "${JAR}" benchmark.Startup target/startup > /dev/null
+    echo "Native:"
+    for type in ${TYPES}; do
+        wall target/startup "${type}"
+    done
+else
+    echo "native-image not found. Skipping the native executable."
+fi
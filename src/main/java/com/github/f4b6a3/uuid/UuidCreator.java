@@ -41,6 +41,7 @@ import com.github.f4b6a3.uuid.factory.nonstandard.SuffixCombFactory;
 import com.github.f4b6a3.uuid.factory.rfc4122.DceSecurityFactory;
 import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedMd5Factory;
 import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha1Factory;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha256Factory;
 import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactory;
 import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
 import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedFactory;
@@ -1036,6 +1037,132 @@ public final class UuidCreator {
 		return NameBasedSha1Holder.INSTANCE.create(namespace, name);
 	}
 
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * <p>
+	 * The name string is encoded into a sequence of bytes using UTF-8.
+	 * 
+	 * @param name a string
+	 * @return a UUIDv8
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(String name) {
+		return NameBasedSha256Holder.INSTANCE.create(name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * 
+	 * @param name a byte array
+	 * @return a UUIDv8
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(byte[] name) {
+		return NameBasedSha256Holder.INSTANCE.create(name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * <p>
+	 * The name string is encoded into a sequence of bytes using UTF-8.
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a string
+	 * @return a UUIDv8
+	 * @see UuidNamespace
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(UUID namespace, String name) {
+		return NameBasedSha256Holder.INSTANCE.create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * 
+	 * @param namespace a custom name space UUID
+	 * @param name      a byte array
+	 * @return a UUIDv8
+	 * @see UuidNamespace
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(UUID namespace, byte[] name) {
+		return NameBasedSha256Holder.INSTANCE.create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * <p>
+	 * The name string is encoded into a sequence of bytes using UTF-8.
+	 * 
+	 * @param namespace a custom name space UUID in string format
+	 * @param name      a string
+	 * @return a UUIDv8
+	 * @throws InvalidUuidException if namespace is invalid
+	 * @see UuidNamespace
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(String namespace, String name) {
+		return NameBasedSha256Holder.INSTANCE.create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * 
+	 * @param namespace a custom name space UUID in string format
+	 * @param name      a byte array
+	 * @return a UUIDv8
+	 * @throws InvalidUuidException if namespace is invalid
+	 * @see UuidNamespace
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(String namespace, byte[] name) {
+		return NameBasedSha256Holder.INSTANCE.create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * <p>
+	 * The name string is encoded into a sequence of bytes using UTF-8.
+	 * <p>
+	 * Name spaces predefined by RFC-4122 (Appendix C):
+	 * <ul>
+	 * <li>NAMESPACE_DNS: Name string is a fully-qualified domain name;
+	 * <li>NAMESPACE_URL: Name string is a URL;
+	 * <li>NAMESPACE_OID: Name string is an ISO OID;
+	 * <li>NAMESPACE_X500: Name string is an X.500 DN (in DER or text format).
+	 * </ul>
+	 * 
+	 * @param namespace a predefined name space enumeration
+	 * @param name      a string
+	 * @return a UUIDv8
+	 * @see UuidNamespace
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(UuidNamespace namespace, String name) {
+		return NameBasedSha256Holder.INSTANCE.create(namespace, name);
+	}
+
+	/**
+	 * Returns a name-based unique identifier that uses SHA-256 hashing (UUIDv8).
+	 * <p>
+	 * Name spaces predefined by RFC-4122 (Appendix C):
+	 * <ul>
+	 * <li>NAMESPACE_DNS: Name string is a fully-qualified domain name;
+	 * <li>NAMESPACE_URL: Name string is a URL;
+	 * <li>NAMESPACE_OID: Name string is an ISO OID;
+	 * <li>NAMESPACE_X500: Name string is an X.500 DN (in DER or text format).
+	 * </ul>
+	 * 
+	 * @param namespace a predefined name space enumeration
+	 * @param name      a byte array
+	 * @return a UUIDv8
+	 * @see UuidNamespace
+	 * @see NameBasedSha256Factory
+	 */
+	public static UUID getNameBasedSha256(UuidNamespace namespace, byte[] name) {
+		return NameBasedSha256Holder.INSTANCE.create(namespace, name);
+	}
+
 	/**
 	 * Returns a DCE Security unique identifier (UUIDv2).
 	 * 
@@ -1335,8 +1462,33 @@ public final class UuidCreator {
 	// Lazy holders
 	// ***************************************
 
+	static RandomBasedFactory newRandomBasedFactory(UuidCreatorSettings settings) {
+		if (UuidCreatorSettings.RANDOM_FAST.equals(settings.getRandom())) {
+			return RandomBasedFactory.builder().withFastRandom().build();
+		}
+		return new RandomBasedFactory();
+	}
+
+	static TimeOrderedEpochFactory newTimeOrderedEpochFactory(UuidCreatorSettings settings) {
+		TimeOrderedEpochFactory.Builder builder = TimeOrderedEpochFactory.builder();
+		if (UuidCreatorSettings.RANDOM_FAST.equals(settings.getRandom())) {
+			builder.withFastRandom();
+		}
+		switch (settings.getIncrement()) {
+		case UuidCreatorSettings.INCREMENT_PLUS_1:
+			builder.withIncrementPlus1();
+			break;
+		case UuidCreatorSettings.INCREMENT_PLUS_N:
+			builder.withIncrementPlusN();
+			break;
+		default:
+			break;
+		}
+		return builder.build();
+	}
+
 	private static class RandomBasedHolder {
-		static final RandomBasedFactory INSTANCE = new RandomBasedFactory();
+		static final RandomBasedFactory INSTANCE = newRandomBasedFactory(UuidCreatorSettings.get());
 	}
 
 	private static class RandomBasedFastHolder {
@@ -1376,7 +1528,7 @@ public final class UuidCreator {
 	}
 
 	private static class TimeOrderedEpochHolder {
-		static final TimeOrderedEpochFactory INSTANCE = new TimeOrderedEpochFactory();
+		static final TimeOrderedEpochFactory INSTANCE = newTimeOrderedEpochFactory(UuidCreatorSettings.get());
 	}
 
 	private static class TimeOrderedEpochPlus1Holder {
@@ -1395,6 +1547,10 @@ public final class UuidCreator {
 		static final NameBasedSha1Factory INSTANCE = new NameBasedSha1Factory();
 	}
 
+	private static class NameBasedSha256Holder {
+		static final NameBasedSha256Factory INSTANCE = new NameBasedSha256Factory();
+	}
+
 	private static class DceSecurityHolder {
 		static final DceSecurityFactory INSTANCE = new DceSecurityFactory();
 	}
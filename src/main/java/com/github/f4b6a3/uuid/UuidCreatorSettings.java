@@ -0,0 +1,358 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Immutable snapshot of the library settings.
+ * <p>
+ * The settings are read once, on first use, from three sources. Each source
+ * has preference over the next one:
+ * <ol>
+ * <li>System properties, e.g. {@code -Duuidcreator.node=mac};
+ * <li>Environment variables, e.g. {@code UUIDCREATOR_NODE=mac};
+ * <li>The file {@code uuidcreator.properties} at the root of the class path,
+ * with the same names as the system properties.
+ * </ol>
+ * <p>
+ * Setting names are lowercase and dot-separated. The environment variable of a
+ * setting is its system property name in uppercase, with dots replaced by
+ * underscores.
+ * <p>
+ * List of settings:
+ * <ul>
+ * <li>{@code uuidcreator.node}: the node identifier for time-based factories:
+ * "mac", "hash", "random" or a number;
+ * <li>{@code uuidcreator.securerandom}: the {@link java.security.SecureRandom}
+ * algorithm, or "auto";
+ * <li>{@code uuidcreator.securerandom.async}: "true" to seed the shared
+ * {@link java.security.SecureRandom} asynchronously;
+ * <li>{@code uuidcreator.random}: the random engine of the random-based and
+ * time-ordered with Unix epoch generators of {@link UuidCreator}: "secure"
+ * (default) or "fast";
+ * <li>{@code uuidcreator.increment}: the counter increment of
+ * {@link UuidCreator#getTimeOrderedEpoch()}: "default", "plus1" or "plusn";
+ * <li>{@code uuidcreator.time}: the time source for time-based factories:
+ * "default" or "windows". If not defined, it depends on the operating system;
+ * <li>{@code uuidcreator.stackless}: "true" to create
+ * {@link com.github.f4b6a3.uuid.exception.InvalidUuidException} without stack
+ * traces, so that rejecting invalid input is cheaper.
+ * </ul>
+ * <p>
+ * Changes made through {@code SettingsUtil.setProperty()} replace the snapshot.
+ * Changes made directly to system properties are only seen after
+ * {@link #reload()}. The generators of {@link UuidCreator} are created once, so
+ * their settings must be defined before their first use.
+ */
+public final class UuidCreatorSettings {
+
+	/**
+	 * The name of the settings file in the class path.
+	 */
+	public static final String SETTINGS_FILE = "uuidcreator.properties";
+
+	/**
+	 * The property name prefix.
+	 */
+	public static final String PREFIX = "uuidcreator";
+
+	/**
+	 * The setting name for the node identifier.
+	 */
+	public static final String NODE = "node";
+	/**
+	 * The setting name for the secure random algorithm.
+	 */
+	public static final String SECURERANDOM = "securerandom";
+	/**
+	 * The setting name for the asynchronous secure random startup.
+	 */
+	public static final String SECURERANDOM_ASYNC = "securerandom.async";
+	/**
+	 * The setting name for the random engine.
+	 */
+	public static final String RANDOM = "random";
+	/**
+	 * The setting name for the counter increment of UUIDv7.
+	 */
+	public static final String INCREMENT = "increment";
+	/**
+	 * The setting name for the time source.
+	 */
+	public static final String TIME = "time";
+	/**
+	 * The setting name for exceptions without stack traces.
+	 */
+	public static final String STACKLESS = "stackless";
+
+	/**
+	 * The default random engine, which uses {@link java.security.SecureRandom}.
+	 */
+	public static final String RANDOM_SECURE = "secure";
+	/**
+	 * The fast random engine, which uses
+	 * {@link java.util.concurrent.ThreadLocalRandom}.
+	 */
+	public static final String RANDOM_FAST = "fast";
+	/**
+	 * The default counter increment of UUIDv7.
+	 */
+	public static final String INCREMENT_DEFAULT = "default";
+	/**
+	 * The counter increment of UUIDv7 that adds 1.
+	 */
+	public static final String INCREMENT_PLUS_1 = "plus1";
+	/**
+	 * The counter increment of UUIDv7 that adds a random number.
+	 */
+	public static final String INCREMENT_PLUS_N = "plusn";
+	/**
+	 * The default time source.
+	 */
+	public static final String TIME_DEFAULT = "default";
+	/**
+	 * The time source for systems with low clock resolution, such as WINDOWS.
+	 */
+	public static final String TIME_WINDOWS = "windows";
+
+	private static final String PROPERTY_PREFIX = PREFIX + ".";
+	private static final String ENVIRONMENT_PREFIX = PREFIX.toUpperCase() + "_";
+
+	private static volatile UuidCreatorSettings instance;
+
+	private final Map<String, String> values;
+
+	private UuidCreatorSettings(Map<String, String> values) {
+		this.values = Collections.unmodifiableMap(values);
+	}
+
+	/**
+	 * Returns the current snapshot, loading it if not loaded yet.
+	 * 
+	 * @return the settings
+	 */
+	public static UuidCreatorSettings get() {
+		UuidCreatorSettings settings = instance;
+		if (settings == null) {
+			synchronized (UuidCreatorSettings.class) {
+				settings = instance;
+				if (settings == null) {
+					settings = load();
+					instance = settings;
+				}
+			}
+		}
+		return settings;
+	}
+
+	/**
+	 * Reads all the sources again and replaces the current snapshot.
+	 * 
+	 * @return the new settings
+	 */
+	public static UuidCreatorSettings reload() {
+		synchronized (UuidCreatorSettings.class) {
+			instance = load();
+			return instance;
+		}
+	}
+
+	private static UuidCreatorSettings load() {
+		return of(System.getProperties(), System.getenv(), file());
+	}
+
+	/**
+	 * Returns a snapshot of the given sources.
+	 * 
+	 * @param system      the system properties
+	 * @param environment the environment variables
+	 * @param file        the properties of the settings file
+	 * @return the settings
+	 */
+	static UuidCreatorSettings of(Properties system, Map<String, String> environment, Properties file) {
+
+		final Map<String, String> values = new HashMap<>();
+
+		// lowest preference first
+		for (String name : file.stringPropertyNames()) {
+			if (name.startsWith(PROPERTY_PREFIX)) {
+				put(values, name.substring(PROPERTY_PREFIX.length()), file.getProperty(name));
+			}
+		}
+
+		for (Map.Entry<String, String> entry : environment.entrySet()) {
+			final String name = entry.getKey();
+			if (name.startsWith(ENVIRONMENT_PREFIX)) {
+				final String key = name.substring(ENVIRONMENT_PREFIX.length()).toLowerCase().replace('_', '.');
+				put(values, key, entry.getValue());
+			}
+		}
+
+		for (String name : system.stringPropertyNames()) {
+			if (name.startsWith(PROPERTY_PREFIX)) {
+				put(values, name.substring(PROPERTY_PREFIX.length()), system.getProperty(name));
+			}
+		}
+
+		return new UuidCreatorSettings(values);
+	}
+
+	private static void put(Map<String, String> values, String key, String value) {
+		if (value != null && !value.isEmpty()) {
+			values.put(key, value);
+		}
+	}
+
+	private static Properties file() {
+
+		final Properties properties = new Properties();
+
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = UuidCreatorSettings.class.getClassLoader();
+		}
+		if (loader == null) {
+			return properties;
+		}
+
+		try (InputStream stream = loader.getResourceAsStream(SETTINGS_FILE)) {
+			if (stream != null) {
+				properties.load(stream);
+			}
+		} catch (IOException | IllegalArgumentException e) {
+			// ignore a malformed file
+			properties.clear();
+		}
+
+		return properties;
+	}
+
+	/**
+	 * Get a setting.
+	 * 
+	 * @param key the setting name without prefix, e.g. "node"
+	 * @return a string or null
+	 */
+	public String getProperty(String key) {
+		return this.values.get(key);
+	}
+
+	/**
+	 * Get the node identifier.
+	 * 
+	 * @return a number or null if not defined or not a number
+	 */
+	public Long getNodeIdentifier() {
+		final String value = getProperty(NODE);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Long.decode(value);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Get the secure random algorithm.
+	 * 
+	 * @return a string or null
+	 */
+	public String getSecureRandom() {
+		return getProperty(SECURERANDOM);
+	}
+
+	/**
+	 * Check if the secure random startup is asynchronous.
+	 * 
+	 * @return true if enabled
+	 */
+	public boolean isSecureRandomAsync() {
+		return Boolean.parseBoolean(getProperty(SECURERANDOM_ASYNC));
+	}
+
+	/**
+	 * Check if exceptions are created without stack traces.
+	 * 
+	 * @return true if enabled
+	 */
+	public boolean isStackless() {
+		return Boolean.parseBoolean(getProperty(STACKLESS));
+	}
+
+	/**
+	 * Get the random engine.
+	 * 
+	 * @return {@link #RANDOM_SECURE} or {@link #RANDOM_FAST}
+	 */
+	public String getRandom() {
+		return RANDOM_FAST.equalsIgnoreCase(getProperty(RANDOM)) ? RANDOM_FAST : RANDOM_SECURE;
+	}
+
+	/**
+	 * Get the counter increment of UUIDv7.
+	 * 
+	 * @return {@link #INCREMENT_DEFAULT}, {@link #INCREMENT_PLUS_1} or
+	 *         {@link #INCREMENT_PLUS_N}
+	 */
+	public String getIncrement() {
+		final String value = getProperty(INCREMENT);
+		if (INCREMENT_PLUS_1.equalsIgnoreCase(value)) {
+			return INCREMENT_PLUS_1;
+		}
+		if (INCREMENT_PLUS_N.equalsIgnoreCase(value)) {
+			return INCREMENT_PLUS_N;
+		}
+		return INCREMENT_DEFAULT;
+	}
+
+	/**
+	 * Get the time source.
+	 * 
+	 * @return {@link #TIME_DEFAULT}, {@link #TIME_WINDOWS} or null if not defined
+	 */
+	public String getTime() {
+		final String value = getProperty(TIME);
+		if (TIME_WINDOWS.equalsIgnoreCase(value)) {
+			return TIME_WINDOWS;
+		}
+		if (TIME_DEFAULT.equalsIgnoreCase(value)) {
+			return TIME_DEFAULT;
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return "UuidCreatorSettings " + this.values;
+	}
+}
@@ -371,6 +371,19 @@ public final class GUID implements Serializable, Comparable<GUID> {
 		return Parser.valid(string);
 	}
 
+	/**
+	 * Returns a GUID from a canonical string, or null if the string is invalid.
+	 * <p>
+	 * It's the same as {@link #GUID(String)}, but returns null instead of
+	 * throwing an exception, so that rejecting invalid strings is cheap.
+	 * 
+	 * @param string a GUID string
+	 * @return a GUID, or null if the argument is null or invalid
+	 */
+	public static GUID tryParse(String string) {
+		return Parser.tryParse(string);
+	}
+
 	/**
 	 * Converts the GUID into a byte array.
 	 * 
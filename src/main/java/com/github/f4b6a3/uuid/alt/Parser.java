@@ -34,53 +34,73 @@ public final class Parser {
     }
 
     public static GUID parse(final String string) {
-
-        if (!valid(string)) {
+        final GUID guid = tryParse(string);
+        if (guid == null) {
             throw new IllegalArgumentException("Invalid GUID string: " + string);
         }
+        return guid;
+    }
+
+    /**
+     * Parses a GUID string, or returns null if it is invalid, without creating
+     * an exception.
+     */
+    public static GUID tryParse(final String string) {
+
+        if (string == null || string.length() != GUID_CHARS) {
+            return null;
+        }
+
+        // UUID string WITH hyphen, 8 digits at a time
+        final long a = decode(pack(string, 0x00) << 32 | pack(string, 0x04));
+        final long b = decode(pack(string, 0x09) << 32 | pack(string, 0x0e));
+        final long c = decode(pack(string, 0x13) << 32 | pack(string, 0x18));
+        final long d = decode(pack(string, 0x1c) << 32 | pack(string, 0x20));
+
+        final int dashes = (string.charAt(0x08) ^ '-') | (string.charAt(0x0d) ^ '-') //
+                | (string.charAt(0x12) ^ '-') | (string.charAt(0x17) ^ '-');
+
+        if ((a | b | c | d) < 0 || dashes != 0) {
+            return null;
+        }
+
+        return new GUID((a << 32) | b, (c << 32) | d);
+    }
+
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGH = 0x8080808080808080L;
+
+    /**
+     * Packs 4 chars into the lower 32 bits of a long, or returns zero if any of
+     * them is not ASCII.
+     */
+    private static long pack(final String string, final int index) {
+        final int c0 = string.charAt(index);
+        final int c1 = string.charAt(index + 1);
+        final int c2 = string.charAt(index + 2);
+        final int c3 = string.charAt(index + 3);
+        if ((c0 | c1 | c2 | c3) > 0x7f) {
+            return 0L;
+        }
+        return ((long) c0 << 24) | (c1 << 16) | (c2 << 8) | c3;
+    }
+
+    /**
+     * Decodes 8 hexadecimal digits packed as ASCII bytes (SWAR), or returns -1 if
+     * any of them is invalid.
+     */
+    private static long decode(final long ascii) {
+        final long digit = (ascii + 0x50 * ONES) & ~(ascii + 0x46 * ONES);
+        final long lower = ascii | 0x20 * ONES;
+        final long letter = (lower + 0x1f * ONES) & ~(lower + 0x19 * ONES) & HIGH;
+        final long invalid = ((digit | letter) & HIGH ^ HIGH) | (ascii & HIGH);
+
+        long value = (ascii & 0x0f * ONES) + (letter >>> 7) * 9;
+        value = (value | value >>> 4) & 0x00ff00ff00ff00ffL;
+        value = (value | value >>> 8) & 0x0000ffff0000ffffL;
+        value = (value | value >>> 16) & 0x00000000ffffffffL;
 
-        long msb = 0;
-        long lsb = 0;
-
-        // UUID string WITH hyphen
-        msb |= (long) VALUES[string.charAt(0x00)] << 60;
-        msb |= (long) VALUES[string.charAt(0x01)] << 56;
-        msb |= (long) VALUES[string.charAt(0x02)] << 52;
-        msb |= (long) VALUES[string.charAt(0x03)] << 48;
-        msb |= (long) VALUES[string.charAt(0x04)] << 44;
-        msb |= (long) VALUES[string.charAt(0x05)] << 40;
-        msb |= (long) VALUES[string.charAt(0x06)] << 36;
-        msb |= (long) VALUES[string.charAt(0x07)] << 32;
-        // input[8] = '-'
-        msb |= (long) VALUES[string.charAt(0x09)] << 28;
-        msb |= (long) VALUES[string.charAt(0x0a)] << 24;
-        msb |= (long) VALUES[string.charAt(0x0b)] << 20;
-        msb |= (long) VALUES[string.charAt(0x0c)] << 16;
-        // input[13] = '-'
-        msb |= (long) VALUES[string.charAt(0x0e)] << 12;
-        msb |= (long) VALUES[string.charAt(0x0f)] << 8;
-        msb |= (long) VALUES[string.charAt(0x10)] << 4;
-        msb |= (long) VALUES[string.charAt(0x11)];
-        // input[18] = '-'
-        lsb |= (long) VALUES[string.charAt(0x13)] << 60;
-        lsb |= (long) VALUES[string.charAt(0x14)] << 56;
-        lsb |= (long) VALUES[string.charAt(0x15)] << 52;
-        lsb |= (long) VALUES[string.charAt(0x16)] << 48;
-        // input[23] = '-'
-        lsb |= (long) VALUES[string.charAt(0x18)] << 44;
-        lsb |= (long) VALUES[string.charAt(0x19)] << 40;
-        lsb |= (long) VALUES[string.charAt(0x1a)] << 36;
-        lsb |= (long) VALUES[string.charAt(0x1b)] << 32;
-        lsb |= (long) VALUES[string.charAt(0x1c)] << 28;
-        lsb |= (long) VALUES[string.charAt(0x1d)] << 24;
-        lsb |= (long) VALUES[string.charAt(0x1e)] << 20;
-        lsb |= (long) VALUES[string.charAt(0x1f)] << 16;
-        lsb |= (long) VALUES[string.charAt(0x20)] << 12;
-        lsb |= (long) VALUES[string.charAt(0x21)] << 8;
-        lsb |= (long) VALUES[string.charAt(0x22)] << 4;
-        lsb |= (long) VALUES[string.charAt(0x23)];
-
-        return new GUID(msb, lsb);
+        return invalid == 0 ? value : -1L;
     }
 
     private static final int[] DASH_POSITIONS = {8, 13, 18, 23};
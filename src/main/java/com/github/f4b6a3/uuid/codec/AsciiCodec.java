@@ -0,0 +1,443 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.codec;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
+import com.github.f4b6a3.uuid.util.internal.HexVector;
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Codec for UUID string representation encoded as ASCII bytes.
+ * <p>
+ * It is useful to parse and format UUIDs found in network buffers, such as
+ * HTTP headers and JSON documents, without converting the bytes to and from
+ * {@link String}.
+ * <p>
+ * This codec decodes (parses) bytes in these formats, with/without hyphens:
+ * <ul>
+ * <li>00000000-0000-V000-0000-000000000000 (canonical string)
+ * <li>{00000000-0000-V000-0000-000000000000} (MS GUID string)
+ * <li>urn:uuid:00000000-0000-V000-0000-000000000000 (URN UUID string)
+ * </ul>
+ * <p>
+ * It encodes (formats) UUIDs to the canonical string in lower case.
+ * <p>
+ * The methods that receive a byte array and an offset, or a {@link ByteBuffer},
+ * read and write the caller's buffer directly, without intermediate copies.
+ * Direct buffers are accessed with absolute gets and puts, and they are decoded
+ * from a copy of the range, which is at most 45 bytes for a valid UUID.
+ * <p>
+ * The methods {@link #encodeAll(long[], int, int, byte[], int)} and
+ * {@link #decodeAll(byte[], int, int, long[], int)} convert many UUIDs at once.
+ * On Java 17 and later they use the Vector API if the module
+ * {@code jdk.incubator.vector} is added to the JVM. Their parallel variants
+ * split large batches among the threads of the common
+ * {@link java.util.concurrent.ForkJoinPool}.
+ * 
+ * @see StringCodec
+ */
+public class AsciiCodec implements UuidCodec<byte[]> {
+
+	/**
+	 * A shared immutable instance.
+	 */
+	public static final AsciiCodec INSTANCE = new AsciiCodec();
+
+	/**
+	 * The length of the canonical string.
+	 */
+	public static final int LENGTH = 36;
+
+	private static final byte[] URN_PREFIX = "urn:uuid:".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] ALPHABET = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+	/**
+	 * Get the ASCII bytes of the canonical string of a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return an array of 36 bytes
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public byte[] encode(final UUID uuid) {
+		final byte[] bytes = new byte[LENGTH];
+		encode(uuid, bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Write the ASCII bytes of the canonical string of a UUID into an array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte to be written
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there are less than 36 bytes after the
+	 *                                   offset
+	 */
+	public int encode(final UUID uuid, final byte[] bytes, final int offset) {
+
+		UuidValidator.validate(uuid);
+		RangeUtil.checkRange(bytes.length, offset, LENGTH);
+
+		HexUtil.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), bytes, offset);
+		return offset + LENGTH;
+	}
+
+	/**
+	 * Write the canonical strings of many UUIDs into an array.
+	 * <p>
+	 * The UUIDs are given as pairs of most and least significant bits: the UUID
+	 * {@code n} is {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}. The strings
+	 * are written one after another, 36 bytes each, with no separators.
+	 * <p>
+	 * On Java 17 and later, if the module {@code jdk.incubator.vector} is added
+	 * to the JVM, it uses the Vector API.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte to be written
+	 * @return the index after the last byte written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public int encodeAll(final long[] uuids, final int index, final int count, final byte[] bytes,
+			final int offset) {
+
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+
+		HexVector.encode(uuids, index, count, bytes, offset);
+
+		return offset + LENGTH * count;
+	}
+
+	/**
+	 * Read the canonical strings of many UUIDs from an array.
+	 * <p>
+	 * The strings are read one after another, 36 bytes each, with no separators.
+	 * Only the canonical format is accepted, in upper or lower case. The UUIDs are
+	 * written as pairs of most and least significant bits: the UUID {@code n} is
+	 * {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}.
+	 * <p>
+	 * On Java 17 and later, if the module {@code jdk.incubator.vector} is added
+	 * to the JVM, it uses the Vector API.
+	 * 
+	 * @param bytes  the source array
+	 * @param offset the index of the first byte
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws InvalidUuidException      if a string is invalid; the UUIDs before
+	 *                                   it are already written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public void decodeAll(final byte[] bytes, final int offset, final int count, final long[] uuids,
+			final int index) {
+
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+
+		final int invalid = HexVector.decode(bytes, offset, count, uuids, index);
+		if (invalid >= 0) {
+			throw newException(bytes, offset + invalid * LENGTH, LENGTH);
+		}
+	}
+
+	/**
+	 * Write the canonical strings of many UUIDs into an array in parallel.
+	 * <p>
+	 * It is the same as {@link #encodeAll(long[], int, int, byte[], int)}, except
+	 * that large batches are split among the threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte to be written
+	 * @return the index after the last byte written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public int encodeAllParallel(final long[] uuids, final int index, final int count, final byte[] bytes,
+			final int offset) {
+
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+
+		ParallelUtil.forEachRange(count,
+				(from, to) -> encodeAll(uuids, index + from, to - from, bytes, offset + from * LENGTH));
+
+		return offset + LENGTH * count;
+	}
+
+	/**
+	 * Read the canonical strings of many UUIDs from an array in parallel.
+	 * <p>
+	 * It is the same as {@link #decodeAll(byte[], int, int, long[], int)}, except
+	 * that large batches are split among the threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @param bytes  the source array
+	 * @param offset the index of the first byte
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws InvalidUuidException      if a string is invalid; any of the other
+	 *                                   UUIDs may be written or not
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public void decodeAllParallel(final byte[] bytes, final int offset, final int count, final long[] uuids,
+			final int index) {
+
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+
+		ParallelUtil.forEachRange(count,
+				(from, to) -> decodeAll(bytes, offset + from * LENGTH, to - from, uuids, index + from));
+	}
+
+	/**
+	 * Write the ASCII bytes of the canonical string of a UUID into a buffer.
+	 * <p>
+	 * The bytes are written at the current position, which is then incremented
+	 * by 36.
+	 * 
+	 * @param uuid   a UUID
+	 * @param buffer the destination buffer
+	 * @throws InvalidUuidException    if the UUID is invalid
+	 * @throws BufferOverflowException if there are less than 36 bytes remaining
+	 */
+	public void encode(final UUID uuid, final ByteBuffer buffer) {
+
+		UuidValidator.validate(uuid);
+		if (buffer.remaining() < LENGTH) {
+			throw new BufferOverflowException();
+		}
+
+		final int position = buffer.position();
+		if (buffer.hasArray()) {
+			encode(uuid, buffer.array(), buffer.arrayOffset() + position);
+			buffer.position(position + LENGTH);
+			return;
+		}
+
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+
+		int i = position;
+		for (int j = 0; j < 16; j++) {
+			if (j == 8 || j == 12) {
+				buffer.put(i++, (byte) '-');
+			}
+			buffer.put(i++, ALPHABET[(int) (msb >>> (60 - (j << 2))) & 0xf]);
+		}
+		for (int j = 0; j < 16; j++) {
+			if (j == 0 || j == 4) {
+				buffer.put(i++, (byte) '-');
+			}
+			buffer.put(i++, ALPHABET[(int) (lsb >>> (60 - (j << 2))) & 0xf]);
+		}
+
+		buffer.position(i);
+	}
+
+	/**
+	 * Get a UUID from an array of ASCII bytes.
+	 * 
+	 * @param bytes an array of ASCII bytes
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(final byte[] bytes) {
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(bytes);
+		}
+		return decode(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Get a UUID from a range of an array of ASCII bytes.
+	 * 
+	 * @param bytes  an array of ASCII bytes
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes: 32, 36, 38 or 45
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the bytes are not a valid UUID
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 */
+	public UUID decode(final byte[] bytes, final int offset, final int length) {
+
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(bytes);
+		}
+
+		final UUID uuid = tryDecode(bytes, offset, length);
+		if (uuid == null) {
+			throw newException(bytes, offset, length);
+		}
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from an array of ASCII bytes, or null if the bytes are invalid.
+	 * 
+	 * @param bytes an array of ASCII bytes
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(final byte[] bytes) {
+		if (bytes == null) {
+			return null;
+		}
+		return tryDecode(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Get a UUID from a range of an array of ASCII bytes, or null if the bytes
+	 * are invalid.
+	 * 
+	 * @param bytes  an array of ASCII bytes
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes: 32, 36, 38 or 45
+	 * @return a UUID, or null if the bytes are not a valid UUID
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 */
+	public UUID tryDecode(final byte[] bytes, final int offset, final int length) {
+
+		RangeUtil.checkRange(bytes.length, offset, length);
+
+		switch (length) {
+		case 36:
+			return parse(bytes, offset, true);
+		case 32:
+			return parse(bytes, offset, false);
+		case 38:
+			if (bytes[offset] == '{' && bytes[offset + 37] == '}') {
+				return parse(bytes, offset + 1, true);
+			}
+			return null;
+		case 45:
+			if (isUrnPrefix(bytes, offset)) {
+				return parse(bytes, offset + 9, true);
+			}
+			return null;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Get a UUID from the remaining ASCII bytes of a buffer.
+	 * <p>
+	 * The bytes are read from the current position up to the limit. Then the
+	 * position is set to the limit.
+	 * 
+	 * @param buffer a buffer of ASCII bytes
+	 * @return a UUID
+	 * @throws InvalidUuidException if the bytes are not a valid UUID
+	 */
+	public UUID decode(final ByteBuffer buffer) {
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(buffer);
+		}
+		final UUID uuid = decode(buffer, buffer.position(), buffer.remaining());
+		buffer.position(buffer.limit());
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a range of a buffer of ASCII bytes.
+	 * <p>
+	 * The position of the buffer is not changed.
+	 * 
+	 * @param buffer a buffer of ASCII bytes
+	 * @param index  the index of the first byte
+	 * @param length the number of bytes: 32, 36, 38 or 45
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the bytes are not a valid UUID
+	 * @throws IndexOutOfBoundsException if the range is out of the buffer limit
+	 */
+	public UUID decode(final ByteBuffer buffer, final int index, final int length) {
+
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(buffer);
+		}
+		RangeUtil.checkRange(buffer.limit(), index, length);
+
+		if (buffer.hasArray()) {
+			final int offset = buffer.arrayOffset() + index;
+			return decode(buffer.array(), offset, length);
+		}
+
+		// the same parser as arrays
+		final byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = buffer.get(index + i);
+		}
+		return decode(bytes, 0, length);
+	}
+
+	/**
+	 * Parses 32 hexadecimal digits, with or without hyphens, starting at an
+	 * offset.
+	 * 
+	 * @return a UUID or null if invalid
+	 */
+	private static UUID parse(final byte[] bytes, final int offset, final boolean hyphens) {
+		final long[] pair = new long[2];
+		if (!HexUtil.parse(bytes, offset, hyphens, pair, 0)) {
+			return null;
+		}
+		return new UUID(pair[0], pair[1]);
+	}
+
+	private static boolean isUrnPrefix(final byte[] bytes, final int offset) {
+		for (int i = 0; i < URN_PREFIX.length; i++) {
+			if (bytes[offset + i] != URN_PREFIX[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static InvalidUuidException newException(final byte[] bytes, final int offset, final int length) {
+		return InvalidUuidException.newInstance(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+	}
+}
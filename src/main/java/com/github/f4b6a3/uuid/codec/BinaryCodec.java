@@ -24,15 +24,26 @@
 
 package com.github.f4b6a3.uuid.codec;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Codec for UUID binary encoding as defined in the RFC-4122.
  * <p>
  * The UUID is encoded as 16 octets (bytes).
+ * <p>
+ * Besides whole arrays, UUIDs can be written to and read from any position of
+ * a byte array or a {@link ByteBuffer}, one at a time or in bulk, with no
+ * intermediate arrays. The octets are always in network order (big-endian),
+ * whatever the order of the buffer.
  */
 public class BinaryCodec implements UuidCodec<byte[]> {
 
@@ -41,6 +52,11 @@ public class BinaryCodec implements UuidCodec<byte[]> {
 	 */
 	public static final BinaryCodec INSTANCE = new BinaryCodec();
 
+	/**
+	 * The number of bytes of a UUID.
+	 */
+	public static final int LENGTH = 16;
+
 	/**
 	 * Get an array of bytes from a UUID.
 	 * 
@@ -57,23 +73,8 @@ public class BinaryCodec implements UuidCodec<byte[]> {
 		final long msb = uuid.getMostSignificantBits();
 		final long lsb = uuid.getLeastSignificantBits();
 
-		bytes[0x0] = (byte) (msb >>> 56);
-		bytes[0x1] = (byte) (msb >>> 48);
-		bytes[0x2] = (byte) (msb >>> 40);
-		bytes[0x3] = (byte) (msb >>> 32);
-		bytes[0x4] = (byte) (msb >>> 24);
-		bytes[0x5] = (byte) (msb >>> 16);
-		bytes[0x6] = (byte) (msb >>> 8);
-		bytes[0x7] = (byte) (msb);
-
-		bytes[0x8] = (byte) (lsb >>> 56);
-		bytes[0x9] = (byte) (lsb >>> 48);
-		bytes[0xa] = (byte) (lsb >>> 40);
-		bytes[0xb] = (byte) (lsb >>> 32);
-		bytes[0xc] = (byte) (lsb >>> 24);
-		bytes[0xd] = (byte) (lsb >>> 16);
-		bytes[0xe] = (byte) (lsb >>> 8);
-		bytes[0xf] = (byte) (lsb);
+		PlatformUtil.putLong(bytes, 0, msb);
+		PlatformUtil.putLong(bytes, 8, lsb);
 
 		return bytes;
 	}
@@ -90,27 +91,274 @@ public class BinaryCodec implements UuidCodec<byte[]> {
 
 		UuidValidator.validate(bytes);
 
-		long msb = 0;
-		long lsb = 0;
-
-		msb |= (bytes[0x0] & 0xffL) << 56;
-		msb |= (bytes[0x1] & 0xffL) << 48;
-		msb |= (bytes[0x2] & 0xffL) << 40;
-		msb |= (bytes[0x3] & 0xffL) << 32;
-		msb |= (bytes[0x4] & 0xffL) << 24;
-		msb |= (bytes[0x5] & 0xffL) << 16;
-		msb |= (bytes[0x6] & 0xffL) << 8;
-		msb |= (bytes[0x7] & 0xffL);
-
-		lsb |= (bytes[0x8] & 0xffL) << 56;
-		lsb |= (bytes[0x9] & 0xffL) << 48;
-		lsb |= (bytes[0xa] & 0xffL) << 40;
-		lsb |= (bytes[0xb] & 0xffL) << 32;
-		lsb |= (bytes[0xc] & 0xffL) << 24;
-		lsb |= (bytes[0xd] & 0xffL) << 16;
-		lsb |= (bytes[0xe] & 0xffL) << 8;
-		lsb |= (bytes[0xf] & 0xffL);
+		final long msb = PlatformUtil.getLong(bytes, 0);
+		final long lsb = PlatformUtil.getLong(bytes, 8);
 
 		return new UUID(msb, lsb);
 	}
+
+	/**
+	 * Get a UUID from a byte array, or null if the array is invalid.
+	 * 
+	 * @param bytes a byte array
+	 * @return a UUID, or null if the argument is null or its length is not 16
+	 */
+	@Override
+	public UUID tryDecode(final byte[] bytes) {
+
+		if (!UuidValidator.isValid(bytes)) {
+			return null;
+		}
+
+		final long msb = PlatformUtil.getLong(bytes, 0);
+		final long lsb = PlatformUtil.getLong(bytes, 8);
+
+		return new UUID(msb, lsb);
+	}
+
+	/**
+	 * Write the bytes of a UUID into an array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte to be written
+	 * @return the index after the last byte written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there are less than 16 bytes after the
+	 *                                   offset
+	 */
+	public int encode(final UUID uuid, final byte[] bytes, final int offset) {
+
+		UuidValidator.validate(uuid);
+		RangeUtil.checkRange(bytes.length, offset, LENGTH);
+
+		PlatformUtil.putLong(bytes, offset, uuid.getMostSignificantBits());
+		PlatformUtil.putLong(bytes, offset + 8, uuid.getLeastSignificantBits());
+
+		return offset + LENGTH;
+	}
+
+	/**
+	 * Get a UUID from 16 bytes of an array, starting at an offset.
+	 * 
+	 * @param bytes  the source array
+	 * @param offset the index of the first byte
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the array is null
+	 * @throws IndexOutOfBoundsException if there are less than 16 bytes after the
+	 *                                   offset
+	 */
+	public UUID decode(final byte[] bytes, final int offset) {
+
+		if (bytes == null) {
+			throw InvalidUuidException.newInstance(bytes);
+		}
+		RangeUtil.checkRange(bytes.length, offset, LENGTH);
+
+		final long msb = PlatformUtil.getLong(bytes, offset);
+		final long lsb = PlatformUtil.getLong(bytes, offset + 8);
+
+		return new UUID(msb, lsb);
+	}
+
+	/**
+	 * Write the bytes of a UUID into a buffer.
+	 * <p>
+	 * The bytes are written at the current position, which is then incremented
+	 * by 16. The bytes are in network order, even if the order of the buffer is
+	 * little-endian.
+	 * 
+	 * @param uuid   a UUID
+	 * @param buffer the destination buffer
+	 * @throws InvalidUuidException    if the UUID is invalid
+	 * @throws BufferOverflowException if there are less than 16 bytes remaining
+	 */
+	public void encode(final UUID uuid, final ByteBuffer buffer) {
+
+		UuidValidator.validate(uuid);
+		if (buffer.remaining() < LENGTH) {
+			throw new BufferOverflowException();
+		}
+
+		final int position = buffer.position();
+		put(buffer, position, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+		buffer.position(position + LENGTH);
+	}
+
+	/**
+	 * Get a UUID from the next 16 bytes of a buffer.
+	 * <p>
+	 * The bytes are read at the current position, which is then incremented by
+	 * 16. The bytes are in network order, even if the order of the buffer is
+	 * little-endian.
+	 * 
+	 * @param buffer the source buffer
+	 * @return a UUID
+	 * @throws InvalidUuidException     if the buffer is null
+	 * @throws BufferUnderflowException if there are less than 16 bytes remaining
+	 */
+	public UUID decode(final ByteBuffer buffer) {
+
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(buffer);
+		}
+		if (buffer.remaining() < LENGTH) {
+			throw new BufferUnderflowException();
+		}
+
+		final int position = buffer.position();
+		final UUID uuid = get(buffer, position);
+		buffer.position(position + LENGTH);
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from 16 bytes of a buffer, starting at an index.
+	 * <p>
+	 * The position of the buffer is not changed. The bytes are in network order,
+	 * even if the order of the buffer is little-endian.
+	 * 
+	 * @param buffer the source buffer
+	 * @param index  the index of the first byte
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the buffer is null
+	 * @throws IndexOutOfBoundsException if the range is out of the buffer limit
+	 */
+	public UUID decode(final ByteBuffer buffer, final int index) {
+
+		if (buffer == null) {
+			throw InvalidUuidException.newInstance(buffer);
+		}
+		RangeUtil.checkRange(buffer.limit(), index, LENGTH);
+
+		return get(buffer, index);
+	}
+
+	/**
+	 * Write the bytes of many UUIDs into an array.
+	 * <p>
+	 * The UUIDs are given as pairs of most and least significant bits: the UUID
+	 * {@code n} is {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}. They are
+	 * written one after another, 16 bytes each.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte to be written
+	 * @return the index after the last byte written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public int encodeAll(final long[] uuids, final int index, final int count, final byte[] bytes,
+			final int offset) {
+
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+
+		final int length = 2 * count;
+		for (int i = 0, j = 2 * index; i < length; i++, j++) {
+			PlatformUtil.putLong(bytes, offset + (i << 3), uuids[j]);
+		}
+
+		return offset + LENGTH * count;
+	}
+
+	/**
+	 * Read the bytes of many UUIDs from an array.
+	 * <p>
+	 * The UUIDs are read one after another, 16 bytes each. They are written as
+	 * pairs of most and least significant bits: the UUID {@code n} is
+	 * {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}.
+	 * 
+	 * @param bytes  the source array
+	 * @param offset the index of the first byte
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public void decodeAll(final byte[] bytes, final int offset, final int count, final long[] uuids,
+			final int index) {
+
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+
+		final int length = 2 * count;
+		for (int i = 0, j = 2 * index; i < length; i++, j++) {
+			uuids[j] = PlatformUtil.getLong(bytes, offset + (i << 3));
+		}
+	}
+
+	/**
+	 * Write the bytes of many UUIDs into a buffer.
+	 * <p>
+	 * The bytes are written at the current position, which is then incremented
+	 * by 16 times the number of UUIDs. The bytes are in network order, even if
+	 * the order of the buffer is little-endian.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param buffer the destination buffer
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws BufferOverflowException   if there is not enough room in the buffer
+	 */
+	public void encodeAll(final long[] uuids, final int index, final int count, final ByteBuffer buffer) {
+
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		if (buffer.remaining() < (long) LENGTH * count) {
+			throw new BufferOverflowException();
+		}
+
+		// a big-endian view copies all the longs at once
+		final int position = buffer.position();
+		buffer.duplicate().order(ByteOrder.BIG_ENDIAN).asLongBuffer().put(uuids, 2 * index, 2 * count);
+		buffer.position(position + LENGTH * count);
+	}
+
+	/**
+	 * Read the bytes of many UUIDs from a buffer.
+	 * <p>
+	 * The bytes are read at the current position, which is then incremented by
+	 * 16 times the number of UUIDs. The bytes are in network order, even if the
+	 * order of the buffer is little-endian.
+	 * 
+	 * @param buffer the source buffer
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 * @throws BufferUnderflowException  if there are not enough bytes remaining
+	 */
+	public void decodeAll(final ByteBuffer buffer, final int count, final long[] uuids, final int index) {
+
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		if (buffer.remaining() < (long) LENGTH * count) {
+			throw new BufferUnderflowException();
+		}
+
+		// a big-endian view copies all the longs at once
+		final int position = buffer.position();
+		buffer.duplicate().order(ByteOrder.BIG_ENDIAN).asLongBuffer().get(uuids, 2 * index, 2 * count);
+		buffer.position(position + LENGTH * count);
+	}
+
+	private static void put(final ByteBuffer buffer, final int index, final long msb, final long lsb) {
+		if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+			buffer.putLong(index, msb);
+			buffer.putLong(index + 8, lsb);
+		} else {
+			buffer.putLong(index, Long.reverseBytes(msb));
+			buffer.putLong(index + 8, Long.reverseBytes(lsb));
+		}
+	}
+
+	private static UUID get(final ByteBuffer buffer, final int index) {
+		if (buffer.order() == ByteOrder.BIG_ENDIAN) {
+			return new UUID(buffer.getLong(index), buffer.getLong(index + 8));
+		}
+		return new UUID(Long.reverseBytes(buffer.getLong(index)), Long.reverseBytes(buffer.getLong(index + 8)));
+	}
 }
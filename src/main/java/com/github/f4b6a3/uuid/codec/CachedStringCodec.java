@@ -0,0 +1,444 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
+
+/**
+ * Codec for UUID canonical strings that caches the most used UUIDs and strings.
+ * <p>
+ * It works like {@link StringCodec}, but {@link #encode(UUID)} returns the same
+ * string instance for a UUID that was recently encoded, and
+ * {@link #decode(String)} returns the same UUID instance for a string that was
+ * recently decoded. It is meant for applications that format and parse a
+ * limited set of hot IDs over and over again.
+ * <p>
+ * Each direction has its own bounded table. A table is split in sets of 8
+ * slots, and an entry can only be stored in the set of its hash. Lookups don't
+ * lock. Insertions lock one of several stripes of sets, and when a set is full
+ * the entry to be replaced is chosen by the CLOCK algorithm: the hand of the
+ * set skips the entries that were read since it last passed.
+ * <p>
+ * The hit counts of each table are available through {@link #getEncodeStats()}
+ * and {@link #getDecodeStats()}, so that the capacity can be tuned.
+ * 
+ * @see StringCodec
+ */
+public class CachedStringCodec implements UuidStringCodec {
+
+	/**
+	 * The default number of entries of each table.
+	 */
+	public static final int DEFAULT_CAPACITY = 1 << 16;
+
+	private static final int WAYS = 8;
+	private static final int STRIPES = 64;
+
+	private final Table encodeTable;
+	private final Table decodeTable;
+
+	/**
+	 * Default constructor, with {@link #DEFAULT_CAPACITY}.
+	 */
+	public CachedStringCodec() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructor with the number of entries of each table.
+	 * <p>
+	 * The capacity is rounded up to a power of two, with a minimum of 8.
+	 * 
+	 * @param capacity the number of UUIDs and the number of strings to keep
+	 * @throws IllegalArgumentException if the capacity is not positive or greater
+	 *                                  than 2^30
+	 */
+	public CachedStringCodec(int capacity) {
+		if (capacity <= 0 || capacity > (1 << 30)) {
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+		}
+		final int slots = Math.max(WAYS, Integer.highestOneBit(capacity - 1) << 1);
+		this.encodeTable = new Table(slots);
+		this.decodeTable = new Table(slots);
+	}
+
+	/**
+	 * Get a string from a UUID.
+	 * <p>
+	 * The strings of recently encoded UUIDs are shared.
+	 * 
+	 * @param uuid a UUID
+	 * @return a UUID string
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public String encode(UUID uuid) {
+
+		UuidValidator.validate(uuid);
+
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+		final int hash = hash(msb, lsb);
+
+		final Table table = this.encodeTable;
+		final int set = table.set(hash);
+		for (int i = set; i < set + WAYS; i++) {
+			if (table.hashes[i] != hash) {
+				continue;
+			}
+			final Entry entry = table.entries[i];
+			if (entry != null && entry.msb == msb && entry.lsb == lsb) {
+				table.hit(i);
+				return entry.string;
+			}
+		}
+
+		table.miss();
+
+		final String string = StringCodec.INSTANCE.encode(uuid);
+		table.put(set, new Entry(msb, lsb, hash, uuid, string));
+		return string;
+	}
+
+	/**
+	 * Returns the length of the canonical string: 36.
+	 * 
+	 * @return the number of chars
+	 */
+	@Override
+	public int length() {
+		return StringCodec.LENGTH;
+	}
+
+	/**
+	 * Get a UUID from a string.
+	 * <p>
+	 * It accepts the same formats as {@link StringCodec#decode(String)}. The
+	 * UUIDs of recently decoded strings are shared.
+	 * 
+	 * @param string a UUID string
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(String string) {
+
+		final UUID uuid = tryDecode(string);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(string);
+		}
+
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a string, or null if the string is invalid.
+	 * <p>
+	 * Invalid strings are not cached.
+	 * 
+	 * @param string a UUID string
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(String string) {
+
+		if (string == null) {
+			return null;
+		}
+
+		final int hash = hash(string.hashCode(), 0);
+
+		final Table table = this.decodeTable;
+		final int set = table.set(hash);
+		for (int i = set; i < set + WAYS; i++) {
+			if (table.hashes[i] != hash) {
+				continue;
+			}
+			final Entry entry = table.entries[i];
+			if (entry != null && entry.hash == hash && entry.string.equals(string)) {
+				table.hit(i);
+				return entry.uuid;
+			}
+		}
+
+		table.miss();
+
+		final UUID uuid = StringCodec.INSTANCE.tryDecode(string);
+		if (uuid != null) {
+			table.put(set, new Entry(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), hash, uuid, string));
+		}
+		return uuid;
+	}
+
+	/**
+	 * Returns the statistics of the table of encoded UUIDs.
+	 * 
+	 * @return the statistics of {@link #encode(UUID)}
+	 */
+	public Stats getEncodeStats() {
+		return this.encodeTable.stats();
+	}
+
+	/**
+	 * Returns the statistics of the table of decoded strings.
+	 * 
+	 * @return the statistics of {@link #decode(String)}
+	 */
+	public Stats getDecodeStats() {
+		return this.decodeTable.stats();
+	}
+
+	/**
+	 * Removes all entries and resets the statistics.
+	 */
+	public void clear() {
+		this.encodeTable.clear();
+		this.decodeTable.clear();
+	}
+
+	private static int hash(final long msb, final long lsb) {
+		final long h = (msb ^ Long.rotateLeft(lsb, 32)) * 0x9e3779b97f4a7c15L;
+		return (int) (h >>> 32);
+	}
+
+	/**
+	 * A snapshot of the statistics of a table.
+	 */
+	public static final class Stats {
+
+		private final long hits;
+		private final long misses;
+		private final long evictions;
+		private final int size;
+		private final int capacity;
+
+		private Stats(long hits, long misses, long evictions, int size, int capacity) {
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+			this.size = size;
+			this.capacity = capacity;
+		}
+
+		/**
+		 * Returns the number of lookups that found an entry.
+		 * 
+		 * @return the number of hits
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * Returns the number of lookups that didn't find an entry.
+		 * 
+		 * @return the number of misses
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * Returns the number of entries replaced by others.
+		 * 
+		 * @return the number of evictions
+		 */
+		public long getEvictions() {
+			return evictions;
+		}
+
+		/**
+		 * Returns the ratio of hits to lookups.
+		 * 
+		 * @return a number from 0 to 1, or 0 if there were no lookups
+		 */
+		public double getHitRate() {
+			final long lookups = hits + misses;
+			return lookups == 0 ? 0 : (double) hits / lookups;
+		}
+
+		/**
+		 * Returns the number of entries in the table.
+		 * 
+		 * @return the number of entries
+		 */
+		public int getSize() {
+			return size;
+		}
+
+		/**
+		 * Returns the maximum number of entries in the table.
+		 * 
+		 * @return the capacity
+		 */
+		public int getCapacity() {
+			return capacity;
+		}
+
+		@Override
+		public String toString() {
+			return "Stats [hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + ", size=" + size
+					+ ", capacity=" + capacity + "]";
+		}
+	}
+
+	private static final class Entry {
+
+		private final long msb;
+		private final long lsb;
+		private final int hash;
+		private final UUID uuid;
+		private final String string;
+
+		private Entry(long msb, long lsb, int hash, UUID uuid, String string) {
+			this.msb = msb;
+			this.lsb = lsb;
+			this.hash = hash;
+			this.uuid = uuid;
+			this.string = string;
+		}
+	}
+
+	private static final class Table {
+
+		// the entries are immutable, so they can be read without locks
+		private final Entry[] entries;
+		// the hashes of the entries, checked before reading the entries
+		private final int[] hashes;
+		// the CLOCK bits, set when an entry is read
+		private final boolean[] referenced;
+		// the CLOCK hands, one per set
+		private final byte[] hands;
+
+		private final int mask;
+		private final ReentrantLock[] locks;
+
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder evictions = new LongAdder();
+
+		private Table(final int slots) {
+			this.entries = new Entry[slots];
+			this.hashes = new int[slots];
+			this.referenced = new boolean[slots];
+			this.hands = new byte[slots / WAYS];
+			this.mask = slots / WAYS - 1;
+			this.locks = new ReentrantLock[Math.min(STRIPES, slots / WAYS)];
+			for (int i = 0; i < this.locks.length; i++) {
+				this.locks[i] = new ReentrantLock();
+			}
+		}
+
+		// returns the index of the first slot of a set
+		private int set(final int hash) {
+			return (hash & mask) * WAYS;
+		}
+
+		private void hit(final int slot) {
+			if (!referenced[slot]) {
+				referenced[slot] = true;
+			}
+			hits.increment();
+		}
+
+		private void miss() {
+			misses.increment();
+		}
+
+		private void put(final int set, final Entry entry) {
+
+			final ReentrantLock lock = locks[(set / WAYS) & (locks.length - 1)];
+			lock.lock();
+			try {
+				// another thread may have inserted it
+				for (int i = set; i < set + WAYS; i++) {
+					final Entry other = entries[i];
+					if (other == null) {
+						insert(i, entry);
+						return;
+					}
+					if (other.hash == entry.hash && other.msb == entry.msb && other.lsb == entry.lsb
+							&& other.string.equals(entry.string)) {
+						return;
+					}
+				}
+
+				// the CLOCK hand gives a second chance to the referenced entries
+				int hand = hands[set / WAYS];
+				while (referenced[set + hand]) {
+					referenced[set + hand] = false;
+					hand = (hand + 1) & (WAYS - 1);
+				}
+				insert(set + hand, entry);
+				hands[set / WAYS] = (byte) ((hand + 1) & (WAYS - 1));
+				evictions.increment();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void insert(final int slot, final Entry entry) {
+			referenced[slot] = false;
+			hashes[slot] = entry.hash;
+			entries[slot] = entry;
+		}
+
+		private Stats stats() {
+			int size = 0;
+			for (int i = 0; i < entries.length; i++) {
+				if (entries[i] != null) {
+					size++;
+				}
+			}
+			return new Stats(hits.sum(), misses.sum(), evictions.sum(), size, entries.length);
+		}
+
+		private void clear() {
+			for (ReentrantLock lock : locks) {
+				lock.lock();
+			}
+			try {
+				for (int i = 0; i < entries.length; i++) {
+					entries[i] = null;
+					hashes[i] = 0;
+					referenced[i] = false;
+				}
+				hits.reset();
+				misses.reset();
+				evictions.reset();
+			} finally {
+				for (ReentrantLock lock : locks) {
+					lock.unlock();
+				}
+			}
+		}
+	}
+}
@@ -29,9 +29,9 @@ import java.util.UUID;
 import com.github.f4b6a3.uuid.codec.base.Base16Codec;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
-import com.github.f4b6a3.uuid.util.immutable.CharArray;
-import com.github.f4b6a3.uuid.util.immutable.LongArray;
-import com.github.f4b6a3.uuid.util.internal.JavaVersionUtil;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Codec for UUID string representation as defined in RFC-4122.
@@ -56,23 +56,25 @@ import com.github.f4b6a3.uuid.util.internal.JavaVersionUtil;
  * be much faster (22x) than doing
  * <code>uuid.toString().replaceAll("-", "")</code>.
  */
-public class StringCodec implements UuidCodec<String> {
+public class StringCodec implements UuidStringCodec {
 
 	/**
 	 * A shared immutable instance.
 	 */
 	public static final StringCodec INSTANCE = new StringCodec();
 
-	private static final LongArray MAP = Base16Codec.INSTANCE.getBase().getMap();
-	private static final CharArray ALPHABET = Base16Codec.INSTANCE.getBase().getAlphabet();
+	/**
+	 * The length of the canonical string.
+	 */
+	public static final int LENGTH = 36;
 
 	private static final String URN_PREFIX = "urn:uuid:";
-	private static final boolean JAVA_VERSION_GREATER_THAN_8 = JavaVersionUtil.getJavaVersion() > 8;
 
 	/**
 	 * Get a string from a UUID.
 	 * <p>
-	 * It can be much faster than {@link UUID#toString()} in JDK 8.
+	 * It can be much faster than {@link UUID#toString()} in JDK 8. In JDK 11 and
+	 * later, the multi-release JAR delegates to {@link UUID#toString()}.
 	 * 
 	 * @param uuid a UUID
 	 * @return a UUID string
@@ -83,52 +85,66 @@ public class StringCodec implements UuidCodec<String> {
 
 		UuidValidator.validate(uuid);
 
-		if (JAVA_VERSION_GREATER_THAN_8) {
-			return uuid.toString();
+		return PlatformUtil.toString(uuid);
+	}
+
+	/**
+	 * Returns the length of the canonical string: 36.
+	 * 
+	 * @return the number of chars
+	 */
+	@Override
+	public int length() {
+		return LENGTH;
+	}
+
+	/**
+	 * Writes the canonical string of a UUID into an array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there is not enough room in the array
+	 */
+	@Override
+	public int encodeTo(UUID uuid, char[] chars, int offset) {
+
+		UuidValidator.validate(uuid);
+		RangeUtil.checkRange(chars.length, offset, LENGTH);
+
+		HexUtil.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, offset);
+		return offset + LENGTH;
+	}
+
+	/**
+	 * Writes the canonical strings of many UUIDs into an array.
+	 * <p>
+	 * The UUIDs are given as pairs of most and least significant bits: the UUID
+	 * {@code n} is {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}. The strings
+	 * are written one after another, 36 chars each, with no separators.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	@Override
+	public int encodeAll(long[] uuids, int index, int count, char[] chars, int offset) {
+
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		RangeUtil.checkRange(chars.length, offset, (long) LENGTH * count);
+
+		for (int i = 0; i < count; i++) {
+			final int pair = (index + i) << 1;
+			HexUtil.format(uuids[pair], uuids[pair + 1], chars, offset + i * LENGTH);
 		}
 
-		final char[] chars = new char[36];
-		final long msb = uuid.getMostSignificantBits();
-		final long lsb = uuid.getLeastSignificantBits();
-
-		chars[0x00] = ALPHABET.get((int) (msb >>> 0x3c & 0xf));
-		chars[0x01] = ALPHABET.get((int) (msb >>> 0x38 & 0xf));
-		chars[0x02] = ALPHABET.get((int) (msb >>> 0x34 & 0xf));
-		chars[0x03] = ALPHABET.get((int) (msb >>> 0x30 & 0xf));
-		chars[0x04] = ALPHABET.get((int) (msb >>> 0x2c & 0xf));
-		chars[0x05] = ALPHABET.get((int) (msb >>> 0x28 & 0xf));
-		chars[0x06] = ALPHABET.get((int) (msb >>> 0x24 & 0xf));
-		chars[0x07] = ALPHABET.get((int) (msb >>> 0x20 & 0xf));
-		chars[0x08] = '-'; // 8
-		chars[0x09] = ALPHABET.get((int) (msb >>> 0x1c & 0xf));
-		chars[0x0a] = ALPHABET.get((int) (msb >>> 0x18 & 0xf));
-		chars[0x0b] = ALPHABET.get((int) (msb >>> 0x14 & 0xf));
-		chars[0x0c] = ALPHABET.get((int) (msb >>> 0x10 & 0xf));
-		chars[0x0d] = '-'; // 13
-		chars[0x0e] = ALPHABET.get((int) (msb >>> 0x0c & 0xf));
-		chars[0x0f] = ALPHABET.get((int) (msb >>> 0x08 & 0xf));
-		chars[0x10] = ALPHABET.get((int) (msb >>> 0x04 & 0xf));
-		chars[0x11] = ALPHABET.get((int) (msb & 0xf));
-		chars[0x12] = '-'; // 18
-		chars[0x13] = ALPHABET.get((int) (lsb >>> 0x3c & 0xf));
-		chars[0x14] = ALPHABET.get((int) (lsb >>> 0x38 & 0xf));
-		chars[0x15] = ALPHABET.get((int) (lsb >>> 0x34 & 0xf));
-		chars[0x16] = ALPHABET.get((int) (lsb >>> 0x30 & 0xf));
-		chars[0x17] = '-'; // 23
-		chars[0x18] = ALPHABET.get((int) (lsb >>> 0x2c & 0xf));
-		chars[0x19] = ALPHABET.get((int) (lsb >>> 0x28 & 0xf));
-		chars[0x1a] = ALPHABET.get((int) (lsb >>> 0x24 & 0xf));
-		chars[0x1b] = ALPHABET.get((int) (lsb >>> 0x20 & 0xf));
-		chars[0x1c] = ALPHABET.get((int) (lsb >>> 0x1c & 0xf));
-		chars[0x1d] = ALPHABET.get((int) (lsb >>> 0x18 & 0xf));
-		chars[0x1e] = ALPHABET.get((int) (lsb >>> 0x14 & 0xf));
-		chars[0x1f] = ALPHABET.get((int) (lsb >>> 0x10 & 0xf));
-		chars[0x20] = ALPHABET.get((int) (lsb >>> 0x0c & 0xf));
-		chars[0x21] = ALPHABET.get((int) (lsb >>> 0x08 & 0xf));
-		chars[0x22] = ALPHABET.get((int) (lsb >>> 0x04 & 0xf));
-		chars[0x23] = ALPHABET.get((int) (lsb & 0xf));
-
-		return new String(chars);
+		return offset + LENGTH * count;
 	}
 
 	/**
@@ -142,6 +158,9 @@ public class StringCodec implements UuidCodec<String> {
 	 * <li>With or without hyphens.
 	 * </ul>
 	 * <p>
+	 * It validates and parses the string in a single pass, reading the chars
+	 * directly from the string. The only object allocated is the UUID.
+	 * <p>
 	 * It can be much faster than {@link UUID#fromString(String)} in JDK 8.
 	 * <p>
 	 * It also can be twice as fast as {@link UUID#fromString(String)} in JDK 11.
@@ -153,88 +172,178 @@ public class StringCodec implements UuidCodec<String> {
 	@Override
 	public UUID decode(String string) {
 
-		char[] chars = toCharArray(string);
-		UuidValidator.validate(chars);
-
-		long msb = 0;
-		long lsb = 0;
-
-		if (chars.length == 32) {
-			// UUID string WITHOUT hyphen
-			msb |= MAP.get(chars[0x00]) << 60;
-			msb |= MAP.get(chars[0x01]) << 56;
-			msb |= MAP.get(chars[0x02]) << 52;
-			msb |= MAP.get(chars[0x03]) << 48;
-			msb |= MAP.get(chars[0x04]) << 44;
-			msb |= MAP.get(chars[0x05]) << 40;
-			msb |= MAP.get(chars[0x06]) << 36;
-			msb |= MAP.get(chars[0x07]) << 32;
-			msb |= MAP.get(chars[0x08]) << 28;
-			msb |= MAP.get(chars[0x09]) << 24;
-			msb |= MAP.get(chars[0x0a]) << 20;
-			msb |= MAP.get(chars[0x0b]) << 16;
-			msb |= MAP.get(chars[0x0c]) << 12;
-			msb |= MAP.get(chars[0x0d]) << 8;
-			msb |= MAP.get(chars[0x0e]) << 4;
-			msb |= MAP.get(chars[0x0f]);
-
-			lsb |= MAP.get(chars[0x10]) << 60;
-			lsb |= MAP.get(chars[0x11]) << 56;
-			lsb |= MAP.get(chars[0x12]) << 52;
-			lsb |= MAP.get(chars[0x13]) << 48;
-			lsb |= MAP.get(chars[0x14]) << 44;
-			lsb |= MAP.get(chars[0x15]) << 40;
-			lsb |= MAP.get(chars[0x16]) << 36;
-			lsb |= MAP.get(chars[0x17]) << 32;
-			lsb |= MAP.get(chars[0x18]) << 28;
-			lsb |= MAP.get(chars[0x19]) << 24;
-			lsb |= MAP.get(chars[0x1a]) << 20;
-			lsb |= MAP.get(chars[0x1b]) << 16;
-			lsb |= MAP.get(chars[0x1c]) << 12;
-			lsb |= MAP.get(chars[0x1d]) << 8;
-			lsb |= MAP.get(chars[0x1e]) << 4;
-			lsb |= MAP.get(chars[0x1f]);
-		} else {
-			// UUID string WITH hyphen
-			msb |= MAP.get(chars[0x00]) << 60;
-			msb |= MAP.get(chars[0x01]) << 56;
-			msb |= MAP.get(chars[0x02]) << 52;
-			msb |= MAP.get(chars[0x03]) << 48;
-			msb |= MAP.get(chars[0x04]) << 44;
-			msb |= MAP.get(chars[0x05]) << 40;
-			msb |= MAP.get(chars[0x06]) << 36;
-			msb |= MAP.get(chars[0x07]) << 32;
-			// input[8] = '-'
-			msb |= MAP.get(chars[0x09]) << 28;
-			msb |= MAP.get(chars[0x0a]) << 24;
-			msb |= MAP.get(chars[0x0b]) << 20;
-			msb |= MAP.get(chars[0x0c]) << 16;
-			// input[13] = '-'
-			msb |= MAP.get(chars[0x0e]) << 12;
-			msb |= MAP.get(chars[0x0f]) << 8;
-			msb |= MAP.get(chars[0x10]) << 4;
-			msb |= MAP.get(chars[0x11]);
-			// input[18] = '-'
-			lsb |= MAP.get(chars[0x13]) << 60;
-			lsb |= MAP.get(chars[0x14]) << 56;
-			lsb |= MAP.get(chars[0x15]) << 52;
-			lsb |= MAP.get(chars[0x16]) << 48;
-			// input[23] = '-'
-			lsb |= MAP.get(chars[0x18]) << 44;
-			lsb |= MAP.get(chars[0x19]) << 40;
-			lsb |= MAP.get(chars[0x1a]) << 36;
-			lsb |= MAP.get(chars[0x1b]) << 32;
-			lsb |= MAP.get(chars[0x1c]) << 28;
-			lsb |= MAP.get(chars[0x1d]) << 24;
-			lsb |= MAP.get(chars[0x1e]) << 20;
-			lsb |= MAP.get(chars[0x1f]) << 16;
-			lsb |= MAP.get(chars[0x20]) << 12;
-			lsb |= MAP.get(chars[0x21]) << 8;
-			lsb |= MAP.get(chars[0x22]) << 4;
-			lsb |= MAP.get(chars[0x23]);
+		final UUID uuid = tryDecode(string);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(string);
+		}
+
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a string, or null if the string is invalid.
+	 * <p>
+	 * It accepts the same formats as {@link #decode(String)}, but returns null
+	 * instead of throwing an exception.
+	 * 
+	 * @param string a UUID string
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(String string) {
+
+		if (string == null) {
+			return null;
+		}
+
+		switch (string.length()) {
+		case 36:
+			// canonical format: "00000000-0000-0000-0000-000000000000"
+			return parse(string, 0, true);
+		case 32:
+			// without hyphens: "00000000000000000000000000000000"
+			return parse(string, 0, false);
+		case 38:
+			// curly braces format: "{00000000-0000-0000-0000-000000000000}"
+			if (string.charAt(0) == '{' && string.charAt(37) == '}') {
+				return parse(string, 1, true);
+			}
+			return null;
+		case 45:
+			// UUID URN format: "urn:uuid:00000000-0000-0000-0000-000000000000"
+			if (string.startsWith(URN_PREFIX)) {
+				return parse(string, 9, true);
+			}
+			return null;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Get a UUID from the canonical string in a char sequence.
+	 * <p>
+	 * It reads exactly 36 chars starting at the offset. Unlike
+	 * {@link #decode(String)}, other formats are not accepted.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID decode(CharSequence chars, int offset) {
+
+		RangeUtil.checkRange(chars.length(), offset, LENGTH);
+
+		final UUID uuid = parse(chars, offset, true);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(chars.subSequence(offset, offset + LENGTH));
 		}
 
-		return new UUID(msb, lsb);
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from the canonical string in a char sequence, or null if the
+	 * chars are invalid.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID, or null if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID tryDecode(CharSequence chars, int offset) {
+		RangeUtil.checkRange(chars.length(), offset, LENGTH);
+		return parse(chars, offset, true);
+	}
+
+	/**
+	 * Reads the canonical strings of many UUIDs from a char sequence.
+	 * <p>
+	 * The strings are read one after another, 36 chars each, with no separators.
+	 * Only the canonical format is accepted, in upper or lower case. The UUIDs are
+	 * written as pairs of most and least significant bits: the UUID {@code n} is
+	 * {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}.
+	 * 
+	 * @param chars  the source char sequence
+	 * @param offset the index of the first char
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws InvalidUuidException      if a string is invalid; the UUIDs before
+	 *                                   it are already written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	@Override
+	public void decodeAll(CharSequence chars, int offset, int count, long[] uuids, int index) {
+
+		RangeUtil.checkRange(chars.length(), offset, (long) LENGTH * count);
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+
+		for (int i = 0; i < count; i++) {
+			final int start = offset + i * LENGTH;
+			final UUID uuid = parse(chars, start, true);
+			if (uuid == null) {
+				throw InvalidUuidException.newInstance(chars.subSequence(start, start + LENGTH));
+			}
+			final int pair = (index + i) << 1;
+			uuids[pair] = uuid.getMostSignificantBits();
+			uuids[pair + 1] = uuid.getLeastSignificantBits();
+		}
+	}
+
+	/**
+	 * Parses 32 hexadecimal digits, with or without hyphens, starting at an
+	 * offset.
+	 * <p>
+	 * The digits are converted 8 at a time by {@link HexUtil}. Invalid chars are
+	 * accumulated in an error flag that is checked only once at the end.
+	 * 
+	 * @param string  a char sequence
+	 * @param offset  the index of the first hexadecimal digit
+	 * @param hyphens true if hyphens are expected in positions 8, 13, 18 and 23
+	 * @return a UUID, or null if the chars are invalid
+	 */
+	private static UUID parse(final CharSequence string, final int offset, final boolean hyphens) {
+
+		final int h = hyphens ? 1 : 0;
+
+		final long a = HexUtil.decode(HexUtil.pack(string, offset) << 32 //
+				| HexUtil.pack(string, offset + 4));
+		final long b = HexUtil.decode(HexUtil.pack(string, offset + 8 + h) << 32 //
+				| HexUtil.pack(string, offset + 12 + 2 * h));
+		final long c = HexUtil.decode(HexUtil.pack(string, offset + 16 + 3 * h) << 32 //
+				| HexUtil.pack(string, offset + 20 + 4 * h));
+		final long d = HexUtil.decode(HexUtil.pack(string, offset + 24 + 4 * h) << 32 //
+				| HexUtil.pack(string, offset + 28 + 4 * h));
+
+		long error = a | b | c | d;
+		if (hyphens) {
+			error |= dash(string.charAt(offset + 8));
+			error |= dash(string.charAt(offset + 13));
+			error |= dash(string.charAt(offset + 18));
+			error |= dash(string.charAt(offset + 23));
+		}
+
+		if (error < 0) {
+			return null;
+		}
+
+		return new UUID((a << 32) | b, (c << 32) | d);
+	}
+
+	/**
+	 * Returns zero if the char is a hyphen, or a negative number otherwise.
+	 * 
+	 * @param c a char
+	 * @return zero or a negative number
+	 */
+	private static int dash(final char c) {
+		return -(c ^ '-');
 	}
 
 	/**
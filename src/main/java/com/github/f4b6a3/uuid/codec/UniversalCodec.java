@@ -0,0 +1,309 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
+import com.github.f4b6a3.uuid.codec.other.NcnameCodec;
+import com.github.f4b6a3.uuid.codec.other.SlugCodec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
+
+/**
+ * Codec that detects the format of UUID strings.
+ * <p>
+ * It decodes strings in any of the formats given to the constructor. The
+ * formats are looked up in a table indexed by the length of the string, so
+ * only the formats of that length are tried. Each format checks its first and
+ * last chars, then parses the string without throwing exceptions. The first
+ * format that accepts the string wins.
+ * <p>
+ * Some formats have the same length, and a string can be valid in more than
+ * one of them. For example, every Base62 string is also a valid Base64URL
+ * string. So formats of the same length are tried in the order they were given,
+ * and it's best to give only the formats that the input can actually have.
+ * <p>
+ * The shared instance {@link #INSTANCE} accepts only the hexadecimal formats,
+ * which are never ambiguous:
+ * <ul>
+ * <li>00000000-0000-V000-0000-000000000000 (canonical string)
+ * <li>0000000000000V000000000000000000 (hexadecimal string)
+ * <li>{00000000-0000-V000-0000-000000000000} (MS GUID string)
+ * <li>urn:uuid:00000000-0000-V000-0000-000000000000 (URN UUID string)
+ * </ul>
+ * <p>
+ * It encodes UUIDs to the first format given to the constructor.
+ * 
+ * @see Format
+ */
+public final class UniversalCodec implements UuidCodec<String> {
+
+	/**
+	 * A shared immutable instance that accepts the hexadecimal formats.
+	 */
+	public static final UniversalCodec INSTANCE = new UniversalCodec(Format.CANONICAL, Format.HEXADECIMAL,
+			Format.BRACES, Format.URN);
+
+	private final Format[] formats;
+	private final Format[][] table;
+
+	/**
+	 * UUID string formats.
+	 */
+	public static enum Format {
+
+		/**
+		 * Canonical string, e.g. "01234567-89ab-4def-a123-456789abcdef".
+		 */
+		CANONICAL("", StringCodec.INSTANCE, ""),
+		/**
+		 * Hexadecimal string without hyphens, e.g.
+		 * "0123456789ab4defa123456789abcdef".
+		 */
+		HEXADECIMAL("", Base16Codec.INSTANCE, ""),
+		/**
+		 * Canonical string between curly braces, e.g.
+		 * "{01234567-89ab-4def-a123-456789abcdef}".
+		 */
+		BRACES("{", StringCodec.INSTANCE, "}"),
+		/**
+		 * UUID URN, e.g. "urn:uuid:01234567-89ab-4def-a123-456789abcdef".
+		 */
+		URN("", UrnCodec.INSTANCE, ""),
+		/**
+		 * Base-62 string of {@link Base62Codec}.
+		 */
+		BASE_62("", Base62Codec.INSTANCE, ""),
+		/**
+		 * Base-64-url string of {@link Base64UrlCodec}.
+		 */
+		BASE_64_URL("", Base64UrlCodec.INSTANCE, ""),
+		/**
+		 * Slug of {@link SlugCodec}.
+		 */
+		SLUG("", SlugCodec.INSTANCE, ""),
+		/**
+		 * NCName of {@link NcnameCodec}.
+		 */
+		NCNAME("", NcnameCodec.INSTANCE, "");
+
+		private final char prefix;
+		private final char suffix;
+		private final int affixes;
+		private final int length;
+		private final UuidStringCodec codec;
+
+		private Format(String prefix, UuidStringCodec codec, String suffix) {
+			this.prefix = prefix.isEmpty() ? 0 : prefix.charAt(0);
+			this.suffix = suffix.isEmpty() ? 0 : suffix.charAt(0);
+			this.affixes = prefix.length() + suffix.length();
+			this.length = codec.length() + this.affixes;
+			this.codec = codec;
+		}
+
+		/**
+		 * Returns the length of the strings of this format.
+		 * 
+		 * @return the number of chars
+		 */
+		public int getLength() {
+			return this.length;
+		}
+
+		/**
+		 * Get a string of this format from a UUID.
+		 * 
+		 * @param uuid a UUID
+		 * @return a UUID string
+		 * @throws InvalidUuidException if the argument is invalid
+		 */
+		public String encode(UUID uuid) {
+			if (this.affixes == 0) {
+				return this.codec.encode(uuid);
+			}
+			final char[] chars = new char[this.length];
+			chars[0] = this.prefix;
+			this.codec.encodeTo(uuid, chars, 1);
+			chars[this.length - 1] = this.suffix;
+			return new String(chars);
+		}
+
+		/**
+		 * Returns a UUID, or null if the string is not valid in this format.
+		 */
+		private UUID tryDecode(final CharSequence chars) {
+			if (this.affixes == 0) {
+				return this.codec.tryDecode(chars, 0);
+			}
+			if (chars.charAt(0) != this.prefix || chars.charAt(this.length - 1) != this.suffix) {
+				return null;
+			}
+			return this.codec.tryDecode(chars, 1);
+		}
+	}
+
+	/**
+	 * Constructor with the accepted formats.
+	 * <p>
+	 * Formats of the same length are tried in the given order. UUIDs are encoded
+	 * to the first format.
+	 * 
+	 * @param formats one or more formats
+	 * @throws IllegalArgumentException if no format is given
+	 */
+	public UniversalCodec(Format... formats) {
+
+		if (formats == null || formats.length == 0) {
+			throw new IllegalArgumentException("No format given");
+		}
+
+		int max = 0;
+		for (Format format : formats) {
+			if (format == null) {
+				throw new IllegalArgumentException("Null format given");
+			}
+			max = Math.max(max, format.length);
+		}
+
+		this.formats = formats.clone();
+		this.table = new Format[max + 1][];
+		Arrays.fill(this.table, new Format[0]);
+		for (Format format : this.formats) {
+			Format[] row = this.table[format.length];
+			if (!Arrays.asList(row).contains(format)) {
+				row = Arrays.copyOf(row, row.length + 1);
+				row[row.length - 1] = format;
+				this.table[format.length] = row;
+			}
+		}
+	}
+
+	/**
+	 * Get a string from a UUID, in the first format given to the constructor.
+	 * 
+	 * @param uuid a UUID
+	 * @return a UUID string
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public String encode(UUID uuid) {
+		UuidValidator.validate(uuid);
+		return this.formats[0].encode(uuid);
+	}
+
+	/**
+	 * Get a UUID from a string in any of the accepted formats.
+	 * 
+	 * @param string a UUID string
+	 * @return a UUID
+	 * @throws InvalidUuidException if the argument is invalid
+	 */
+	@Override
+	public UUID decode(String string) {
+		final UUID uuid = tryDecode(string);
+		if (uuid == null) {
+			throw InvalidUuidException.newInstance(string);
+		}
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a string in any of the accepted formats, or null if the
+	 * string is invalid.
+	 * <p>
+	 * It doesn't throw exceptions, so invalid strings cost no more than valid
+	 * ones.
+	 * 
+	 * @param chars a char sequence
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	public UUID tryDecode(CharSequence chars) {
+		if (chars == null || chars.length() >= this.table.length) {
+			return null;
+		}
+		for (Format format : this.table[chars.length()]) {
+			final UUID uuid = format.tryDecode(chars);
+			if (uuid != null) {
+				return uuid;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Get a UUID from a string in any of the accepted formats, or null if the
+	 * string is invalid.
+	 * 
+	 * @param string a UUID string
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(String string) {
+		return tryDecode((CharSequence) string);
+	}
+
+	/**
+	 * Returns the format of a UUID string, or null if the string is invalid.
+	 * 
+	 * @param chars a char sequence
+	 * @return a format, or null if the argument is null or invalid
+	 */
+	public Format detect(CharSequence chars) {
+		return detect(chars, null);
+	}
+
+	/**
+	 * Returns the format of a UUID string and decodes it in the same pass.
+	 * <p>
+	 * If the string is valid and the array is not null, the most and least
+	 * significant bits of the UUID are written at the indexes 0 and 1 of the
+	 * array. Otherwise the array is not changed.
+	 * 
+	 * @param chars a char sequence
+	 * @param uuid  an array of at least two longs, or null
+	 * @return a format, or null if the string is null or invalid
+	 */
+	public Format detect(CharSequence chars, long[] uuid) {
+		if (chars == null || chars.length() >= this.table.length) {
+			return null;
+		}
+		for (Format format : this.table[chars.length()]) {
+			final UUID decoded = format.tryDecode(chars);
+			if (decoded != null) {
+				if (uuid != null) {
+					uuid[0] = decoded.getMostSignificantBits();
+					uuid[1] = decoded.getLeastSignificantBits();
+				}
+				return format;
+			}
+		}
+		return null;
+	}
+}
@@ -57,6 +57,8 @@ public class UriCodec implements UuidCodec<URI> {
 	 */
 	public static final UriCodec INSTANCE = new UriCodec();
 
+	private static final String URN_SCHEME = "urn";
+
 	/**
 	 * Get a URI from a UUID.
 	 * 
@@ -78,10 +80,29 @@ public class UriCodec implements UuidCodec<URI> {
 	 */
 	@Override
 	public UUID decode(URI uri) {
-		if (!isUuidUri(uri)) {
+		final UUID uuid = tryDecode(uri);
+		if (uuid == null) {
 			throw InvalidUuidException.newInstance(uri);
 		}
-		return StringCodec.INSTANCE.decode(uri.toString());
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a URI, or null if the URI is invalid.
+	 * <p>
+	 * URIs of other schemes are rejected without reading their strings. The
+	 * string of a URI created from a string is the one it already holds, so it
+	 * is not rebuilt.
+	 * 
+	 * @param uri a URI
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(URI uri) {
+		if (uri == null || !URN_SCHEME.equals(uri.getScheme())) {
+			return null;
+		}
+		return UrnCodec.INSTANCE.tryDecode(uri.toString());
 	}
 
 	/**
@@ -91,6 +112,6 @@ public class UriCodec implements UuidCodec<URI> {
 	 * @return true if the it's a URN
 	 */
 	public static boolean isUuidUri(URI uri) {
-		return uri != null && UrnCodec.isUuidUrn(uri.toString());
+		return INSTANCE.tryDecode(uri) != null;
 	}
 }
@@ -28,6 +28,8 @@ import java.util.UUID;
 
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Codec for UUID URNs.
@@ -47,14 +49,20 @@ import com.github.f4b6a3.uuid.util.UuidValidator;
  *      "https://stackoverflow.com/questions/4913343/what-is-the-difference-between-uri-url-and-urn">What
  *      is the difference between URI, URL and URN?</a>
  */
-public class UrnCodec implements UuidCodec<String> {
+public class UrnCodec implements UuidStringCodec {
 
 	/**
 	 * A shared immutable instance.
 	 */
 	public static final UrnCodec INSTANCE = new UrnCodec();
 
+	/**
+	 * The length of a UUID URN.
+	 */
+	public static final int LENGTH = 45;
+
 	private static final String URN_PREFIX = "urn:uuid:";
+	private static final int PREFIX_LENGTH = 9;
 
 	/**
 	 * Get a URN string from a UUID.
@@ -65,8 +73,38 @@ public class UrnCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public String encode(UUID uuid) {
+		final char[] chars = new char[LENGTH];
+		encodeTo(uuid, chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * Returns the length of a UUID URN: 45.
+	 * 
+	 * @return the number of chars
+	 */
+	@Override
+	public int length() {
+		return LENGTH;
+	}
+
+	/**
+	 * Writes the URN of a UUID into an array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there is not enough room in the array
+	 */
+	@Override
+	public int encodeTo(UUID uuid, char[] chars, int offset) {
 		UuidValidator.validate(uuid);
-		return URN_PREFIX + StringCodec.INSTANCE.encode(uuid);
+		RangeUtil.checkRange(chars.length, offset, LENGTH);
+		URN_PREFIX.getChars(0, PREFIX_LENGTH, chars, offset);
+		HexUtil.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, offset + PREFIX_LENGTH);
+		return offset + LENGTH;
 	}
 
 	/**
@@ -78,25 +116,76 @@ public class UrnCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public UUID decode(String urn) {
-		if (!isUuidUrn(urn)) {
+		final UUID uuid = tryDecode(urn);
+		if (uuid == null) {
 			throw InvalidUuidException.newInstance(urn);
 		}
-		return StringCodec.INSTANCE.decode(urn);
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a URN string, or null if the string is invalid.
+	 * 
+	 * @param urn a URN string
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(String urn) {
+		if (urn == null || urn.length() != LENGTH) {
+			return null;
+		}
+		return tryDecode(urn, 0);
+	}
+
+	/**
+	 * Get a UUID from the URN in a char sequence, starting at an offset.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID decode(CharSequence chars, int offset) {
+		RangeUtil.checkRange(chars.length(), offset, LENGTH);
+		for (int i = 0; i < PREFIX_LENGTH; i++) {
+			if (chars.charAt(offset + i) != URN_PREFIX.charAt(i)) {
+				throw InvalidUuidException.newInstance(chars.subSequence(offset, offset + LENGTH));
+			}
+		}
+		return StringCodec.INSTANCE.decode(chars, offset + PREFIX_LENGTH);
+	}
+
+	/**
+	 * Get a UUID from the URN in a char sequence, or null if the chars are
+	 * invalid.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID, or null if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID tryDecode(CharSequence chars, int offset) {
+		RangeUtil.checkRange(chars.length(), offset, LENGTH);
+		for (int i = 0; i < PREFIX_LENGTH; i++) {
+			if (chars.charAt(offset + i) != URN_PREFIX.charAt(i)) {
+				return null;
+			}
+		}
+		return StringCodec.INSTANCE.tryDecode(chars, offset + PREFIX_LENGTH);
 	}
 
 	/**
 	 * Check if a URN string is a UUID URN.
+	 * <p>
+	 * It must have the prefix "urn:uuid:" followed by a canonical UUID string.
 	 * 
 	 * @param urn a string
 	 * @return true if the it's a URN
 	 */
 	public static boolean isUuidUrn(String urn) {
-		final int stringLength = 45; // URN string length
-		final int prefixLength = 9; // URN prefix length
-		if (urn != null && urn.length() == stringLength) {
-			String uuid = urn.substring(prefixLength);
-			return UuidValidator.isValid(uuid);
-		}
-		return false;
+		return INSTANCE.tryDecode(urn) != null;
 	}
 }
@@ -36,6 +36,9 @@ import com.github.f4b6a3.uuid.exception.InvalidUuidException;
  * <p>
  * The {@link RuntimeException} cases that can be detected beforehand are
  * translated into an {@link InvalidUuidException}.
+ * <p>
+ * The method {@link #tryDecode(Object)} returns null instead of throwing an
+ * exception, which is useful to reject invalid input at a low cost.
  * 
  * @param <T> the type encoded to and decoded from.
  * @see InvalidUuidException
@@ -59,4 +62,25 @@ public interface UuidCodec<T> {
 	 * @throws InvalidUuidException if the argument is invalid
 	 */
 	public UUID decode(T type);
-}
\ No newline at end of file
+
+	/**
+	 * Get a UUID from a generic type, or null if the argument is invalid.
+	 * <p>
+	 * It's the same as {@link #decode(Object)}, but returns null instead of
+	 * throwing {@link InvalidUuidException}. The codecs of this library override
+	 * it so that invalid arguments cost no more than valid ones.
+	 * 
+	 * @param type a generic type
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	public default UUID tryDecode(T type) {
+		if (type == null) {
+			return null;
+		}
+		try {
+			return decode(type);
+		} catch (InvalidUuidException e) {
+			return null;
+		}
+	}
+}
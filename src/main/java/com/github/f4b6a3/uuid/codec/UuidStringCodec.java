@@ -0,0 +1,257 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.codec;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Interface to be implemented by the codecs that encode UUIDs to strings of a
+ * fixed length.
+ * <p>
+ * Besides returning a new string, they can write the encoded chars into an
+ * existing char array and read them from any char sequence, so logging and
+ * serialization code don't have to create an intermediate string for each
+ * UUID.
+ * <p>
+ * The methods {@link #encodeAll(long[], int, int, char[], int)} and
+ * {@link #decodeAll(CharSequence, int, int, long[], int)} convert many UUIDs
+ * at once, and their parallel variants split the work among the threads of the
+ * common {@link java.util.concurrent.ForkJoinPool}.
+ * <p>
+ * The default methods are implemented with {@link #encode(UUID)} and
+ * {@link #decode(String)}. The codecs of this library override the char array
+ * and char sequence methods to avoid the intermediate string.
+ */
+public interface UuidStringCodec extends UuidCodec<String> {
+
+	/**
+	 * Returns the length of the encoded strings.
+	 * 
+	 * @return the number of chars
+	 */
+	public int length();
+
+	/**
+	 * Writes the encoded chars of a UUID into an array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there is not enough room in the array
+	 */
+	public default int encodeTo(UUID uuid, char[] chars, int offset) {
+		final String string = encode(uuid);
+		RangeUtil.checkRange(chars.length, offset, string.length());
+		string.getChars(0, string.length(), chars, offset);
+		return offset + string.length();
+	}
+
+	/**
+	 * Appends the encoded chars of a UUID to a string builder.
+	 * <p>
+	 * A builder doesn't expose its internal array, so the chars can't be written
+	 * into it directly. Appending the string returned by {@link #encode(UUID)} is
+	 * the fastest option on JDK 9+, where a builder must compress any char array
+	 * appended to it. Use {@link #encodeTo(UUID, char[], int)} for an
+	 * allocation-free path.
+	 * 
+	 * @param uuid    a UUID
+	 * @param builder the destination
+	 * @throws InvalidUuidException if the UUID is invalid
+	 */
+	public default void encodeTo(UUID uuid, StringBuilder builder) {
+		builder.append(encode(uuid));
+	}
+
+	/**
+	 * Appends the encoded chars of a UUID to an appendable, such as a
+	 * {@link java.io.Writer}.
+	 * 
+	 * @param uuid       a UUID
+	 * @param appendable the destination
+	 * @throws IOException          if the appendable throws it
+	 * @throws InvalidUuidException if the UUID is invalid
+	 */
+	public default void encodeTo(UUID uuid, Appendable appendable) throws IOException {
+		if (appendable instanceof StringBuilder) {
+			encodeTo(uuid, (StringBuilder) appendable);
+		} else {
+			appendable.append(encode(uuid));
+		}
+	}
+
+	/**
+	 * Get a UUID from the chars of a sequence, starting at an offset.
+	 * <p>
+	 * It reads exactly {@link #length()} chars. The chars after them are ignored.
+	 * 
+	 * @param chars  a char sequence, such as a {@link StringBuilder}
+	 * @param offset the index of the first char
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	public default UUID decode(CharSequence chars, int offset) {
+		RangeUtil.checkRange(chars.length(), offset, length());
+		return decode(chars.subSequence(offset, offset + length()).toString());
+	}
+
+	/**
+	 * Get a UUID from the chars of a sequence, starting at an offset, without
+	 * throwing exceptions for invalid chars.
+	 * <p>
+	 * It reads exactly {@link #length()} chars, like
+	 * {@link #decode(CharSequence, int)}, but returns null instead of throwing
+	 * {@link InvalidUuidException}. The codecs of this library override it so
+	 * that invalid chars cost no more than valid ones.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID, or null if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	public default UUID tryDecode(CharSequence chars, int offset) {
+		RangeUtil.checkRange(chars.length(), offset, length());
+		try {
+			return decode(chars, offset);
+		} catch (InvalidUuidException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the encoded strings of many UUIDs into an array.
+	 * <p>
+	 * The UUIDs are given as pairs of most and least significant bits: the UUID
+	 * {@code n} is {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}. The strings
+	 * are written one after another, {@link #length()} chars each, with no
+	 * separators.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public default int encodeAll(long[] uuids, int index, int count, char[] chars, int offset) {
+		final int length = length();
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		RangeUtil.checkRange(chars.length, offset, (long) length * count);
+		for (int i = 0; i < count; i++) {
+			final int pair = (index + i) << 1;
+			encodeTo(new UUID(uuids[pair], uuids[pair + 1]), chars, offset + i * length);
+		}
+		return offset + length * count;
+	}
+
+	/**
+	 * Reads the encoded strings of many UUIDs from a char sequence.
+	 * <p>
+	 * The strings are read one after another, {@link #length()} chars each, with
+	 * no separators. The UUIDs are written as pairs of most and least significant
+	 * bits: the UUID {@code n} is {@code uuids[2 * n]} and
+	 * {@code uuids[2 * n + 1]}.
+	 * 
+	 * @param chars  the source char sequence
+	 * @param offset the index of the first char
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws InvalidUuidException      if a string is invalid; the UUIDs before
+	 *                                   it are already written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public default void decodeAll(CharSequence chars, int offset, int count, long[] uuids, int index) {
+		final int length = length();
+		RangeUtil.checkRange(chars.length(), offset, (long) length * count);
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		for (int i = 0; i < count; i++) {
+			final UUID uuid = decode(chars, offset + i * length);
+			final int pair = (index + i) << 1;
+			uuids[pair] = uuid.getMostSignificantBits();
+			uuids[pair + 1] = uuid.getLeastSignificantBits();
+		}
+	}
+
+	/**
+	 * Writes the encoded strings of many UUIDs into an array in parallel.
+	 * <p>
+	 * It is the same as {@link #encodeAll(long[], int, int, char[], int)}, except
+	 * that large batches are split among the threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public default int encodeAllParallel(long[] uuids, int index, int count, char[] chars, int offset) {
+		final int length = length();
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		RangeUtil.checkRange(chars.length, offset, (long) length * count);
+		ParallelUtil.forEachRange(count,
+				(from, to) -> encodeAll(uuids, index + from, to - from, chars, offset + from * length));
+		return offset + length * count;
+	}
+
+	/**
+	 * Reads the encoded strings of many UUIDs from a char sequence in parallel.
+	 * <p>
+	 * It is the same as {@link #decodeAll(CharSequence, int, int, long[], int)},
+	 * except that large batches are split among the threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}. The char sequence must not be
+	 * modified during the call.
+	 * 
+	 * @param chars  the source char sequence
+	 * @param offset the index of the first char
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws InvalidUuidException      if a string is invalid; any of the other
+	 *                                   UUIDs may be written or not
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	public default void decodeAllParallel(CharSequence chars, int offset, int count, long[] uuids, int index) {
+		final int length = length();
+		RangeUtil.checkRange(chars.length(), offset, (long) length * count);
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		ParallelUtil.forEachRange(count,
+				(from, to) -> decodeAll(chars, offset + from * length, to - from, uuids, index + from));
+	}
+}
@@ -232,6 +232,30 @@ public final class BaseN {
 		return true;
 	}
 
+	/**
+	 * Checks if the chars of a sequence, starting at an offset, are a valid UUID
+	 * string.
+	 * <p>
+	 * It checks as many chars as the length of the base-n. The chars after them
+	 * are ignored.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return true if valid, false if invalid
+	 */
+	public boolean isValid(CharSequence chars, int offset) {
+		if (chars == null || offset < 0 || offset > chars.length() - this.length) {
+			return false;
+		}
+		for (int i = 0; i < this.length; i++) {
+			final char c = chars.charAt(offset + i);
+			if (c >= this.map.length() || this.map.get(c) == -1) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Checks if the UUID string is a valid.
 	 * 
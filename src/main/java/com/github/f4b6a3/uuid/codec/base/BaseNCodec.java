@@ -25,21 +25,23 @@
 package com.github.f4b6a3.uuid.codec.base;
 
 import java.util.UUID;
-import java.util.function.Function;
 
-import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.codec.UuidStringCodec;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNChunkedDecoder;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNChunkedEncoder;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNDecoder;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNEncoder;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderDecoder;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderEncoder;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Abstract class that contains the basic functionality for base-n codecs of
  * this package.
  */
-public abstract class BaseNCodec implements UuidCodec<String> {
+public abstract class BaseNCodec implements UuidStringCodec {
 
 	/**
 	 * The base-n.
@@ -49,11 +51,11 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	/**
 	 * An encoder function.
 	 */
-	protected final Function<UUID, String> encoder;
+	protected final BaseNEncoder encoder;
 	/**
 	 * A decoder function.
 	 */
-	protected final Function<String, UUID> decoder;
+	protected final BaseNDecoder decoder;
 
 	/**
 	 * A division function that returns quotient and remainder.
@@ -95,7 +97,7 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 * @param divider a division function that returns quotient and remainder
 	 */
 	protected BaseNCodec(BaseN base, CustomDivider divider) {
-		this(base, new BaseNRemainderEncoder(base, divider), new BaseNRemainderDecoder(base));
+		this(base, encoder(base, divider), decoder(base, divider));
 	}
 
 	/**
@@ -109,6 +111,20 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 		this.decoder = decoder;
 	}
 
+	private static BaseNEncoder encoder(BaseN base, CustomDivider divider) {
+		if (divider != null) {
+			return new BaseNRemainderEncoder(base, divider);
+		}
+		return new BaseNChunkedEncoder(base);
+	}
+
+	private static BaseNDecoder decoder(BaseN base, CustomDivider divider) {
+		if (divider != null) {
+			return new BaseNRemainderDecoder(base);
+		}
+		return new BaseNChunkedDecoder(base);
+	}
+
 	/**
 	 * Static factory that returns a new instance of {@link BaseNCodec} using the
 	 * specified {@link BaseN}.
@@ -117,7 +133,9 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 * package class is desired.
 	 * <p>
 	 * The {@link BaseNCodec} objects provided by this method encode UUIDs using
-	 * remainder operation (modulus), a common approach to encode integers.
+	 * remainder operation (modulus) in chunks of several digits, dividing by the
+	 * largest power of the radix that fits in 31 bits. See
+	 * {@link BaseNChunkedEncoder} and {@link BaseNChunkedDecoder}.
 	 * <p>
 	 * If you need a {@link BaseN} that is not available in this package, use the
 	 * static factories {@link BaseNCodec#newInstance(String)} or
@@ -138,7 +156,9 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 * package class is desired.
 	 * <p>
 	 * The {@link BaseNCodec} objects provided by this method encode UUIDs using
-	 * remainder operator (modulus), a common approach to encode integers.
+	 * remainder operation (modulus) in chunks of several digits, dividing by the
+	 * largest power of the radix that fits in 31 bits. See
+	 * {@link BaseNChunkedEncoder} and {@link BaseNChunkedDecoder}.
 	 * <p>
 	 * The example below shows how to create a {@link BaseNCodec} for an
 	 * hypothetical base-40 encoding that contains only letters. You only need to
@@ -171,7 +191,9 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 	 * package class is desired.
 	 * <p>
 	 * The {@link BaseNCodec} objects provided by this method encode UUIDs using
-	 * remainder operator (modulus), a common approach to encode integers.
+	 * remainder operation (modulus) in chunks of several digits, dividing by the
+	 * largest power of the radix that fits in 31 bits. See
+	 * {@link BaseNChunkedEncoder} and {@link BaseNChunkedDecoder}.
 	 * <p>
 	 * The example below shows how to create a {@link BaseNCodec} for an
 	 * hypothetical base-26 encoding that contains only letters. You only need to
@@ -280,4 +302,190 @@ public abstract class BaseNCodec implements UuidCodec<String> {
 			throw new InvalidUuidException(e.getMessage(), e);
 		}
 	}
+
+	/**
+	 * Get a UUID from an encoded string, or null if the string is invalid.
+	 * 
+	 * @param string the encoded string
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(String string) {
+		if (string == null || string.length() != base.getLength()) {
+			return null;
+		}
+		return tryDecode(string, 0);
+	}
+
+	/**
+	 * Returns the length of the encoded strings.
+	 * 
+	 * @return the number of chars
+	 */
+	@Override
+	public int length() {
+		return base.getLength();
+	}
+
+	/**
+	 * Writes the encoded chars of a UUID into an array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there is not enough room in the array
+	 */
+	@Override
+	public int encodeTo(UUID uuid, char[] chars, int offset) {
+		RangeUtil.checkRange(chars.length, offset, base.getLength());
+		try {
+			UuidValidator.validate(uuid);
+			return encoder.apply(uuid, chars, offset);
+		} catch (RuntimeException e) {
+			throw new InvalidUuidException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Writes the encoded chars of a UUID, given as its most and least significant
+	 * bits, into an array.
+	 * <p>
+	 * It is useful for codecs that rearrange the bits of a UUID before encoding
+	 * them, since no intermediate UUID is created.
+	 * 
+	 * @param msb    the most significant bits
+	 * @param lsb    the least significant bits
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the encoder fails
+	 * @throws IndexOutOfBoundsException if there is not enough room in the array
+	 */
+	public int encodeTo(long msb, long lsb, char[] chars, int offset) {
+		RangeUtil.checkRange(chars.length, offset, base.getLength());
+		try {
+			return encoder.apply(msb, lsb, chars, offset);
+		} catch (RuntimeException e) {
+			throw new InvalidUuidException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Get a UUID from the encoded chars of a sequence, starting at an offset.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID decode(CharSequence chars, int offset) {
+		RangeUtil.checkRange(chars.length(), offset, base.getLength());
+		if (!base.isValid(chars, offset)) {
+			throw InvalidUuidException.newInstance(chars.subSequence(offset, offset + base.getLength()));
+		}
+		try {
+			return decoder.apply(chars, offset);
+		} catch (RuntimeException e) {
+			throw new InvalidUuidException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Get a UUID from the encoded chars of a sequence, or null if the chars are
+	 * invalid.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID, or null if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID tryDecode(CharSequence chars, int offset) {
+		RangeUtil.checkRange(chars.length(), offset, base.getLength());
+		if (!base.isValid(chars, offset)) {
+			return null;
+		}
+		return decoder.tryApply(chars, offset);
+	}
+
+	/**
+	 * Writes the encoded strings of many UUIDs into an array.
+	 * <p>
+	 * The UUIDs are given as pairs of most and least significant bits: the UUID
+	 * {@code n} is {@code uuids[2 * n]} and {@code uuids[2 * n + 1]}. The strings
+	 * are written one after another, {@link #length()} chars each, with no
+	 * separators.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @param count  the number of UUIDs
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the encoder fails
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	@Override
+	public int encodeAll(long[] uuids, int index, int count, char[] chars, int offset) {
+		final int length = base.getLength();
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		RangeUtil.checkRange(chars.length, offset, (long) length * count);
+		try {
+			for (int i = 0; i < count; i++) {
+				final int pair = (index + i) << 1;
+				encoder.apply(uuids[pair], uuids[pair + 1], chars, offset + i * length);
+			}
+		} catch (RuntimeException e) {
+			throw new InvalidUuidException(e.getMessage(), e);
+		}
+		return offset + length * count;
+	}
+
+	/**
+	 * Reads the encoded strings of many UUIDs from a char sequence.
+	 * <p>
+	 * The strings are read one after another, {@link #length()} chars each, with
+	 * no separators. The UUIDs are written as pairs of most and least significant
+	 * bits: the UUID {@code n} is {@code uuids[2 * n]} and
+	 * {@code uuids[2 * n + 1]}.
+	 * 
+	 * @param chars  the source char sequence
+	 * @param offset the index of the first char
+	 * @param count  the number of UUIDs
+	 * @param uuids  the destination array of pairs of most and least significant
+	 *               bits
+	 * @param index  the index of the first UUID, i.e. half the index in the array
+	 * @throws InvalidUuidException      if a string is invalid; the UUIDs before
+	 *                                   it are already written
+	 * @throws IndexOutOfBoundsException if a range is out of its array
+	 */
+	@Override
+	public void decodeAll(CharSequence chars, int offset, int count, long[] uuids, int index) {
+		final int length = base.getLength();
+		RangeUtil.checkRange(chars.length(), offset, (long) length * count);
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		int i = 0;
+		try {
+			for (; i < count; i++) {
+				final int start = offset + i * length;
+				if (!base.isValid(chars, start)) {
+					break;
+				}
+				final UUID uuid = decoder.apply(chars, start);
+				final int pair = (index + i) << 1;
+				uuids[pair] = uuid.getMostSignificantBits();
+				uuids[pair + 1] = uuid.getLeastSignificantBits();
+			}
+		} catch (RuntimeException e) {
+			throw new InvalidUuidException(e.getMessage(), e);
+		}
+		if (i < count) {
+			final int start = offset + i * length;
+			throw InvalidUuidException.newInstance(chars.subSequence(start, start + length));
+		}
+	}
 }
@@ -27,16 +27,29 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
 
 /**
  * Function that decodes a base-16 string to a UUID.
  * <p>
  * It is case insensitive, so it decodes in lower case and upper case.
+ * <p>
+ * If the alphabet is the standard one, it converts 8 digits at a time using
+ * {@link HexUtil}.
  * 
  * @see <a href="https://www.rfc-editor.org/rfc/rfc4648">RFC-4648</a>
  */
 public final class Base16Decoder extends BaseNDecoder {
 
+	private static final String LOWER_CASE = "0123456789abcdef";
+
+	/**
+	 * True if the alphabet is the standard case insensitive alphabet, so that
+	 * SWAR can be used.
+	 */
+	private final boolean swar;
+
 	/**
 	 * Constructor with a base-n.
 	 * 
@@ -44,49 +57,68 @@ public final class Base16Decoder extends BaseNDecoder {
 	 */
 	public Base16Decoder(BaseN base) {
 		super(base);
+		this.swar = !base.isSensitive() && LOWER_CASE.equals(new String(base.getAlphabet().array()));
 	}
 
 	@Override
 	public UUID apply(String string) {
+		return apply(string, 0);
+	}
+
+	@Override
+	public UUID apply(CharSequence string, int offset) {
 
-		char[] chars = string.toCharArray();
+		if (swar) {
+			final long a = HexUtil.decode(HexUtil.pack(string, offset + 0x00) << 32 //
+					| HexUtil.pack(string, offset + 0x04));
+			final long b = HexUtil.decode(HexUtil.pack(string, offset + 0x08) << 32 //
+					| HexUtil.pack(string, offset + 0x0c));
+			final long c = HexUtil.decode(HexUtil.pack(string, offset + 0x10) << 32 //
+					| HexUtil.pack(string, offset + 0x14));
+			final long d = HexUtil.decode(HexUtil.pack(string, offset + 0x18) << 32 //
+					| HexUtil.pack(string, offset + 0x1c));
+			if ((a | b | c | d) < 0) {
+				throw InvalidUuidException.newInstance(string.subSequence(offset, offset + 32));
+			}
+			return new UUID((a << 32) | b, (c << 32) | d);
+		}
 
 		long msb = 0;
 		long lsb = 0;
 
-		msb |= map.get(chars[0x00]) << 60;
-		msb |= map.get(chars[0x01]) << 56;
-		msb |= map.get(chars[0x02]) << 52;
-		msb |= map.get(chars[0x03]) << 48;
-		msb |= map.get(chars[0x04]) << 44;
-		msb |= map.get(chars[0x05]) << 40;
-		msb |= map.get(chars[0x06]) << 36;
-		msb |= map.get(chars[0x07]) << 32;
-		msb |= map.get(chars[0x08]) << 28;
-		msb |= map.get(chars[0x09]) << 24;
-		msb |= map.get(chars[0x0a]) << 20;
-		msb |= map.get(chars[0x0b]) << 16;
-		msb |= map.get(chars[0x0c]) << 12;
-		msb |= map.get(chars[0x0d]) << 8;
-		msb |= map.get(chars[0x0e]) << 4;
-		msb |= map.get(chars[0x0f]);
+		msb |= map.get(string.charAt(offset + 0x00)) << 60;
+		msb |= map.get(string.charAt(offset + 0x01)) << 56;
+		msb |= map.get(string.charAt(offset + 0x02)) << 52;
+		msb |= map.get(string.charAt(offset + 0x03)) << 48;
+		msb |= map.get(string.charAt(offset + 0x04)) << 44;
+		msb |= map.get(string.charAt(offset + 0x05)) << 40;
+		msb |= map.get(string.charAt(offset + 0x06)) << 36;
+		msb |= map.get(string.charAt(offset + 0x07)) << 32;
+		msb |= map.get(string.charAt(offset + 0x08)) << 28;
+		msb |= map.get(string.charAt(offset + 0x09)) << 24;
+		msb |= map.get(string.charAt(offset + 0x0a)) << 20;
+		msb |= map.get(string.charAt(offset + 0x0b)) << 16;
+		msb |= map.get(string.charAt(offset + 0x0c)) << 12;
+		msb |= map.get(string.charAt(offset + 0x0d)) << 8;
+		msb |= map.get(string.charAt(offset + 0x0e)) << 4;
+		msb |= map.get(string.charAt(offset + 0x0f));
 
-		lsb |= map.get(chars[0x10]) << 60;
-		lsb |= map.get(chars[0x11]) << 56;
-		lsb |= map.get(chars[0x12]) << 52;
-		lsb |= map.get(chars[0x13]) << 48;
-		lsb |= map.get(chars[0x14]) << 44;
-		lsb |= map.get(chars[0x15]) << 40;
-		lsb |= map.get(chars[0x16]) << 36;
-		lsb |= map.get(chars[0x17]) << 32;
-		lsb |= map.get(chars[0x18]) << 28;
-		lsb |= map.get(chars[0x19]) << 24;
-		lsb |= map.get(chars[0x1a]) << 20;
-		lsb |= map.get(chars[0x1b]) << 16;
-		lsb |= map.get(chars[0x1c]) << 12;
-		lsb |= map.get(chars[0x1d]) << 8;
-		lsb |= map.get(chars[0x1e]) << 4;
-		lsb |= map.get(chars[0x1f]);
+		lsb |= map.get(string.charAt(offset + 0x10)) << 60;
+		lsb |= map.get(string.charAt(offset + 0x11)) << 56;
+		lsb |= map.get(string.charAt(offset + 0x12)) << 52;
+		lsb |= map.get(string.charAt(offset + 0x13)) << 48;
+		lsb |= map.get(string.charAt(offset + 0x14)) << 44;
+		lsb |= map.get(string.charAt(offset + 0x15)) << 40;
+		lsb |= map.get(string.charAt(offset + 0x16)) << 36;
+		lsb |= map.get(string.charAt(offset + 0x17)) << 32;
+		lsb |= map.get(string.charAt(offset + 0x18)) << 28;
+		lsb |= map.get(string.charAt(offset + 0x19)) << 24;
+		lsb |= map.get(string.charAt(offset + 0x1a)) << 20;
+		lsb |= map.get(string.charAt(offset + 0x1b)) << 16;
+		lsb |= map.get(string.charAt(offset + 0x1c)) << 12;
+		lsb |= map.get(string.charAt(offset + 0x1d)) << 8;
+		lsb |= map.get(string.charAt(offset + 0x1e)) << 4;
+		lsb |= map.get(string.charAt(offset + 0x1f));
 
 		return new UUID(msb, lsb);
 	}
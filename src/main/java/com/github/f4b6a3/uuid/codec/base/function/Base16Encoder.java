@@ -27,11 +27,15 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.HexUtil;
 
 /**
  * Function that encodes a UUID to a base-16 string.
  * <p>
  * It encodes in lower case only.
+ * <p>
+ * If the alphabet is the standard one, it converts 8 digits at a time using
+ * {@link HexUtil}.
  * 
  * @see <a href="https://www.rfc-editor.org/rfc/rfc4648">RFC-4648</a>
  */
@@ -39,6 +43,14 @@ public final class Base16Encoder extends BaseNEncoder {
 
 	private static final int CHAR_LENGTH = 32;
 
+	private static final String LOWER_CASE = "0123456789abcdef";
+
+	/**
+	 * True if the alphabet is the standard lower case alphabet, so that SWAR can
+	 * be used.
+	 */
+	private final boolean swar;
+
 	/**
 	 * Constructor with a base-n.
 	 * 
@@ -46,49 +58,74 @@ public final class Base16Encoder extends BaseNEncoder {
 	 */
 	public Base16Encoder(BaseN base) {
 		super(base);
+		this.swar = LOWER_CASE.equals(new String(alphabet.array()));
 	}
 
 	@Override
 	public String apply(UUID uuid) {
-
 		final char[] chars = new char[CHAR_LENGTH];
-		final long msb = uuid.getMostSignificantBits();
-		final long lsb = uuid.getLeastSignificantBits();
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
 
-		chars[0x00] = alphabet.get((int) (msb >>> 0x3c & 0xf));
-		chars[0x01] = alphabet.get((int) (msb >>> 0x38 & 0xf));
-		chars[0x02] = alphabet.get((int) (msb >>> 0x34 & 0xf));
-		chars[0x03] = alphabet.get((int) (msb >>> 0x30 & 0xf));
-		chars[0x04] = alphabet.get((int) (msb >>> 0x2c & 0xf));
-		chars[0x05] = alphabet.get((int) (msb >>> 0x28 & 0xf));
-		chars[0x06] = alphabet.get((int) (msb >>> 0x24 & 0xf));
-		chars[0x07] = alphabet.get((int) (msb >>> 0x20 & 0xf));
-		chars[0x08] = alphabet.get((int) (msb >>> 0x1c & 0xf));
-		chars[0x09] = alphabet.get((int) (msb >>> 0x18 & 0xf));
-		chars[0x0a] = alphabet.get((int) (msb >>> 0x14 & 0xf));
-		chars[0x0b] = alphabet.get((int) (msb >>> 0x10 & 0xf));
-		chars[0x0c] = alphabet.get((int) (msb >>> 0x0c & 0xf));
-		chars[0x0d] = alphabet.get((int) (msb >>> 0x08 & 0xf));
-		chars[0x0e] = alphabet.get((int) (msb >>> 0x04 & 0xf));
-		chars[0x0f] = alphabet.get((int) (msb & 0xf));
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+		return apply(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, offset);
+	}
 
-		chars[0x10] = alphabet.get((int) (lsb >>> 0x3c & 0xf));
-		chars[0x11] = alphabet.get((int) (lsb >>> 0x38 & 0xf));
-		chars[0x12] = alphabet.get((int) (lsb >>> 0x34 & 0xf));
-		chars[0x13] = alphabet.get((int) (lsb >>> 0x30 & 0xf));
-		chars[0x14] = alphabet.get((int) (lsb >>> 0x2c & 0xf));
-		chars[0x15] = alphabet.get((int) (lsb >>> 0x28 & 0xf));
-		chars[0x16] = alphabet.get((int) (lsb >>> 0x24 & 0xf));
-		chars[0x17] = alphabet.get((int) (lsb >>> 0x20 & 0xf));
-		chars[0x18] = alphabet.get((int) (lsb >>> 0x1c & 0xf));
-		chars[0x19] = alphabet.get((int) (lsb >>> 0x18 & 0xf));
-		chars[0x1a] = alphabet.get((int) (lsb >>> 0x14 & 0xf));
-		chars[0x1b] = alphabet.get((int) (lsb >>> 0x10 & 0xf));
-		chars[0x1c] = alphabet.get((int) (lsb >>> 0x0c & 0xf));
-		chars[0x1d] = alphabet.get((int) (lsb >>> 0x08 & 0xf));
-		chars[0x1e] = alphabet.get((int) (lsb >>> 0x04 & 0xf));
-		chars[0x1f] = alphabet.get((int) (lsb & 0xf));
+	@Override
+	public int apply(long msb, long lsb, char[] chars, int offset) {
 
-		return new String(chars);
+		if (swar) {
+			final long a = HexUtil.encode(msb >>> 32);
+			final long b = HexUtil.encode(msb);
+			final long c = HexUtil.encode(lsb >>> 32);
+			final long d = HexUtil.encode(lsb);
+			HexUtil.unpack(a >>> 32, chars, offset + 0x00);
+			HexUtil.unpack(a, chars, offset + 0x04);
+			HexUtil.unpack(b >>> 32, chars, offset + 0x08);
+			HexUtil.unpack(b, chars, offset + 0x0c);
+			HexUtil.unpack(c >>> 32, chars, offset + 0x10);
+			HexUtil.unpack(c, chars, offset + 0x14);
+			HexUtil.unpack(d >>> 32, chars, offset + 0x18);
+			HexUtil.unpack(d, chars, offset + 0x1c);
+			return offset + CHAR_LENGTH;
+		}
+
+		chars[offset + 0x00] = alphabet.get((int) (msb >>> 0x3c & 0xf));
+		chars[offset + 0x01] = alphabet.get((int) (msb >>> 0x38 & 0xf));
+		chars[offset + 0x02] = alphabet.get((int) (msb >>> 0x34 & 0xf));
+		chars[offset + 0x03] = alphabet.get((int) (msb >>> 0x30 & 0xf));
+		chars[offset + 0x04] = alphabet.get((int) (msb >>> 0x2c & 0xf));
+		chars[offset + 0x05] = alphabet.get((int) (msb >>> 0x28 & 0xf));
+		chars[offset + 0x06] = alphabet.get((int) (msb >>> 0x24 & 0xf));
+		chars[offset + 0x07] = alphabet.get((int) (msb >>> 0x20 & 0xf));
+		chars[offset + 0x08] = alphabet.get((int) (msb >>> 0x1c & 0xf));
+		chars[offset + 0x09] = alphabet.get((int) (msb >>> 0x18 & 0xf));
+		chars[offset + 0x0a] = alphabet.get((int) (msb >>> 0x14 & 0xf));
+		chars[offset + 0x0b] = alphabet.get((int) (msb >>> 0x10 & 0xf));
+		chars[offset + 0x0c] = alphabet.get((int) (msb >>> 0x0c & 0xf));
+		chars[offset + 0x0d] = alphabet.get((int) (msb >>> 0x08 & 0xf));
+		chars[offset + 0x0e] = alphabet.get((int) (msb >>> 0x04 & 0xf));
+		chars[offset + 0x0f] = alphabet.get((int) (msb & 0xf));
+
+		chars[offset + 0x10] = alphabet.get((int) (lsb >>> 0x3c & 0xf));
+		chars[offset + 0x11] = alphabet.get((int) (lsb >>> 0x38 & 0xf));
+		chars[offset + 0x12] = alphabet.get((int) (lsb >>> 0x34 & 0xf));
+		chars[offset + 0x13] = alphabet.get((int) (lsb >>> 0x30 & 0xf));
+		chars[offset + 0x14] = alphabet.get((int) (lsb >>> 0x2c & 0xf));
+		chars[offset + 0x15] = alphabet.get((int) (lsb >>> 0x28 & 0xf));
+		chars[offset + 0x16] = alphabet.get((int) (lsb >>> 0x24 & 0xf));
+		chars[offset + 0x17] = alphabet.get((int) (lsb >>> 0x20 & 0xf));
+		chars[offset + 0x18] = alphabet.get((int) (lsb >>> 0x1c & 0xf));
+		chars[offset + 0x19] = alphabet.get((int) (lsb >>> 0x18 & 0xf));
+		chars[offset + 0x1a] = alphabet.get((int) (lsb >>> 0x14 & 0xf));
+		chars[offset + 0x1b] = alphabet.get((int) (lsb >>> 0x10 & 0xf));
+		chars[offset + 0x1c] = alphabet.get((int) (lsb >>> 0x0c & 0xf));
+		chars[offset + 0x1d] = alphabet.get((int) (lsb >>> 0x08 & 0xf));
+		chars[offset + 0x1e] = alphabet.get((int) (lsb >>> 0x04 & 0xf));
+		chars[offset + 0x1f] = alphabet.get((int) (lsb & 0xf));
+
+		return offset + CHAR_LENGTH;
 	}
 }
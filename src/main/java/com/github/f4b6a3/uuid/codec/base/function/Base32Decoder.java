@@ -48,41 +48,44 @@ public final class Base32Decoder extends BaseNDecoder {
 
 	@Override
 	public UUID apply(String string) {
+		return apply(string, 0);
+	}
 
-		char[] chars = string.toCharArray();
+	@Override
+	public UUID apply(CharSequence string, int offset) {
 
 		long msb = 0;
 		long lsb = 0;
 
-		msb |= map.get(chars[0x00]) << 59;
-		msb |= map.get(chars[0x01]) << 54;
-		msb |= map.get(chars[0x02]) << 49;
-		msb |= map.get(chars[0x03]) << 44;
-		msb |= map.get(chars[0x04]) << 39;
-		msb |= map.get(chars[0x05]) << 34;
-		msb |= map.get(chars[0x06]) << 29;
-		msb |= map.get(chars[0x07]) << 24;
-		msb |= map.get(chars[0x08]) << 19;
-		msb |= map.get(chars[0x09]) << 14;
-		msb |= map.get(chars[0x0a]) << 9;
-		msb |= map.get(chars[0x0b]) << 4;
+		msb |= map.get(string.charAt(offset + 0x00)) << 59;
+		msb |= map.get(string.charAt(offset + 0x01)) << 54;
+		msb |= map.get(string.charAt(offset + 0x02)) << 49;
+		msb |= map.get(string.charAt(offset + 0x03)) << 44;
+		msb |= map.get(string.charAt(offset + 0x04)) << 39;
+		msb |= map.get(string.charAt(offset + 0x05)) << 34;
+		msb |= map.get(string.charAt(offset + 0x06)) << 29;
+		msb |= map.get(string.charAt(offset + 0x07)) << 24;
+		msb |= map.get(string.charAt(offset + 0x08)) << 19;
+		msb |= map.get(string.charAt(offset + 0x09)) << 14;
+		msb |= map.get(string.charAt(offset + 0x0a)) << 9;
+		msb |= map.get(string.charAt(offset + 0x0b)) << 4;
 
-		msb |= map.get(chars[0x0c]) >>> 1;
-		lsb |= map.get(chars[0x0c]) << 63;
+		msb |= map.get(string.charAt(offset + 0x0c)) >>> 1;
+		lsb |= map.get(string.charAt(offset + 0x0c)) << 63;
 
-		lsb |= map.get(chars[0x0d]) << 58;
-		lsb |= map.get(chars[0x0e]) << 53;
-		lsb |= map.get(chars[0x0f]) << 48;
-		lsb |= map.get(chars[0x10]) << 43;
-		lsb |= map.get(chars[0x11]) << 38;
-		lsb |= map.get(chars[0x12]) << 33;
-		lsb |= map.get(chars[0x13]) << 28;
-		lsb |= map.get(chars[0x14]) << 23;
-		lsb |= map.get(chars[0x15]) << 18;
-		lsb |= map.get(chars[0x16]) << 13;
-		lsb |= map.get(chars[0x17]) << 8;
-		lsb |= map.get(chars[0x18]) << 3;
-		lsb |= map.get(chars[0x19]) >>> 2;
+		lsb |= map.get(string.charAt(offset + 0x0d)) << 58;
+		lsb |= map.get(string.charAt(offset + 0x0e)) << 53;
+		lsb |= map.get(string.charAt(offset + 0x0f)) << 48;
+		lsb |= map.get(string.charAt(offset + 0x10)) << 43;
+		lsb |= map.get(string.charAt(offset + 0x11)) << 38;
+		lsb |= map.get(string.charAt(offset + 0x12)) << 33;
+		lsb |= map.get(string.charAt(offset + 0x13)) << 28;
+		lsb |= map.get(string.charAt(offset + 0x14)) << 23;
+		lsb |= map.get(string.charAt(offset + 0x15)) << 18;
+		lsb |= map.get(string.charAt(offset + 0x16)) << 13;
+		lsb |= map.get(string.charAt(offset + 0x17)) << 8;
+		lsb |= map.get(string.charAt(offset + 0x18)) << 3;
+		lsb |= map.get(string.charAt(offset + 0x19)) >>> 2;
 
 		return new UUID(msb, lsb);
 	}
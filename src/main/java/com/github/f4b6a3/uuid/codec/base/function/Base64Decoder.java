@@ -48,37 +48,40 @@ public final class Base64Decoder extends BaseNDecoder {
 
 	@Override
 	public UUID apply(String string) {
+		return apply(string, 0);
+	}
 
-		char[] chars = string.toCharArray();
+	@Override
+	public UUID apply(CharSequence string, int offset) {
 
 		long msb = 0;
 		long lsb = 0;
 
-		msb |= map.get(chars[0x00]) << 58;
-		msb |= map.get(chars[0x01]) << 52;
-		msb |= map.get(chars[0x02]) << 46;
-		msb |= map.get(chars[0x03]) << 40;
-		msb |= map.get(chars[0x04]) << 34;
-		msb |= map.get(chars[0x05]) << 28;
-		msb |= map.get(chars[0x06]) << 22;
-		msb |= map.get(chars[0x07]) << 16;
-		msb |= map.get(chars[0x08]) << 10;
-		msb |= map.get(chars[0x09]) << 4;
+		msb |= map.get(string.charAt(offset + 0x00)) << 58;
+		msb |= map.get(string.charAt(offset + 0x01)) << 52;
+		msb |= map.get(string.charAt(offset + 0x02)) << 46;
+		msb |= map.get(string.charAt(offset + 0x03)) << 40;
+		msb |= map.get(string.charAt(offset + 0x04)) << 34;
+		msb |= map.get(string.charAt(offset + 0x05)) << 28;
+		msb |= map.get(string.charAt(offset + 0x06)) << 22;
+		msb |= map.get(string.charAt(offset + 0x07)) << 16;
+		msb |= map.get(string.charAt(offset + 0x08)) << 10;
+		msb |= map.get(string.charAt(offset + 0x09)) << 4;
 
-		msb |= map.get(chars[0x0a]) >>> 2;
-		lsb |= map.get(chars[0x0a]) << 62;
+		msb |= map.get(string.charAt(offset + 0x0a)) >>> 2;
+		lsb |= map.get(string.charAt(offset + 0x0a)) << 62;
 
-		lsb |= map.get(chars[0x0b]) << 56;
-		lsb |= map.get(chars[0x0c]) << 50;
-		lsb |= map.get(chars[0x0d]) << 44;
-		lsb |= map.get(chars[0x0e]) << 38;
-		lsb |= map.get(chars[0x0f]) << 32;
-		lsb |= map.get(chars[0x10]) << 26;
-		lsb |= map.get(chars[0x11]) << 20;
-		lsb |= map.get(chars[0x12]) << 14;
-		lsb |= map.get(chars[0x13]) << 8;
-		lsb |= map.get(chars[0x14]) << 2;
-		lsb |= map.get(chars[0x15]) >>> 4;
+		lsb |= map.get(string.charAt(offset + 0x0b)) << 56;
+		lsb |= map.get(string.charAt(offset + 0x0c)) << 50;
+		lsb |= map.get(string.charAt(offset + 0x0d)) << 44;
+		lsb |= map.get(string.charAt(offset + 0x0e)) << 38;
+		lsb |= map.get(string.charAt(offset + 0x0f)) << 32;
+		lsb |= map.get(string.charAt(offset + 0x10)) << 26;
+		lsb |= map.get(string.charAt(offset + 0x11)) << 20;
+		lsb |= map.get(string.charAt(offset + 0x12)) << 14;
+		lsb |= map.get(string.charAt(offset + 0x13)) << 8;
+		lsb |= map.get(string.charAt(offset + 0x14)) << 2;
+		lsb |= map.get(string.charAt(offset + 0x15)) >>> 4;
 
 		return new UUID(msb, lsb);
 	}
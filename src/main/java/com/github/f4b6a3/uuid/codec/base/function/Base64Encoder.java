@@ -48,36 +48,44 @@ public final class Base64Encoder extends BaseNEncoder {
 
 	@Override
 	public String apply(UUID uuid) {
-
 		final char[] chars = new char[CHAR_LENGTH];
-		long msb = uuid.getMostSignificantBits();
-		long lsb = uuid.getLeastSignificantBits();
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
 
-		chars[0x00] = alphabet.get((int) ((msb >>> 58) & 0b111111));
-		chars[0x01] = alphabet.get((int) ((msb >>> 52) & 0b111111));
-		chars[0x02] = alphabet.get((int) ((msb >>> 46) & 0b111111));
-		chars[0x03] = alphabet.get((int) ((msb >>> 40) & 0b111111));
-		chars[0x04] = alphabet.get((int) ((msb >>> 34) & 0b111111));
-		chars[0x05] = alphabet.get((int) ((msb >>> 28) & 0b111111));
-		chars[0x06] = alphabet.get((int) ((msb >>> 22) & 0b111111));
-		chars[0x07] = alphabet.get((int) ((msb >>> 16) & 0b111111));
-		chars[0x08] = alphabet.get((int) ((msb >>> 10) & 0b111111));
-		chars[0x09] = alphabet.get((int) ((msb >>> 4) & 0b111111));
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+		return apply(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, offset);
+	}
 
-		chars[0x0a] = alphabet.get((int) (msb << 2 & 0b111111) | (int) ((lsb >>> 62) & 0b111111));
+	@Override
+	public int apply(long msb, long lsb, char[] chars, int offset) {
 
-		chars[0x0b] = alphabet.get((int) ((lsb >>> 56) & 0b111111));
-		chars[0x0c] = alphabet.get((int) ((lsb >>> 50) & 0b111111));
-		chars[0x0d] = alphabet.get((int) ((lsb >>> 44) & 0b111111));
-		chars[0x0e] = alphabet.get((int) ((lsb >>> 38) & 0b111111));
-		chars[0x0f] = alphabet.get((int) ((lsb >>> 32) & 0b111111));
-		chars[0x10] = alphabet.get((int) ((lsb >>> 26) & 0b111111));
-		chars[0x11] = alphabet.get((int) ((lsb >>> 20) & 0b111111));
-		chars[0x12] = alphabet.get((int) ((lsb >>> 14) & 0b111111));
-		chars[0x13] = alphabet.get((int) ((lsb >>> 8) & 0b111111));
-		chars[0x14] = alphabet.get((int) ((lsb >>> 2) & 0b111111));
-		chars[0x15] = alphabet.get((int) ((lsb << 4) & 0b111111));
+		chars[offset + 0x00] = alphabet.get((int) ((msb >>> 58) & 0b111111));
+		chars[offset + 0x01] = alphabet.get((int) ((msb >>> 52) & 0b111111));
+		chars[offset + 0x02] = alphabet.get((int) ((msb >>> 46) & 0b111111));
+		chars[offset + 0x03] = alphabet.get((int) ((msb >>> 40) & 0b111111));
+		chars[offset + 0x04] = alphabet.get((int) ((msb >>> 34) & 0b111111));
+		chars[offset + 0x05] = alphabet.get((int) ((msb >>> 28) & 0b111111));
+		chars[offset + 0x06] = alphabet.get((int) ((msb >>> 22) & 0b111111));
+		chars[offset + 0x07] = alphabet.get((int) ((msb >>> 16) & 0b111111));
+		chars[offset + 0x08] = alphabet.get((int) ((msb >>> 10) & 0b111111));
+		chars[offset + 0x09] = alphabet.get((int) ((msb >>> 4) & 0b111111));
 
-		return new String(chars);
+		chars[offset + 0x0a] = alphabet.get((int) (msb << 2 & 0b111111) | (int) ((lsb >>> 62) & 0b111111));
+
+		chars[offset + 0x0b] = alphabet.get((int) ((lsb >>> 56) & 0b111111));
+		chars[offset + 0x0c] = alphabet.get((int) ((lsb >>> 50) & 0b111111));
+		chars[offset + 0x0d] = alphabet.get((int) ((lsb >>> 44) & 0b111111));
+		chars[offset + 0x0e] = alphabet.get((int) ((lsb >>> 38) & 0b111111));
+		chars[offset + 0x0f] = alphabet.get((int) ((lsb >>> 32) & 0b111111));
+		chars[offset + 0x10] = alphabet.get((int) ((lsb >>> 26) & 0b111111));
+		chars[offset + 0x11] = alphabet.get((int) ((lsb >>> 20) & 0b111111));
+		chars[offset + 0x12] = alphabet.get((int) ((lsb >>> 14) & 0b111111));
+		chars[offset + 0x13] = alphabet.get((int) ((lsb >>> 8) & 0b111111));
+		chars[offset + 0x14] = alphabet.get((int) ((lsb >>> 2) & 0b111111));
+		chars[offset + 0x15] = alphabet.get((int) ((lsb << 4) & 0b111111));
+
+		return offset + CHAR_LENGTH;
 	}
 }
@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+
+/**
+ * Function that decodes a base-n string to a UUID.
+ * <p>
+ * It decodes the strings of {@link BaseNChunkedEncoder} and
+ * {@link BaseNRemainderEncoder}. The digits are read in chunks of several
+ * digits, and the whole number is multiplied once per chunk.
+ */
+public final class BaseNChunkedDecoder extends BaseNDecoder {
+
+	private final long radix;
+	private final int digits;
+	private final long multiplier;
+
+	private static final long MASK = 0x00000000ffffffffL;
+
+	/**
+	 * Constructor with a base-n.
+	 * 
+	 * @param base a base-n
+	 */
+	public BaseNChunkedDecoder(BaseN base) {
+		super(base);
+		radix = base.getRadix();
+		digits = BaseNChunkedEncoder.digits(radix);
+		multiplier = BaseNChunkedEncoder.power(radix, digits);
+	}
+
+	@Override
+	public UUID apply(String string) {
+		return apply(string, 0, string.length());
+	}
+
+	@Override
+	public UUID apply(CharSequence string, int offset) {
+		return apply(string, offset, base.getLength());
+	}
+
+	@Override
+	public UUID tryApply(CharSequence string, int offset) {
+		return decode(string, offset, base.getLength());
+	}
+
+	private UUID apply(CharSequence string, int offset, int length) {
+		final UUID uuid = decode(string, offset, length);
+		if (uuid == null) {
+			throw newException(string, offset, length);
+		}
+		return uuid;
+	}
+
+	/**
+	 * Returns null if a digit is invalid or the number overflows 128 bits.
+	 */
+	private UUID decode(CharSequence string, int offset, int length) {
+
+		// the number as four 32-bit words
+		long w0 = 0;
+		long w1 = 0;
+		long w2 = 0;
+		long w3 = 0;
+
+		long mul; // product of 32 bits
+		long chunk; // value of a chunk of digits
+		long digit; // value of a digit
+		long invalid = 0; // negative if any digit is invalid
+		long overflow = 0; // bits above 128
+
+		final int last = offset + length;
+
+		// the first chunk can be shorter than the others
+		int end = offset + length % digits;
+		if (end == offset) {
+			end += digits;
+		}
+
+		int i = offset;
+		while (i < last) {
+
+			chunk = 0;
+			for (; i < end; i++) {
+				digit = digit(string.charAt(i));
+				chunk = chunk * radix + digit;
+				invalid |= digit;
+			}
+			end += digits;
+
+			mul = w3 * multiplier + chunk;
+			w3 = mul & MASK;
+			mul = w2 * multiplier + (mul >>> 32);
+			w2 = mul & MASK;
+			mul = w1 * multiplier + (mul >>> 32);
+			w1 = mul & MASK;
+			mul = w0 * multiplier + (mul >>> 32);
+			w0 = mul & MASK;
+
+			overflow |= mul >>> 32;
+		}
+
+		if (invalid < 0 || overflow != 0) {
+			return null;
+		}
+
+		return new UUID((w0 << 32) | w1, (w2 << 32) | w3);
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import java.math.BigInteger;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
+
+/**
+ * Function that encodes a UUID to a base-n string.
+ * <p>
+ * It produces the same strings as {@link BaseNRemainderEncoder}, but instead of
+ * dividing the whole number by the radix for each digit, it divides by the
+ * largest power of the radix that fits in 31 bits, for example 62^5 for
+ * base-62. Each remainder is a chunk of several digits that are split using
+ * arithmetic on a single long.
+ * <p>
+ * All divisions are performed as multiplications by reciprocals.
+ */
+public final class BaseNChunkedEncoder extends BaseNEncoder {
+
+	private final int length;
+	private final char padding;
+
+	private final long radix;
+	private final long reciprocal;
+	private final int shift;
+
+	private final int digits;
+	private final long divisor;
+	private final long magic;
+	private final int magicShift;
+
+	private static final long MASK = 0x00000000ffffffffL;
+
+	/**
+	 * Constructor with a base-n.
+	 * 
+	 * @param base a base-n
+	 */
+	public BaseNChunkedEncoder(BaseN base) {
+		super(base);
+
+		length = base.getLength();
+		padding = base.getPadding();
+		radix = base.getRadix();
+
+		if ((radix & (radix - 1)) == 0) {
+			shift = Long.numberOfTrailingZeros(radix);
+			reciprocal = 0;
+		} else {
+			shift = -1;
+			// ceil(2^64 / radix)
+			reciprocal = Long.divideUnsigned(-1L, radix) + 1;
+		}
+
+		digits = digits(radix);
+		divisor = power(radix, digits);
+		magicShift = magicShift(divisor);
+		magic = magic(divisor).longValue();
+	}
+
+	@Override
+	public String apply(UUID uuid) {
+		final char[] chars = new char[length];
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+		return apply(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, offset);
+	}
+
+	@Override
+	public int apply(long msb, long lsb, char[] chars, int offset) {
+
+		// the number as four 32-bit words
+		long w0 = msb >>> 32;
+		long w1 = msb & MASK;
+		long w2 = lsb >>> 32;
+		long w3 = lsb & MASK;
+
+		int b = offset + length; // buffer index
+
+		long x; // dividend
+		long q; // quotient
+		long chunk; // remainder
+
+		// fill in the buffer backwards, one chunk at a time
+		while ((w0 | w1 | w2 | w3) != 0) {
+
+			x = w0;
+			q = chunkQuotient(x);
+			chunk = x - q * divisor;
+			w0 = q;
+
+			x = (chunk << 32) | w1;
+			q = chunkQuotient(x);
+			chunk = x - q * divisor;
+			w1 = q;
+
+			x = (chunk << 32) | w2;
+			q = chunkQuotient(x);
+			chunk = x - q * divisor;
+			w2 = q;
+
+			x = (chunk << 32) | w3;
+			q = chunkQuotient(x);
+			chunk = x - q * divisor;
+			w3 = q;
+
+			// split the chunk into digits
+			for (int i = 0; i < digits && b > offset; i++) {
+				q = quotient(chunk);
+				chars[--b] = alphabet.get((int) (chunk - q * radix));
+				chunk = q;
+			}
+		}
+
+		// complete padding
+		while (b > offset) {
+			chars[--b] = padding;
+		}
+
+		return offset + length;
+	}
+
+	/**
+	 * Returns the quotient of a number divided by the radix.
+	 * 
+	 * @param x a number less than 2^31
+	 * @return the quotient
+	 */
+	long quotient(final long x) {
+		if (shift >= 0) {
+			return x >>> shift;
+		}
+		return PlatformUtil.multiplyHigh(x, reciprocal);
+	}
+
+	/**
+	 * Returns the quotient of a number divided by the chunk divisor.
+	 * 
+	 * @param x a number less than {@code divisor << 32}
+	 * @return the quotient
+	 */
+	long chunkQuotient(final long x) {
+		return PlatformUtil.multiplyHigh(x, magic) >>> magicShift;
+	}
+
+	/**
+	 * Returns the number of digits per chunk.
+	 * <p>
+	 * It is the largest exponent k for which radix^k is less than 2^31 and has a
+	 * magic number less than 2^63.
+	 * 
+	 * @param radix a radix from 2 to 64
+	 * @return the number of digits per chunk
+	 */
+	static int digits(final long radix) {
+		int k = 1;
+		long next = radix * radix;
+		while (next < (1L << 31) && magic(next).bitLength() < 64) {
+			k++;
+			next *= radix;
+		}
+		return k;
+	}
+
+	/**
+	 * Returns a number raised to a power.
+	 * 
+	 * @param radix    a radix
+	 * @param exponent an exponent
+	 * @return the power
+	 */
+	static long power(final long radix, final int exponent) {
+		long power = 1;
+		for (int i = 0; i < exponent; i++) {
+			power *= radix;
+		}
+		return power;
+	}
+
+	/**
+	 * Returns the shift used with the magic number of a divisor.
+	 * <p>
+	 * The dividends are less than {@code divisor << 32}. If the magic number is
+	 * {@code ceil(2^(64 + s) / divisor)}, its error times the dividend is less than
+	 * {@code divisor^2 * 2^32}, which must not exceed {@code 2^(64 + s)} for the
+	 * quotient to be exact.
+	 */
+	private static int magicShift(final long divisor) {
+		final int bits = 64 - Long.numberOfLeadingZeros(divisor);
+		return Math.max(0, 2 * bits - 32);
+	}
+
+	// ceil(2^(64 + s) / divisor)
+	private static BigInteger magic(final long divisor) {
+		final BigInteger d = BigInteger.valueOf(divisor);
+		return BigInteger.ONE.shiftLeft(64 + magicShift(divisor)).add(d).subtract(BigInteger.ONE).divide(d);
+	}
+}
@@ -28,6 +28,7 @@ import java.util.UUID;
 import java.util.function.Function;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.immutable.LongArray;
 
 /**
@@ -54,4 +55,66 @@ public abstract class BaseNDecoder implements Function<String, UUID> {
 		this.base = base;
 		this.map = base.getMap();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns the value of a digit, or -1 if the char is not in the alphabet.
+	 * 
+	 * @param c a char
+	 * @return the value of the digit or -1
+	 */
+	protected final long digit(char c) {
+		return c < map.length() ? map.get(c) : -1;
+	}
+
+	/**
+	 * Decodes the chars of a sequence, starting at an offset.
+	 * <p>
+	 * It reads as many chars as the length of the base-n. The decoders of this
+	 * package override it to read the chars directly.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID
+	 */
+	public UUID apply(CharSequence chars, int offset) {
+		return apply(chars.subSequence(offset, offset + base.getLength()).toString());
+	}
+
+	/**
+	 * Decodes the chars of a sequence, starting at an offset, without throwing
+	 * exceptions for invalid chars.
+	 * <p>
+	 * It reads as many chars as the length of the base-n. The decoders of this
+	 * package override it to return null without creating an exception.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID, or null if the chars are invalid
+	 */
+	public UUID tryApply(CharSequence chars, int offset) {
+		try {
+			return apply(chars, offset);
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns an exception for the chars of a sequence that can't be decoded.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @param length the number of chars
+	 * @return an exception
+	 */
+	protected InvalidUuidException newException(CharSequence chars, int offset, int length) {
+		final CharSequence string = chars.subSequence(offset, offset + length);
+		for (int i = 0; i < string.length(); i++) {
+			final char c = string.charAt(i);
+			if (digit(c) < 0) {
+				return new InvalidUuidException("Invalid encoded string: \"" + string + "\"");
+			}
+		}
+		return new InvalidUuidException("Invalid encoded string (overflow): \"" + string + "\"");
+	}
+}
@@ -54,4 +54,37 @@ public abstract class BaseNEncoder implements Function<UUID, String> {
 		this.base = base;
 		this.alphabet = base.getAlphabet();
 	}
+
+	/**
+	 * Writes the encoded chars of a UUID into an array.
+	 * <p>
+	 * The encoders of this package override it to write the chars directly.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 */
+	public int apply(UUID uuid, char[] chars, int offset) {
+		final String string = apply(uuid);
+		string.getChars(0, string.length(), chars, offset);
+		return offset + string.length();
+	}
+
+	/**
+	 * Writes the encoded chars of a UUID, given as its most and least significant
+	 * bits, into an array.
+	 * <p>
+	 * The encoders of this package override it, so that callers that already have
+	 * the bits don't need to create a UUID.
+	 * 
+	 * @param msb    the most significant bits
+	 * @param lsb    the least significant bits
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 */
+	public int apply(long msb, long lsb, char[] chars, int offset) {
+		return apply(new UUID(msb, lsb), chars, offset);
+	}
 }
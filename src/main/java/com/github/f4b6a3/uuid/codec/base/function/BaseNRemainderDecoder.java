@@ -27,7 +27,6 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.BaseN;
-import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 
 /**
  * Function that decodes a base-n string to a UUID.
@@ -35,7 +34,8 @@ import com.github.f4b6a3.uuid.exception.InvalidUuidException;
  * It decodes strings created by encoders that use remainder operator (modulus),
  * a common approach to encode integers.
  * <p>
- * The decoding process is performed using integer arithmetic.
+ * The decoding process is performed using integer arithmetic. It allocates
+ * nothing but the output UUID.
  */
 public final class BaseNRemainderDecoder extends BaseNDecoder {
 
@@ -53,28 +53,65 @@ public final class BaseNRemainderDecoder extends BaseNDecoder {
 		multiplier = base.getRadix();
 	}
 
+	@Override
 	public UUID apply(String string) {
+		return apply(string, 0, string.length());
+	}
+
+	@Override
+	public UUID apply(CharSequence string, int offset) {
+		return apply(string, offset, base.getLength());
+	}
+
+	@Override
+	public UUID tryApply(CharSequence string, int offset) {
+		return decode(string, offset, base.getLength());
+	}
 
-		final char[] chars = string.toCharArray();
+	private UUID apply(CharSequence string, int offset, int length) {
+		final UUID uuid = decode(string, offset, length);
+		if (uuid == null) {
+			throw newException(string, offset, length);
+		}
+		return uuid;
+	}
+
+	/**
+	 * Returns null if a digit is invalid or the number overflows 128 bits.
+	 */
+	private UUID decode(CharSequence string, int offset, int length) {
 
 		long msb = 0;
 		long lsb = 0;
 
-		long rem = 0; // remainder
-		long[] ans; // [product, overflow]
-
-		for (int i = 0; i < chars.length; i++) {
-			rem = (int) map.get(chars[i]);
-			ans = multiply(lsb, multiplier, rem);
-			lsb = ans[0];
-			rem = ans[1];
-			ans = multiply(msb, multiplier, rem);
-			msb = ans[0];
-			rem = ans[1];
+		long mul; // product of 32 bits
+		long low; // low 32 bits of the product
+		long carry; // carry to the next 32 bits
+		long overflow = 0; // bits above 128
+		long invalid = 0; // negative if any digit is invalid
+
+		for (int i = offset; i < offset + length; i++) {
+			carry = digit(string.charAt(i));
+			invalid |= carry;
+
+			// multiply the 128 bits by the radix, 32 bits at a time
+			mul = (lsb & MASK) * multiplier + carry;
+			low = mul & MASK;
+			mul = (lsb >>> 32) * multiplier + (mul >>> 32);
+			lsb = (mul << 32) | low;
+			carry = mul >>> 32;
+
+			mul = (msb & MASK) * multiplier + carry;
+			low = mul & MASK;
+			mul = (msb >>> 32) * multiplier + (mul >>> 32);
+			msb = (mul << 32) | low;
+			carry = mul >>> 32;
+
+			overflow |= carry;
 		}
 
-		if (rem != 0) {
-			throw new InvalidUuidException("Invalid encoded string (overflow): \"" + string + "\"");
+		if (invalid < 0 || overflow != 0) {
+			return null;
 		}
 
 		return new UUID(msb, lsb);
@@ -27,6 +27,7 @@ package com.github.f4b6a3.uuid.codec.base.function;
 import java.util.UUID;
 import com.github.f4b6a3.uuid.codec.base.BaseN;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec.CustomDivider;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
 
 /**
  * Function that encodes a UUID to a base-n string.
@@ -34,13 +35,18 @@ import com.github.f4b6a3.uuid.codec.base.BaseNCodec.CustomDivider;
  * It encodes using remainder operator (modulus), a common approach to encode
  * integers.
  * <p>
- * The encoding process is performed using integer arithmetic.
+ * The encoding process is performed using integer arithmetic. Unless a
+ * {@link CustomDivider} is given, it allocates nothing but the output string.
  */
 public final class BaseNRemainderEncoder extends BaseNEncoder {
 
 	private final int length;
 	private final char padding;
 
+	private final long radix;
+	private final long reciprocal;
+	private final int shift;
+
 	/**
 	 * A custom divider for optimization.
 	 */
@@ -68,23 +74,98 @@ public final class BaseNRemainderEncoder extends BaseNEncoder {
 
 		length = base.getLength();
 		padding = base.getPadding();
-		final long radix = base.getRadix();
+		radix = base.getRadix();
 
-		if (divider != null) {
-			this.divider = divider;
+		if ((radix & (radix - 1)) == 0) {
+			shift = Long.numberOfTrailingZeros(radix);
+			reciprocal = 0;
 		} else {
-			this.divider = x -> new long[] { x / radix, x % radix };
+			shift = -1;
+			// ceil(2^64 / radix)
+			reciprocal = Long.divideUnsigned(-1L, radix) + 1;
 		}
+
+		this.divider = divider;
 	}
 
 	@Override
 	public String apply(UUID uuid) {
+		final char[] chars = new char[length];
+		apply(uuid, chars, 0);
+		return new String(chars);
+	}
+
+	@Override
+	public int apply(UUID uuid, char[] chars, int offset) {
+		return apply(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, offset);
+	}
+
+	@Override
+	public int apply(long msb, long lsb, char[] chars, int offset) {
+
+		if (divider != null) {
+			return applyCustom(msb, lsb, chars, offset);
+		}
+
+		int b = offset + length; // buffer index
+
+		long rem; // remainder
+		long x; // dividend
+		long q1; // quotient of the high 32 bits
+		long q2; // quotient of the low 32 bits
+
+		// fill in the buffer backwards, dividing
+		// the 128 bits by the radix, 32 bits at a time
+		while (msb != 0 || lsb != 0) {
+
+			x = msb >>> 32;
+			q1 = quotient(x);
+			rem = x - q1 * radix;
+			x = (rem << 32) | (msb & MASK);
+			q2 = quotient(x);
+			rem = x - q2 * radix;
+			msb = (q1 << 32) | q2;
+
+			x = (rem << 32) | (lsb >>> 32);
+			q1 = quotient(x);
+			rem = x - q1 * radix;
+			x = (rem << 32) | (lsb & MASK);
+			q2 = quotient(x);
+			rem = x - q2 * radix;
+			lsb = (q1 << 32) | q2;
+
+			chars[--b] = alphabet.get((int) rem);
+		}
+
+		// complete padding
+		while (b > offset) {
+			chars[--b] = padding;
+		}
+
+		return offset + length;
+	}
+
+	/**
+	 * Returns the quotient of a number divided by the radix.
+	 * <p>
+	 * The numbers passed by this class are less than {@code radix << 32}, so they
+	 * can be divided exactly by taking the high bits of the product with the
+	 * reciprocal of the radix, which is faster than the division instruction.
+	 * 
+	 * @param x a number less than {@code radix << 32}
+	 * @return the quotient
+	 */
+	long quotient(final long x) {
+		if (shift >= 0) {
+			return x >>> shift;
+		}
+		return PlatformUtil.multiplyHigh(x, reciprocal);
+	}
 
-		long msb = uuid.getMostSignificantBits();
-		long lsb = uuid.getLeastSignificantBits();
+	// the slow path for a custom divider
+	private int applyCustom(long msb, long lsb, char[] chars, int offset) {
 
-		int b = length; // buffer index
-		char[] buffer = new char[length];
+		int b = offset + length; // buffer index
 
 		long rem = 0; // remainder
 		long[] ans; // [quotient, remainder]
@@ -98,15 +179,15 @@ public final class BaseNRemainderEncoder extends BaseNEncoder {
 			ans = divide(lsb, divider, rem);
 			lsb = ans[0]; // quotient
 			rem = ans[1]; // remainder
-			buffer[--b] = alphabet.get((int) rem);
+			chars[--b] = alphabet.get((int) rem);
 		}
 
 		// complete padding
-		while (b > 0) {
-			buffer[--b] = padding;
+		while (b > offset) {
+			chars[--b] = padding;
 		}
 
-		return new String(buffer);
+		return offset + length;
 	}
 
 	/**
@@ -108,23 +108,7 @@ public class DotNetGuid1Codec implements UuidCodec<UUID> {
 	 * @return another UUID
 	 */
 	protected static UUID toAndFromDotNetGuid(UUID uuid) {
-
-		long msb = uuid.getMostSignificantBits();
-		long lsb = uuid.getLeastSignificantBits();
-
-		long newMsb = 0x0000000000000000L;
-		// high bits
-		newMsb |= (msb & 0xff000000_0000_0000L) >>> 24;
-		newMsb |= (msb & 0x00ff0000_0000_0000L) >>> 8;
-		newMsb |= (msb & 0x0000ff00_0000_0000L) << 8;
-		newMsb |= (msb & 0x000000ff_0000_0000L) << 24;
-		// mid bits
-		newMsb |= (msb & 0x00000000_ff00_0000L) >>> 8;
-		newMsb |= (msb & 0x00000000_00ff_0000L) << 8;
-		// low bits
-		newMsb |= (msb & 0x00000000_0000_ff00L) >>> 8;
-		newMsb |= (msb & 0x00000000_0000_00ffL) << 8;
-
-		return new UUID(newMsb, lsb);
+		final long msb = DotNetGuidSwapper.swap(uuid.getMostSignificantBits());
+		return new UUID(msb, uuid.getLeastSignificantBits());
 	}
 }
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.codec.other;
+
+import java.nio.ByteBuffer;
+
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Converter of packed GUIDs between the RFC-4122 byte order and the .Net Guid
+ * byte order.
+ * <p>
+ * The .Net Guid stores the first three fields (4, 2 and 2 bytes) as
+ * little-endian, while the last 8 bytes are stored as big-endian (network
+ * order). The conversion reverses the bytes of the three fields, so it is the
+ * same in both directions.
+ * <p>
+ * It is the bulk version of {@link DotNetGuid1Codec} and
+ * {@link DotNetGuid4Codec}. The GUIDs are 16 bytes each, one after another,
+ * and they are rewritten in place, with no objects created per GUID. Unlike
+ * those codecs, it doesn't check the UUID versions.
+ */
+public final class DotNetGuidSwapper {
+
+	/**
+	 * The number of bytes of a GUID.
+	 */
+	public static final int LENGTH = 16;
+
+	private DotNetGuidSwapper() {
+	}
+
+	/**
+	 * Converts the GUIDs of an array in place.
+	 * 
+	 * @param bytes  an array of packed GUIDs
+	 * @param offset the index of the first byte
+	 * @param count  the number of GUIDs
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 */
+	public static void swap(final byte[] bytes, final int offset, final int count) {
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+		final int end = offset + LENGTH * count;
+		for (int i = offset; i < end; i += LENGTH) {
+			PlatformUtil.putLong(bytes, i, swap(PlatformUtil.getLong(bytes, i)));
+		}
+	}
+
+	/**
+	 * Converts the GUIDs of a buffer in place.
+	 * <p>
+	 * The position of the buffer is not changed. The result is the same whatever
+	 * the order of the buffer.
+	 * 
+	 * @param buffer a buffer of packed GUIDs
+	 * @param index  the index of the first byte
+	 * @param count  the number of GUIDs
+	 * @throws IndexOutOfBoundsException if the range is out of the buffer limit
+	 */
+	public static void swap(final ByteBuffer buffer, final int index, final int count) {
+		RangeUtil.checkRange(buffer.limit(), index, (long) LENGTH * count);
+		if (buffer.hasArray()) {
+			swap(buffer.array(), buffer.arrayOffset() + index, count);
+			return;
+		}
+		final int end = index + LENGTH * count;
+		for (int i = index; i < end; i += LENGTH) {
+			buffer.putInt(i, Integer.reverseBytes(buffer.getInt(i)));
+			buffer.putShort(i + 4, Short.reverseBytes(buffer.getShort(i + 4)));
+			buffer.putShort(i + 6, Short.reverseBytes(buffer.getShort(i + 6)));
+		}
+	}
+
+	/**
+	 * Converts the GUIDs of an array in place, in parallel.
+	 * <p>
+	 * It is the same as {@link #swap(byte[], int, int)}, except that large
+	 * batches are split among the threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @param bytes  an array of packed GUIDs
+	 * @param offset the index of the first byte
+	 * @param count  the number of GUIDs
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 */
+	public static void swapParallel(final byte[] bytes, final int offset, final int count) {
+		RangeUtil.checkRange(bytes.length, offset, (long) LENGTH * count);
+		ParallelUtil.forEachRange(count, (from, to) -> swap(bytes, offset + from * LENGTH, to - from));
+	}
+
+	/**
+	 * Converts the GUIDs of a buffer in place, in parallel.
+	 * <p>
+	 * It is the same as {@link #swap(ByteBuffer, int, int)}, except that large
+	 * batches are split among the threads of the common
+	 * {@link java.util.concurrent.ForkJoinPool}.
+	 * 
+	 * @param buffer a buffer of packed GUIDs
+	 * @param index  the index of the first byte
+	 * @param count  the number of GUIDs
+	 * @throws IndexOutOfBoundsException if the range is out of the buffer limit
+	 */
+	public static void swapParallel(final ByteBuffer buffer, final int index, final int count) {
+		RangeUtil.checkRange(buffer.limit(), index, (long) LENGTH * count);
+		ParallelUtil.forEachRange(count, (from, to) -> swap(buffer.duplicate(), index + from * LENGTH, to - from));
+	}
+
+	/**
+	 * Converts the most significant bits of a UUID to and from a .Net Guid.
+	 * 
+	 * @param msb the most significant bits
+	 * @return the most significant bits in the other byte order
+	 */
+	static long swap(final long msb) {
+		return ((Integer.reverseBytes((int) (msb >>> 32)) & 0xffffffffL) << 32) //
+				| ((Short.reverseBytes((short) (msb >>> 16)) & 0xffffL) << 16) //
+				| (Short.reverseBytes((short) msb) & 0xffffL);
+	}
+}
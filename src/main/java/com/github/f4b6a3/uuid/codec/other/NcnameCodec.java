@@ -26,8 +26,7 @@ package com.github.f4b6a3.uuid.codec.other;
 
 import java.util.UUID;
 
-import com.github.f4b6a3.uuid.codec.BinaryCodec;
-import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.codec.UuidStringCodec;
 import com.github.f4b6a3.uuid.codec.base.Base32Codec;
 import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec;
@@ -35,7 +34,7 @@ import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
 import com.github.f4b6a3.uuid.util.immutable.CharArray;
 import com.github.f4b6a3.uuid.util.immutable.LongArray;
-import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Codec for UUID NCNames.
@@ -64,21 +63,18 @@ import com.github.f4b6a3.uuid.util.internal.ByteUtil;
  * @see <a href="https://github.com/f4b6a3/uuid-creator/issues/31">UUID
  *      NCNames</a>
  */
-public final class NcnameCodec implements UuidCodec<String> {
+public final class NcnameCodec implements UuidStringCodec {
 
 	/**
 	 * A shared immutable instance using `base64url`
 	 */
 	public static final NcnameCodec INSTANCE = new NcnameCodec();
 
-	private final int radix;
 	private final int length;
-	private final int shift;
-	private final char padding;
-	private final BaseNCodec codec;
-
-	private static final CharArray VERSION_UPPERCASE = CharArray.from("ABCDEFGHIJKLMNOP".toCharArray());
-	private static final CharArray VERSION_LOWERCASE = CharArray.from("abcdefghijklmnop".toCharArray());
+	private final int bits;
+	private final int half;
+	private final CharArray alphabet;
+	private final LongArray map;
 
 	private static final LongArray VERSION_MAP;
 	static {
@@ -143,22 +139,14 @@ public final class NcnameCodec implements UuidCodec<String> {
 			throw new IllegalArgumentException("Unsupported base-n codec");
 		}
 
-		this.codec = codec;
-		this.radix = codec.getBase().getRadix();
 		this.length = codec.getBase().getLength();
-		this.padding = codec.getBase().getPadding();
-
-		switch (this.radix) {
-		case 32:
-			this.shift = 1;
-			break;
-		case 64:
-			this.shift = 2;
-			break;
-		default:
-			this.shift = 0; // unspecified
-			break;
-		}
+		this.alphabet = codec.getBase().getAlphabet();
+		this.map = codec.getBase().getMap();
+
+		// 6 bits per char for base-64 and 5 bits for base-32
+		this.bits = Integer.numberOfTrailingZeros(codec.getBase().getRadix());
+		// the number of chars for 60 bits: 10 for base-64 and 12 for base-32
+		this.half = 60 / this.bits;
 	}
 
 	/**
@@ -170,29 +158,59 @@ public final class NcnameCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public String encode(UUID uuid) {
+		final char[] chars = new char[this.length];
+		encodeTo(uuid, chars, 0);
+		return new String(chars);
+	}
 
-		UuidValidator.validate(uuid);
+	/**
+	 * Writes the NCName of a UUID into an array.
+	 * <p>
+	 * The first char is the version nibble and the last char is the variant
+	 * nibble. The 120 bits left are encoded in between, without creating
+	 * intermediate UUIDs or arrays.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there is not enough room in the array
+	 */
+	@Override
+	public int encodeTo(UUID uuid, char[] chars, int offset) {
 
-		int version = uuid.version();
-		byte[] bytes = BinaryCodec.INSTANCE.encode(uuid);
-		int[] ints = ByteUtil.toInts(bytes);
+		UuidValidator.validate(uuid);
+		RangeUtil.checkRange(chars.length, offset, this.length);
 
-		int variant = (ints[2] & 0xf0000000) >>> 24;
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
 
-		ints[1] = (ints[1] & 0xffff0000) | ((ints[1] & 0x00000fff) << 4) | ((ints[2] & 0x0fffffff) >>> 24);
-		ints[2] = (ints[2] & 0x00ffffff) << 8 | (ints[3] >>> 24);
-		ints[3] = (ints[3] << 8) | variant;
+		// the 120 bits without the version and the variant, split in two halves
+		final long hi = ((msb & 0xffffffffffff0000L) >>> 4) | (msb & 0x0000000000000fffL);
+		final long lo = (lsb & 0x0fffffffffffffffL);
 
-		bytes = ByteUtil.fromInts(ints);
-		bytes[15] = (byte) ((bytes[15] & 0xff) >>> this.shift);
+		final int mask = (1 << this.bits) - 1;
 
-		UUID uuuu = BinaryCodec.INSTANCE.decode(bytes);
-		String encoded = this.codec.encode(uuuu).substring(0, this.length - 1);
+		// if base is 64, the version is upper case, else lower case
+		chars[offset] = this.alphabet.get((int) (msb >>> 12) & 0xf);
+		for (int i = 1, shift = 60 - this.bits; i <= this.half; i++, shift -= this.bits) {
+			chars[offset + i] = this.alphabet.get((int) (hi >>> shift) & mask);
+			chars[offset + this.half + i] = this.alphabet.get((int) (lo >>> shift) & mask);
+		}
+		chars[offset + this.length - 1] = this.alphabet.get((int) (lsb >>> 60));
 
-		// if base is 64, use upper case version, else use lower case
-		char v = this.radix == 64 ? VERSION_UPPERCASE.get(version) : VERSION_LOWERCASE.get(version);
+		return offset + this.length;
+	}
 
-		return v + encoded;
+	/**
+	 * Returns the length of the NCNames.
+	 * 
+	 * @return the number of chars
+	 */
+	@Override
+	public int length() {
+		return this.length;
 	}
 
 	/**
@@ -209,33 +227,99 @@ public final class NcnameCodec implements UuidCodec<String> {
 			throw new InvalidUuidException("Invalid UUID NCName: \"" + ncname + "\"");
 		}
 
-		// check if the bookends are valid chars: [A-Pa-p]
-		int bookend1 = (int) VERSION_MAP.get(ncname.charAt(0));
-		int bookend2 = (int) VERSION_MAP.get(ncname.charAt(ncname.length() - 1));
-		if (bookend1 == -1 || bookend2 == -1) {
+		final UUID uuid = tryDecode(ncname, 0);
+		if (uuid == null) {
+			throw new InvalidUuidException("Invalid UUID NCName: \"" + ncname + "\"");
+		}
+
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from a NCName, or null if the NCName is invalid.
+	 * 
+	 * @param ncname a NCName
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(String ncname) {
+		if (ncname == null || ncname.length() != this.length) {
+			return null;
+		}
+		return tryDecode(ncname, 0);
+	}
+
+	/**
+	 * Get a UUID from the NCName in a char sequence, starting at an offset.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID decode(CharSequence chars, int offset) {
+
+		final UUID uuid = tryDecode(chars, offset);
+		if (uuid == null) {
+			final CharSequence ncname = chars.subSequence(offset, offset + this.length);
 			throw new InvalidUuidException("Invalid UUID NCName: \"" + ncname + "\"");
 		}
 
-		int version = bookend1 & 0xf;
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from the NCName in a char sequence, or null if the chars are
+	 * invalid.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID, or null if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID tryDecode(CharSequence chars, int offset) {
 
-		String substring = ncname.substring(1, ncname.length());
-		UUID uuid = this.codec.decode(substring + padding);
+		RangeUtil.checkRange(chars.length(), offset, this.length);
 
-		byte[] bytes = BinaryCodec.INSTANCE.encode(uuid);
-		bytes[15] = (byte) ((bytes[15] & 0xff) << this.shift);
+		// check if the bookends are valid chars: [A-Pa-p]
+		final char last = chars.charAt(offset + this.length - 1);
+		final int version = bookend(chars.charAt(offset));
+		if (version == -1 || bookend(last) == -1) {
+			return null;
+		}
 
-		int[] ints = ByteUtil.toInts(bytes);
+		// the variant is the low nibble of the last digit
+		final long variant = this.map.get(last) & 0xf;
+
+		long hi = 0;
+		long lo = 0;
+		long digit;
+
+		for (int i = 1; i <= this.half; i++) {
+			if ((digit = digit(chars.charAt(offset + i))) < 0) {
+				return null;
+			}
+			hi = (hi << this.bits) | digit;
+			if ((digit = digit(chars.charAt(offset + this.half + i))) < 0) {
+				return null;
+			}
+			lo = (lo << this.bits) | digit;
+		}
 
-		int variant = (ints[3] & 0xf0) << 24;
+		final long msb = ((hi << 4) & 0xffffffffffff0000L) | ((long) version << 12) | (hi & 0x0000000000000fffL);
+		final long lsb = (variant << 60) | lo;
 
-		ints[3] >>>= 8;
-		ints[3] |= ((ints[2] & 0xff) << 24);
-		ints[2] >>>= 8;
-		ints[2] |= ((ints[1] & 0xf) << 24) | variant;
-		ints[1] = (ints[1] & 0xffff0000) | (version << 12) | ((ints[1] >>> 4) & 0xfff);
+		return new UUID(msb, lsb);
+	}
 
-		bytes = ByteUtil.fromInts(ints);
+	private long digit(char c) {
+		return c < this.map.length() ? this.map.get(c) : -1;
+	}
 
-		return BinaryCodec.INSTANCE.decode(bytes);
+	private static int bookend(char c) {
+		return c < VERSION_MAP.length() ? (int) VERSION_MAP.get(c) : -1;
 	}
 }
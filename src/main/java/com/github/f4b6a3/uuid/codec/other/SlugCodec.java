@@ -26,12 +26,16 @@ package com.github.f4b6a3.uuid.codec.other;
 
 import java.util.UUID;
 
-import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.codec.UuidStringCodec;
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
 import com.github.f4b6a3.uuid.codec.base.Base32Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64Codec;
 import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 import com.github.f4b6a3.uuid.util.UuidValidator;
+import com.github.f4b6a3.uuid.util.immutable.LongArray;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
 
 /**
  * Codec for UUID Slugs.
@@ -100,7 +104,7 @@ import com.github.f4b6a3.uuid.util.UuidValidator;
  * @see <a href="https://github.com/f4b6a3/uuid-creator/issues/30">UUID
  *      Slugs</a>
  */
-public final class SlugCodec implements UuidCodec<String> {
+public final class SlugCodec implements UuidStringCodec {
 
 	/**
 	 * A shared immutable instance using `base64url`
@@ -110,6 +114,10 @@ public final class SlugCodec implements UuidCodec<String> {
 	private final int length;
 	private final BaseNCodec codec;
 
+	// bits per char of the codecs decoded directly, or 0
+	private final int bits;
+	private final LongArray map;
+
 	/**
 	 * Default constructor.
 	 */
@@ -126,6 +134,15 @@ public final class SlugCodec implements UuidCodec<String> {
 		}
 		this.codec = codec;
 		this.length = codec.getBase().getLength();
+		this.map = codec.getBase().getMap();
+
+		// these codecs put the bits of a UUID in the chars from left to right
+		if (codec instanceof Base64UrlCodec || codec instanceof Base64Codec || codec instanceof Base32Codec
+				|| codec instanceof Base16Codec) {
+			this.bits = Integer.numberOfTrailingZeros(codec.getBase().getRadix());
+		} else {
+			this.bits = 0;
+		}
 	}
 
 	/**
@@ -137,24 +154,37 @@ public final class SlugCodec implements UuidCodec<String> {
 	 */
 	@Override
 	public String encode(UUID uuid) {
+		final char[] chars = new char[this.length];
+		encodeTo(uuid, chars, 0);
+		return new String(chars);
+	}
 
-		UuidValidator.validate(uuid);
-
-		long long1 = uuid.getMostSignificantBits();
-		long long2 = uuid.getLeastSignificantBits();
-
-		long msb = 0;
-		long lsb = 0;
-
-		msb |= (long1 & 0x000000000000f000L) << 48; // move version nibble to bit positions 0, 1, 2, and 3
-		msb |= (long2 & 0xf000000000000000L) >>> 4; // move variant nibble to bit positions 4, 5, 6, and 7
-		msb |= (long1 & 0xffffffffffff0000L) >>> 8;
-		msb |= (long1 & 0x0000000000000fffL) >>> 4;
-
-		lsb |= (long1 & 0x000000000000000fL) << 60;
-		lsb |= (long2 & 0x0fffffffffffffffL);
+	/**
+	 * Returns the length of the slugs.
+	 * 
+	 * @return the number of chars
+	 */
+	@Override
+	public int length() {
+		return this.length;
+	}
 
-		return this.codec.encode(new UUID(msb, lsb));
+	/**
+	 * Writes the Slug of a UUID into an array.
+	 * 
+	 * @param uuid   a UUID
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 * @return the index after the last char written
+	 * @throws InvalidUuidException      if the UUID is invalid
+	 * @throws IndexOutOfBoundsException if there is not enough room in the array
+	 */
+	@Override
+	public int encodeTo(UUID uuid, char[] chars, int offset) {
+		UuidValidator.validate(uuid);
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+		return this.codec.encodeTo(toSlugMsb(msb, lsb), toSlugLsb(msb, lsb), chars, offset);
 	}
 
 	/**
@@ -171,22 +201,142 @@ public final class SlugCodec implements UuidCodec<String> {
 			throw new InvalidUuidException("Invalid UUID Slug: \"" + slug + "\"");
 		}
 
-		UUID uuid = this.codec.decode(slug);
+		return decode(slug, 0);
+	}
+
+	/**
+	 * Get a UUID from a Slug, or null if the Slug is invalid.
+	 * 
+	 * @param slug a Slug
+	 * @return a UUID, or null if the argument is null or invalid
+	 */
+	@Override
+	public UUID tryDecode(String slug) {
+		if (slug == null || slug.length() != this.length) {
+			return null;
+		}
+		return tryDecode(slug, 0);
+	}
+
+	/**
+	 * Get a UUID from the Slug in a char sequence, starting at an offset.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID
+	 * @throws InvalidUuidException      if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID decode(CharSequence chars, int offset) {
+
+		if (this.bits == 0) {
+			return fromSlugLayout(this.codec.decode(chars, offset));
+		}
+
+		final UUID uuid = tryDecode(chars, offset);
+		if (uuid == null) {
+			throw new InvalidUuidException("Invalid UUID Slug: \"" + chars.subSequence(offset, offset + this.length) + "\"");
+		}
+
+		return uuid;
+	}
+
+	/**
+	 * Get a UUID from the Slug in a char sequence, or null if the chars are
+	 * invalid.
+	 * 
+	 * @param chars  a char sequence
+	 * @param offset the index of the first char
+	 * @return a UUID, or null if the chars are invalid
+	 * @throws IndexOutOfBoundsException if there are not enough chars
+	 */
+	@Override
+	public UUID tryDecode(CharSequence chars, int offset) {
+
+		if (this.bits == 0) {
+			final UUID uuid = this.codec.tryDecode(chars, offset);
+			return uuid != null ? fromSlugLayout(uuid) : null;
+		}
+
+		RangeUtil.checkRange(chars.length(), offset, this.length);
+
+		long msb = 0;
+		long lsb = 0;
+		long digit;
+
+		// shift the digits in from the right, all but the last one
+		final int last = offset + this.length - 1;
+		for (int i = offset; i < last; i++) {
+			if ((digit = digit(chars.charAt(i))) < 0) {
+				return null;
+			}
+			msb = (msb << this.bits) | (lsb >>> (64 - this.bits));
+			lsb = (lsb << this.bits) | digit;
+		}
+
+		// the last digit may have padding bits on the right
+		if ((digit = digit(chars.charAt(last))) < 0) {
+			return null;
+		}
+		final int tail = 128 - (this.length - 1) * this.bits;
+		msb = (msb << tail) | (lsb >>> (64 - tail));
+		lsb = (lsb << tail) | (digit >>> (this.bits - tail));
+
+		return new UUID(fromSlugMsb(msb, lsb), fromSlugLsb(msb, lsb));
+	}
+
+	private long digit(char c) {
+		return c < this.map.length() ? this.map.get(c) : -1;
+	}
+
+	private static UUID fromSlugLayout(UUID uuid) {
+		final long msb = uuid.getMostSignificantBits();
+		final long lsb = uuid.getLeastSignificantBits();
+		return new UUID(fromSlugMsb(msb, lsb), fromSlugLsb(msb, lsb));
+	}
 
-		long long1 = uuid.getMostSignificantBits();
-		long long2 = uuid.getLeastSignificantBits();
+	private static long toSlugMsb(long long1, long long2) {
 
 		long msb = 0;
+
+		msb |= (long1 & 0x000000000000f000L) << 48; // move version nibble to bit positions 0, 1, 2, and 3
+		msb |= (long2 & 0xf000000000000000L) >>> 4; // move variant nibble to bit positions 4, 5, 6, and 7
+		msb |= (long1 & 0xffffffffffff0000L) >>> 8;
+		msb |= (long1 & 0x0000000000000fffL) >>> 4;
+
+		return msb;
+	}
+
+	private static long toSlugLsb(long long1, long long2) {
+
 		long lsb = 0;
 
+		lsb |= (long1 & 0x000000000000000fL) << 60;
+		lsb |= (long2 & 0x0fffffffffffffffL);
+
+		return lsb;
+	}
+
+	private static long fromSlugMsb(long long1, long long2) {
+
+		long msb = 0;
+
 		msb |= (long1 & 0xf000000000000000L) >>> 48; // move version nibble to its original position
 		msb |= (long2 & 0xf000000000000000L) >>> 60; // move variant nibble to its original position
 		msb |= (long1 & 0x00ffffffffffff00L) << 8;
 		msb |= (long1 & 0x00000000000000ffL) << 4;
 
+		return msb;
+	}
+
+	private static long fromSlugLsb(long long1, long long2) {
+
+		long lsb = 0;
+
 		lsb |= (long1 & 0x0f00000000000000L) << 4;
 		lsb |= (long2 & 0x0fffffffffffffffL);
 
-		return new UUID(msb, lsb);
+		return lsb;
 	}
 }
@@ -26,8 +26,18 @@ package com.github.f4b6a3.uuid.exception;
 
 import java.util.Arrays;
 
+import com.github.f4b6a3.uuid.UuidCreatorSettings;
+
 /**
  * Runtime exception to be used when an invalid UUID is received as argument.
+ * <p>
+ * If the setting {@code uuidcreator.stackless} is "true", the exception is
+ * created without a stack trace. Filling the stack trace is the most expensive
+ * part of rejecting invalid input, so this mode is useful for services that
+ * receive many invalid UUIDs. Alternatively, use the {@code tryDecode()}
+ * methods of the codecs, which return null instead of throwing.
+ * 
+ * @see UuidCreatorSettings
  */
 public final class InvalidUuidException extends RuntimeException {
 
@@ -39,7 +49,7 @@ public final class InvalidUuidException extends RuntimeException {
 	 * @param message a message
 	 */
 	public InvalidUuidException(String message) {
-		super(message);
+		this(message, null);
 	}
 
 	/**
@@ -49,7 +59,7 @@ public final class InvalidUuidException extends RuntimeException {
 	 * @param cause   the cause
 	 */
 	public InvalidUuidException(String message, Throwable cause) {
-		super(message, cause);
+		super(message, cause, true, !UuidCreatorSettings.get().isStackless());
 	}
 
 	/**
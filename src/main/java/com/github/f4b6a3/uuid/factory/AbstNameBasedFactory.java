@@ -34,18 +34,26 @@ import com.github.f4b6a3.uuid.codec.StringCodec;
 import com.github.f4b6a3.uuid.enums.UuidNamespace;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
-import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
 
+import static com.github.f4b6a3.uuid.enums.UuidVersion.VERSION_CUSTOM;
 import static com.github.f4b6a3.uuid.enums.UuidVersion.VERSION_NAME_BASED_MD5;
 import static com.github.f4b6a3.uuid.enums.UuidVersion.VERSION_NAME_BASED_SHA1;
 
 /**
- * Abstract factory for creating name-based unique identifiers (UUIDv3 and
- * UUIDv5).
+ * Abstract factory for creating name-based unique identifiers (UUIDv3, UUIDv5
+ * and name-based UUIDv8).
+ * <p>
+ * The message digest is instantiated only once per factory. If the factory has
+ * a name space, the digest is also primed with it. Each call hashes on a clone
+ * of that prototype, so {@link MessageDigest#getInstance(String)} is not called
+ * again unless the provider does not support cloning.
  * 
  * @see UuidNamespace
  * @see <a href= "https://www.rfc-editor.org/rfc/rfc4122#section-4.3">RFC-4122 -
  *      4.3. Algorithm for Creating a Name-Based UUID</a>
+ * @see <a href= "https://www.rfc-editor.org/rfc/rfc9562#section-5.8">RFC-9562 -
+ *      5.8. UUID Version 8</a>
  */
 public abstract class AbstNameBasedFactory extends UuidFactory {
 
@@ -56,7 +64,17 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	/**
 	 * The hash algorithm.
 	 */
-	protected final String algorithm; // MD5 or SHA-1
+	protected final String algorithm; // MD5, SHA-1 or SHA-256
+
+	/**
+	 * The message digest prototype without name space.
+	 */
+	private final MessageDigest prototype;
+	/**
+	 * The message digest prototype primed with the factory name space.
+	 */
+	private final MessageDigest primed;
+	private final byte[] primedNamespace;
 
 	/**
 	 * The MD5 algorithm.
@@ -66,23 +84,28 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 	 * The SHA-1 algorithm.
 	 */
 	protected static final String ALGORITHM_SHA1 = "SHA-1";
+	/**
+	 * The SHA-256 algorithm.
+	 */
+	protected static final String ALGORITHM_SHA256 = "SHA-256";
 
 	/**
 	 * Protected constructor that receives the message digest algorithm and an
 	 * optional name space.
 	 * 
-	 * @param version   the version number (3 or 5)
-	 * @param algorithm a message digest algorithm (MD5 or SHA-1)
+	 * @param version   the version number (3, 5 or 8)
+	 * @param algorithm a message digest algorithm (MD5, SHA-1 or SHA-256)
 	 * @param namespace a name space byte array (null or 16 bytes)
 	 */
 	protected AbstNameBasedFactory(UuidVersion version, String algorithm, byte[] namespace) {
 		super(version);
 
-		if (!VERSION_NAME_BASED_MD5.equals(version) && !VERSION_NAME_BASED_SHA1.equals(version)) {
+		if (!VERSION_NAME_BASED_MD5.equals(version) && !VERSION_NAME_BASED_SHA1.equals(version)
+				&& !VERSION_CUSTOM.equals(version)) {
 			throw new IllegalArgumentException("Invalid UUID version");
 		}
 
-		if (ALGORITHM_MD5.equals(algorithm) || ALGORITHM_SHA1.equals(algorithm)) {
+		if (ALGORITHM_MD5.equals(algorithm) || ALGORITHM_SHA1.equals(algorithm) || ALGORITHM_SHA256.equals(algorithm)) {
 			this.algorithm = algorithm;
 		} else {
 			throw new IllegalArgumentException("Invalid message digest algorithm");
@@ -99,6 +122,15 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 				throw new IllegalArgumentException("Invalid namespace length");
 			}
 		}
+
+		this.prototype = getInstance(this.algorithm);
+		this.primedNamespace = this.namespace;
+		if (this.primedNamespace == null) {
+			this.primed = null;
+		} else {
+			this.primed = getInstance(this.algorithm);
+			this.primed.update(this.primedNamespace);
+		}
 	}
 
 	/**
@@ -309,24 +341,45 @@ public abstract class AbstNameBasedFactory extends UuidFactory {
 
 	private UUID create(final byte[] namespace, final byte[] name) {
 
-		MessageDigest hasher;
-
-		try {
-			hasher = MessageDigest.getInstance(this.algorithm);
-		} catch (NoSuchAlgorithmException e) {
-			throw new IllegalArgumentException("Message digest algorithm not available: " + this.algorithm, e);
-		}
+		final MessageDigest hasher;
 
-		if (namespace != null) {
-			// Prepend the name space
-			hasher.update(namespace);
+		if (namespace != null && namespace == this.primedNamespace) {
+			// The name space is already in the digest
+			hasher = copy(this.primed);
+		} else {
+			hasher = copy(this.prototype);
+			if (namespace != null) {
+				// Prepend the name space
+				hasher.update(namespace);
+			}
 		}
 
 		// Compute the hash of the name
 		final byte[] hash = hasher.digest(name);
 
-		final long msb = ByteUtil.toNumber(hash, 0, 8);
-		final long lsb = ByteUtil.toNumber(hash, 8, 16);
+		final long msb = PlatformUtil.getLong(hash, 0);
+		final long lsb = PlatformUtil.getLong(hash, 8);
 		return toUuid(msb, lsb);
 	}
+
+	private MessageDigest copy(final MessageDigest digest) {
+		try {
+			// The prototype is never updated after construction
+			return (MessageDigest) digest.clone();
+		} catch (CloneNotSupportedException e) {
+			final MessageDigest hasher = getInstance(this.algorithm);
+			if (digest == this.primed) {
+				hasher.update(this.primedNamespace);
+			}
+			return hasher;
+		}
+	}
+
+	private static MessageDigest getInstance(final String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalArgumentException("Message digest algorithm not available: " + algorithm, e);
+		}
+	}
 }
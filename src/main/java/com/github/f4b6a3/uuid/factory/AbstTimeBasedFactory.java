@@ -28,6 +28,7 @@ import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.locks.ReentrantLock;
 
+import com.github.f4b6a3.uuid.UuidCreatorSettings;
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.function.ClockSeqFunction;
 import com.github.f4b6a3.uuid.factory.function.NodeIdFunction;
@@ -251,10 +252,19 @@ public abstract class AbstTimeBasedFactory extends UuidFactory implements NoArgs
 	 * efficient for its typical time granularity (15.6ms). Otherwise, it returns
 	 * the default time function.
 	 * 
+	 * The setting "uuidcreator.time" overrides the operating system detection.
+	 * 
 	 * @return a time function
 	 */
 	protected static TimeFunction selectTimeFunction() {
 
+		final String time = UuidCreatorSettings.get().getTime();
+		if (UuidCreatorSettings.TIME_WINDOWS.equals(time)) {
+			return new WindowsTimeFunction();
+		} else if (UuidCreatorSettings.TIME_DEFAULT.equals(time)) {
+			return new DefaultTimeFunction();
+		}
+
 		// check if the operating system is WINDOWS
 		final String os = System.getProperty("os.name");
 		if (os != null && os.toLowerCase().startsWith("win")) {
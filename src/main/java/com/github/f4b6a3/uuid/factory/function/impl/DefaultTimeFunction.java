@@ -29,6 +29,7 @@ import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
 import java.time.Clock;
 
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
 import com.github.f4b6a3.uuid.util.internal.RandomUtil;
 
 /**
@@ -82,6 +83,7 @@ public final class DefaultTimeFunction implements TimeFunction {
 				// if the counter goes beyond the limit,
 				while (time == lastTime) {
 					// wait the time to advance
+					PlatformUtil.onSpinWait();
 					time = clock.millis();
 				}
 				// reset to a number between 0 and 9,999
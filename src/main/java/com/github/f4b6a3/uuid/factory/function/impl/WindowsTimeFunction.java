@@ -29,6 +29,7 @@ import static com.github.f4b6a3.uuid.util.UuidTime.TICKS_PER_MILLI;
 import java.time.Clock;
 
 import com.github.f4b6a3.uuid.factory.function.TimeFunction;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
 import com.github.f4b6a3.uuid.util.internal.RandomUtil;
 
 /**
@@ -91,6 +92,7 @@ public final class WindowsTimeFunction implements TimeFunction {
 				// if the counter goes beyond the limit,
 				while (time == lastTime) {
 					// wait the time to advance
+					PlatformUtil.onSpinWait();
 					time = calculatedMillis();
 				}
 				// reset to a number between 0 and 159,999
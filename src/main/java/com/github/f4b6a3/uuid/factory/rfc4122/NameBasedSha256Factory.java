@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.factory.rfc4122;
+
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.AbstNameBasedFactory;
+
+/**
+ * Concrete factory for creating name-based unique identifiers using SHA-256
+ * hashing (UUIDv8).
+ * <p>
+ * The hash is computed over the name space and the name, like in UUIDv3 and
+ * UUIDv5. Only the first 128 bits of the hash are used, and the version and
+ * variant bits are then overwritten.
+ * <p>
+ * This is the name-based UUIDv8 example described in RFC-9562, Appendix B.2.
+ * The hash space ID for SHA-256 is not part of the hashed input. It is a
+ * constant that applications can store along with the UUIDs to identify the
+ * hash algorithm used.
+ * <p>
+ * Note that {@code GUID.v8()} hashes the hash space ID too, so it produces
+ * different values for the same input.
+ * 
+ * @see AbstNameBasedFactory
+ * @see <a href= "https://www.rfc-editor.org/rfc/rfc9562#section-6.6">RFC-9562 -
+ *      6.6. Namespace ID Usage and Allocation</a>
+ * @see <a href= "https://www.rfc-editor.org/rfc/rfc9562#appendix-B.2">RFC-9562 -
+ *      B.2. Example of a UUIDv8 Value (Name-Based)</a>
+ */
+public final class NameBasedSha256Factory extends AbstNameBasedFactory {
+
+	/**
+	 * The hash space ID for SHA-256 defined by RFC-9562.
+	 */
+	public static final UUID HASH_SPACE_SHA2_256 = new UUID(0x3fb32780953c4464L, 0x9cfde85dbbe9843dL);
+
+	/**
+	 * Default constructor.
+	 */
+	public NameBasedSha256Factory() {
+		this((byte[]) null);
+	}
+
+	/**
+	 * Constructor with a namespace.
+	 * 
+	 * @param namespace a namespace
+	 */
+	public NameBasedSha256Factory(UUID namespace) {
+		this(bytes(namespace));
+	}
+
+	/**
+	 * Constructor with a namespace.
+	 * 
+	 * @param namespace a namespace
+	 */
+	public NameBasedSha256Factory(String namespace) {
+		this(bytes(namespace));
+	}
+
+	/**
+	 * Constructor with a namespace.
+	 * 
+	 * @param namespace a namespace
+	 */
+	public NameBasedSha256Factory(UuidNamespace namespace) {
+		this(bytes(namespace));
+	}
+
+	private NameBasedSha256Factory(byte[] namespace) {
+		super(UuidVersion.VERSION_CUSTOM, ALGORITHM_SHA256, namespace);
+	}
+}
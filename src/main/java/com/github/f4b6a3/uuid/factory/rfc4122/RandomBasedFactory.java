@@ -31,7 +31,7 @@ import java.util.function.LongSupplier;
 
 import com.github.f4b6a3.uuid.enums.UuidVersion;
 import com.github.f4b6a3.uuid.factory.AbstRandomBasedFactory;
-import com.github.f4b6a3.uuid.util.internal.ByteUtil;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtil;
 
 /**
  * Concrete factory for creating random-based unique identifiers (UUIDv4).
@@ -119,8 +119,8 @@ public final class RandomBasedFactory extends AbstRandomBasedFactory {
 		try {
 			if (this.random instanceof ByteRandom) {
 				final byte[] bytes = this.random.nextBytes(16);
-				final long msb = ByteUtil.toNumber(bytes, 0, 8);
-				final long lsb = ByteUtil.toNumber(bytes, 8, 16);
+				final long msb = PlatformUtil.getLong(bytes, 0);
+				final long lsb = PlatformUtil.getLong(bytes, 8);
 				return toUuid(msb, lsb);
 			} else {
 				final long msb = this.random.nextLong();
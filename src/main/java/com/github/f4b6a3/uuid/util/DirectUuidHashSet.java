@@ -0,0 +1,339 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * A set of UUIDs stored off the heap.
+ * <p>
+ * It works like {@link UuidHashSet}, but the table is stored in direct
+ * {@link ByteBuffer} segments of up to 1 GiB, so it doesn't take heap space and
+ * can hold larger sets. It takes 16 bytes per slot, about 21 to 43 bytes per
+ * UUID depending on the load.
+ * <p>
+ * The memory is released when the set is garbage collected, as for any direct
+ * buffer. Presizing the set avoids resizing large tables.
+ * <p>
+ * This class is not thread-safe. It holds at most 3 * 2^28 UUIDs, about 800
+ * million.
+ * 
+ * @see UuidHashSet
+ */
+public final class DirectUuidHashSet {
+
+	private ByteBuffer[] segments;
+	private int shift;
+	private int size;
+	private int threshold;
+	private boolean nil;
+
+	static final int MAX_BITS = 30;
+
+	private static final int SLOT_BYTES = 16;
+	private static final int SEGMENT_BITS = 26;
+	private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+
+	private static final int DEFAULT_EXPECTED_SIZE = 1024;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public DirectUuidHashSet() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty set that holds an expected number of UUIDs without
+	 * resizing.
+	 * 
+	 * @param expectedSize the expected number of UUIDs
+	 * @throws IllegalArgumentException if the size is negative or too large
+	 */
+	public DirectUuidHashSet(int expectedSize) {
+		allocate(UuidHashSet.bits(expectedSize, MAX_BITS));
+	}
+
+	/**
+	 * Adds a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was not in the set
+	 */
+	public boolean add(UUID uuid) {
+		return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Adds a UUID.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was not in the set
+	 */
+	public boolean add(long msb, long lsb) {
+
+		if ((msb | lsb) == 0) {
+			final boolean added = !nil;
+			nil = true;
+			return added;
+		}
+
+		final int mask = capacity() - 1;
+		for (int slot = UuidHashSet.slot(msb, lsb, shift);; slot = (slot + 1) & mask) {
+			final ByteBuffer segment = segments[slot >>> SEGMENT_BITS];
+			final int position = (slot & SEGMENT_MASK) * SLOT_BYTES;
+			final long m = segment.getLong(position);
+			final long l = segment.getLong(position + 8);
+			if (m == msb && l == lsb) {
+				return false;
+			}
+			if ((m | l) == 0) {
+				if (size >= threshold) {
+					rehash(UuidHashSet.grow(shift, MAX_BITS));
+					return add(msb, lsb);
+				}
+				segment.putLong(position, msb);
+				segment.putLong(position + 8, lsb);
+				size++;
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Adds a range of UUIDs stored as pairs of longs.
+	 * 
+	 * @param uuids an array of longs, two per UUID
+	 * @param index the index of the first UUID
+	 * @param count the number of UUIDs
+	 * @return the number of UUIDs that were not in the set
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public int addAll(long[] uuids, int index, int count) {
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		int added = 0;
+		for (int i = 2 * index; i < 2 * (index + count); i += 2) {
+			if (add(uuids[i], uuids[i + 1])) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Checks if a UUID is in the set.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID is in the set
+	 */
+	public boolean contains(UUID uuid) {
+		return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Checks if a UUID is in the set.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID is in the set
+	 */
+	public boolean contains(long msb, long lsb) {
+		if ((msb | lsb) == 0) {
+			return nil;
+		}
+		return find(msb, lsb) >= 0;
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was in the set
+	 */
+	public boolean remove(UUID uuid) {
+		return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was in the set
+	 */
+	public boolean remove(long msb, long lsb) {
+
+		if ((msb | lsb) == 0) {
+			final boolean removed = nil;
+			nil = false;
+			return removed;
+		}
+
+		final int found = find(msb, lsb);
+		if (found < 0) {
+			return false;
+		}
+
+		// shift back the entries that can't be found after the removal
+		final int mask = capacity() - 1;
+		int empty = found;
+		for (int slot = (found + 1) & mask;; slot = (slot + 1) & mask) {
+			final long m = msb(slot);
+			final long l = lsb(slot);
+			if ((m | l) == 0) {
+				break;
+			}
+			if (UuidHashSet.isShiftable(UuidHashSet.slot(m, l, shift), empty, slot)) {
+				store(empty, m, l);
+				empty = slot;
+			}
+		}
+		store(empty, 0L, 0L);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Returns the number of UUIDs in the set.
+	 * 
+	 * @return the number of UUIDs
+	 */
+	public int size() {
+		return nil ? size + 1 : size;
+	}
+
+	/**
+	 * Checks if the set is empty.
+	 * 
+	 * @return true if the set is empty
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Removes all the UUIDs, keeping the capacity.
+	 */
+	public void clear() {
+		for (ByteBuffer segment : segments) {
+			for (int position = 0; position < segment.capacity(); position += 8) {
+				segment.putLong(position, 0L);
+			}
+		}
+		size = 0;
+		nil = false;
+	}
+
+	/**
+	 * Returns the UUIDs of the set as pairs of longs, in no particular order.
+	 * 
+	 * @return an array of longs, two per UUID
+	 * @throws IllegalStateException if the set is too large for an array
+	 */
+	public long[] toArray() {
+		if (size() > Integer.MAX_VALUE / 2 - 8) {
+			throw new IllegalStateException(String.format("Too many UUIDs for an array: %s", size()));
+		}
+		final long[] array = new long[2 * size()];
+		int i = nil ? 2 : 0; // the Nil UUID is all zeros
+		for (int slot = 0; slot < capacity(); slot++) {
+			final long msb = msb(slot);
+			final long lsb = lsb(slot);
+			if ((msb | lsb) != 0) {
+				array[i++] = msb;
+				array[i++] = lsb;
+			}
+		}
+		return array;
+	}
+
+	private int find(final long msb, final long lsb) {
+		final int mask = capacity() - 1;
+		for (int slot = UuidHashSet.slot(msb, lsb, shift);; slot = (slot + 1) & mask) {
+			final long m = msb(slot);
+			final long l = lsb(slot);
+			if (m == msb && l == lsb) {
+				return slot;
+			}
+			if ((m | l) == 0) {
+				return -1;
+			}
+		}
+	}
+
+	private long msb(final int slot) {
+		return segments[slot >>> SEGMENT_BITS].getLong((slot & SEGMENT_MASK) * SLOT_BYTES);
+	}
+
+	private long lsb(final int slot) {
+		return segments[slot >>> SEGMENT_BITS].getLong((slot & SEGMENT_MASK) * SLOT_BYTES + 8);
+	}
+
+	private void store(final int slot, final long msb, final long lsb) {
+		final ByteBuffer segment = segments[slot >>> SEGMENT_BITS];
+		final int position = (slot & SEGMENT_MASK) * SLOT_BYTES;
+		segment.putLong(position, msb);
+		segment.putLong(position + 8, lsb);
+	}
+
+	private int capacity() {
+		return 1 << (64 - shift);
+	}
+
+	private void allocate(final int bits) {
+		final int slots = Math.min(1 << bits, 1 << SEGMENT_BITS);
+		segments = new ByteBuffer[Math.max(1, (1 << bits) >>> SEGMENT_BITS)];
+		for (int i = 0; i < segments.length; i++) {
+			segments[i] = ByteBuffer.allocateDirect(slots * SLOT_BYTES).order(ByteOrder.nativeOrder());
+		}
+		shift = 64 - bits;
+		threshold = UuidHashSet.threshold(bits);
+	}
+
+	private void rehash(final int bits) {
+		final ByteBuffer[] old = segments;
+		allocate(bits);
+		final int mask = capacity() - 1;
+		for (ByteBuffer segment : old) {
+			for (int position = 0; position < segment.capacity(); position += SLOT_BYTES) {
+				final long msb = segment.getLong(position);
+				final long lsb = segment.getLong(position + 8);
+				if ((msb | lsb) != 0) {
+					int slot = UuidHashSet.slot(msb, lsb, shift);
+					while ((msb(slot) | lsb(slot)) != 0) {
+						slot = (slot + 1) & mask;
+					}
+					store(slot, msb, lsb);
+				}
+			}
+		}
+	}
+}
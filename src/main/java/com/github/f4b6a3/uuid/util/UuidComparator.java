@@ -26,7 +26,6 @@ package com.github.f4b6a3.uuid.util;
 
 import java.util.Comparator;
 import java.util.UUID;
-import java.util.function.ToIntBiFunction;
 
 /**
  * Comparator for UUIDs.
@@ -38,16 +37,23 @@ import java.util.function.ToIntBiFunction;
  * <p>
  * The opaque static method compares two UUIDs as unsigned 128-bit integers.
  * It's the same as lexicographic sorting of UUID canonical strings.
+ * <p>
+ * Both methods have primitive versions that take the most and least significant
+ * bits of the two UUIDs, so that UUIDs stored as pairs of longs can be compared
+ * without creating {@link UUID} instances. Null UUIDs are treated as Nil UUIDs.
  */
 public final class UuidComparator implements Comparator<UUID> {
 
-	private final ToIntBiFunction<UUID, UUID> comparator;
+	private final boolean opaque;
+
+	private static final UuidComparator INSTANCE_DEFAULT = new UuidComparator(false);
+	private static final UuidComparator INSTANCE_OPAQUE = new UuidComparator(true);
 
-	private static final UuidComparator INSTANCE_DEFAULT = new UuidComparator(UuidComparator::defaultCompare);
-	private static final UuidComparator INSTANCE_OPAQUE = new UuidComparator(UuidComparator::opaqueCompare);
+	// used to compare as UNSIGNED longs
+	private static final long MIN = 0x8000000000000000L;
 
-	private UuidComparator(ToIntBiFunction<UUID, UUID> comparator) {
-		this.comparator = comparator;
+	private UuidComparator(boolean opaque) {
+		this.opaque = opaque;
 	}
 
 	/**
@@ -56,7 +62,7 @@ public final class UuidComparator implements Comparator<UUID> {
 	 * @see UuidComparator#defaultCompare(UUID, UUID)
 	 */
 	public UuidComparator() {
-		this(UuidComparator::defaultCompare);
+		this(false);
 	}
 
 	/**
@@ -92,6 +98,15 @@ public final class UuidComparator implements Comparator<UUID> {
 	 * UUIDs is greater than the second if the most significant byte in which they
 	 * differ is greater for the first UUID.
 	 * <p>
+	 * The time stamps of time-based UUIDs (version 1) and DCE Security UUIDs
+	 * (version 2) are rearranged as in time-ordered UUIDs (version 6), keeping the
+	 * version number in place. So time-based and time-ordered UUIDs are sorted
+	 * together by creation time, and DCE Security UUIDs are sorted by the high
+	 * bits of their time stamps and then by their local identifiers. Time-ordered
+	 * UUIDs (version 6) and Unix epoch time-based UUIDs (version 7) are already
+	 * sorted by creation time as unsigned 128-bit integers. The order is total,
+	 * even when UUIDs of different versions are mixed.
+	 * <p>
 	 * It can be useful for these reasons:
 	 * <ol>
 	 * <li>{@link UUID#compareTo(UUID)} doesn't work well for time-based UUIDs;
@@ -108,18 +123,28 @@ public final class UuidComparator implements Comparator<UUID> {
 	 */
 	public static int defaultCompare(UUID uuid1, UUID uuid2) {
 
-		UUID u1 = uuid1 != null ? uuid1 : new UUID(0L, 0L);
-		UUID u2 = uuid2 != null ? uuid2 : new UUID(0L, 0L);
+		final long msb1 = uuid1 != null ? uuid1.getMostSignificantBits() : 0L;
+		final long lsb1 = uuid1 != null ? uuid1.getLeastSignificantBits() : 0L;
+		final long msb2 = uuid2 != null ? uuid2.getMostSignificantBits() : 0L;
+		final long lsb2 = uuid2 != null ? uuid2.getLeastSignificantBits() : 0L;
 
-		// time-based comparison is done by timestamp first
-		if (isTimeBased(u1) && isTimeBased(u2)) {
-			UUID rearranged1 = new UUID(u1.timestamp(), u1.getLeastSignificantBits());
-			UUID rearranged2 = new UUID(u2.timestamp(), u2.getLeastSignificantBits());
-			return opaqueCompare(rearranged1, rearranged2);
-		}
+		return defaultCompare(msb1, lsb1, msb2, lsb2);
+	}
 
-		// unsigned 128 bit integers
-		return opaqueCompare(u1, u2);
+	/**
+	 * Compares two UUIDs given as pairs of longs.
+	 * 
+	 * @param msb1 the most significant bits of a UUID
+	 * @param lsb1 the least significant bits of a UUID
+	 * @param msb2 the most significant bits of another UUID
+	 * @param lsb2 the least significant bits of another UUID
+	 * @return -1, 0 or 1 as the first UUID is less than, equal to, or greater than
+	 *         the second UUID
+	 * @see UuidComparator#defaultCompare(UUID, UUID)
+	 */
+	public static int defaultCompare(long msb1, long lsb1, long msb2, long lsb2) {
+		// time-based comparison is done by timestamp first
+		return opaqueCompare(timeOrdered(msb1, lsb1), lsb1, timeOrdered(msb2, lsb2), lsb2);
 	}
 
 	/**
@@ -152,22 +177,37 @@ public final class UuidComparator implements Comparator<UUID> {
 	 */
 	public static int opaqueCompare(UUID uuid1, UUID uuid2) {
 
-		UUID u1 = uuid1 != null ? uuid1 : new UUID(0L, 0L);
-		UUID u2 = uuid2 != null ? uuid2 : new UUID(0L, 0L);
+		final long msb1 = uuid1 != null ? uuid1.getMostSignificantBits() : 0L;
+		final long lsb1 = uuid1 != null ? uuid1.getLeastSignificantBits() : 0L;
+		final long msb2 = uuid2 != null ? uuid2.getMostSignificantBits() : 0L;
+		final long lsb2 = uuid2 != null ? uuid2.getLeastSignificantBits() : 0L;
 
-		// used to compare as UNSIGNED longs
-		final long min = 0x8000000000000000L;
+		return opaqueCompare(msb1, lsb1, msb2, lsb2);
+	}
+
+	/**
+	 * Compares two UUIDs given as pairs of longs.
+	 * 
+	 * @param msb1 the most significant bits of a UUID
+	 * @param lsb1 the least significant bits of a UUID
+	 * @param msb2 the most significant bits of another UUID
+	 * @param lsb2 the least significant bits of another UUID
+	 * @return -1, 0 or 1 as the first UUID is less than, equal to, or greater than
+	 *         the second UUID
+	 * @see UuidComparator#opaqueCompare(UUID, UUID)
+	 */
+	public static int opaqueCompare(long msb1, long lsb1, long msb2, long lsb2) {
 
-		final long a = u1.getMostSignificantBits() + min;
-		final long b = u2.getMostSignificantBits() + min;
+		final long a = msb1 + MIN;
+		final long b = msb2 + MIN;
 
 		if (a > b)
 			return 1;
 		else if (a < b)
 			return -1;
 
-		final long c = u1.getLeastSignificantBits() + min;
-		final long d = u2.getLeastSignificantBits() + min;
+		final long c = lsb1 + MIN;
+		final long d = lsb2 + MIN;
 
 		if (c > d)
 			return 1;
@@ -185,13 +225,76 @@ public final class UuidComparator implements Comparator<UUID> {
 	 * @return -1, 0 or 1 as {@code u1} is less than, equal to, or greater than
 	 *         {@code u2}
 	 * @see UuidComparator#defaultCompare(UUID, UUID)
+	 * @see UuidComparator#opaqueCompare(UUID, UUID)
 	 */
 	@Override
 	public int compare(UUID uuid1, UUID uuid2) {
-		return this.comparator.applyAsInt(uuid1, uuid2);
+		return opaque ? opaqueCompare(uuid1, uuid2) : defaultCompare(uuid1, uuid2);
+	}
+
+	/**
+	 * Compares two UUIDs given as pairs of longs.
+	 * 
+	 * @param msb1 the most significant bits of a UUID
+	 * @param lsb1 the least significant bits of a UUID
+	 * @param msb2 the most significant bits of another UUID
+	 * @param lsb2 the least significant bits of another UUID
+	 * @return -1, 0 or 1 as the first UUID is less than, equal to, or greater than
+	 *         the second UUID
+	 * @see UuidComparator#defaultCompare(long, long, long, long)
+	 * @see UuidComparator#opaqueCompare(long, long, long, long)
+	 */
+	public int compare(long msb1, long lsb1, long msb2, long lsb2) {
+		return opaque ? opaqueCompare(msb1, lsb1, msb2, lsb2) : defaultCompare(msb1, lsb1, msb2, lsb2);
+	}
+
+	/**
+	 * Returns the most significant bits used to sort a UUID in the default order.
+	 * <p>
+	 * The time stamp of a time-based or DCE Security UUID is rearranged as in a
+	 * time-ordered UUID, keeping the version number in place. The bits of other
+	 * UUIDs are returned as they are.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return the most significant bits to be compared as an unsigned integer
+	 */
+	static long timeOrdered(final long msb, final long lsb) {
+		if (isTimeBased(msb, lsb)) {
+			return ((msb & 0x0fffL) << 52) | ((msb & 0xffff0000L) << 20) //
+					| ((msb >>> 28) & 0xfffff0000L) | (msb & 0xf000L) | ((msb >>> 32) & 0x0fffL);
+		}
+		return msb;
+	}
+
+	/**
+	 * Returns the most significant bits of a UUID from the bits returned by
+	 * {@link #timeOrdered(long, long)}.
+	 * 
+	 * @param msb the rearranged most significant bits
+	 * @param lsb the least significant bits
+	 * @return the most significant bits
+	 */
+	static long fromTimeOrdered(final long msb, final long lsb) {
+		if (isTimeBased(msb, lsb)) {
+			return ((msb & 0xfffff0000L) << 28) | ((msb & 0x0fffL) << 32) //
+					| ((msb >>> 20) & 0xffff0000L) | (msb & 0xf000L) | (msb >>> 52);
+		}
+		return msb;
+	}
+
+	/**
+	 * Checks if this comparator compares UUIDs as unsigned 128-bit integers.
+	 * 
+	 * @return true if this is an opaque comparator
+	 */
+	boolean isOpaque() {
+		return opaque;
 	}
 
-	private static boolean isTimeBased(UUID uuid) {
-		return uuid.version() == 1 && uuid.variant() == 2;
+	private static boolean isTimeBased(final long msb, final long lsb) {
+		// version 1 or 2 and the variant of RFC-4122
+		final long version = msb & 0xf000L;
+		return (version == 0x1000L || version == 0x2000L) && (lsb >>> 62) == 2;
 	}
 }
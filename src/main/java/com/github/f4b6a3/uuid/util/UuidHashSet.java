@@ -0,0 +1,360 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * A set of UUIDs stored as primitive longs.
+ * <p>
+ * It's an open addressing hash table with linear probing. Each UUID is stored
+ * as a pair of longs in a single array, so that a lookup usually reads a single
+ * cache line, and no object is created per UUID. It takes 16 bytes per slot,
+ * about 21 to 43 bytes per UUID depending on the load, instead of 64 bytes or
+ * more for a {@code HashSet<UUID>}.
+ * <p>
+ * The hash mixes both halves of the UUID with multiplications, so that the
+ * random bits of UUIDv4 and UUIDv7 and the time bits of UUIDv1 and UUIDv6 are
+ * all spread across the table.
+ * <p>
+ * Removals shift the following entries back, so there are no tombstones.
+ * <p>
+ * This class is not thread-safe. It holds at most 3 * 2^27 UUIDs, about 400
+ * million.
+ * 
+ * @see UuidToLongMap
+ * @see UuidToIntMap
+ * @see DirectUuidHashSet
+ */
+public final class UuidHashSet {
+
+	private long[] keys;
+	private int shift;
+	private int size;
+	private int threshold;
+	private boolean nil;
+
+	static final int MIN_BITS = 3;
+	static final int MAX_BITS = 29;
+
+	private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+	/**
+	 * Creates an empty set.
+	 */
+	public UuidHashSet() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty set that holds an expected number of UUIDs without
+	 * resizing.
+	 * 
+	 * @param expectedSize the expected number of UUIDs
+	 * @throws IllegalArgumentException if the size is negative or too large
+	 */
+	public UuidHashSet(int expectedSize) {
+		allocate(bits(expectedSize, MAX_BITS));
+	}
+
+	/**
+	 * Adds a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was not in the set
+	 */
+	public boolean add(UUID uuid) {
+		return add(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Adds a UUID.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was not in the set
+	 */
+	public boolean add(long msb, long lsb) {
+
+		if ((msb | lsb) == 0) {
+			final boolean added = !nil;
+			nil = true;
+			return added;
+		}
+
+		final int mask = capacity() - 1;
+		for (int slot = slot(msb, lsb, shift);; slot = (slot + 1) & mask) {
+			final long m = keys[2 * slot];
+			final long l = keys[2 * slot + 1];
+			if (m == msb && l == lsb) {
+				return false;
+			}
+			if ((m | l) == 0) {
+				if (size >= threshold) {
+					rehash(grow(shift, MAX_BITS));
+					return add(msb, lsb);
+				}
+				keys[2 * slot] = msb;
+				keys[2 * slot + 1] = lsb;
+				size++;
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Adds a range of UUIDs stored as pairs of longs.
+	 * 
+	 * @param uuids an array of longs, two per UUID
+	 * @param index the index of the first UUID
+	 * @param count the number of UUIDs
+	 * @return the number of UUIDs that were not in the set
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public int addAll(long[] uuids, int index, int count) {
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		int added = 0;
+		for (int i = 2 * index; i < 2 * (index + count); i += 2) {
+			if (add(uuids[i], uuids[i + 1])) {
+				added++;
+			}
+		}
+		return added;
+	}
+
+	/**
+	 * Checks if a UUID is in the set.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID is in the set
+	 */
+	public boolean contains(UUID uuid) {
+		return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Checks if a UUID is in the set.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID is in the set
+	 */
+	public boolean contains(long msb, long lsb) {
+		if ((msb | lsb) == 0) {
+			return nil;
+		}
+		return find(msb, lsb) >= 0;
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was in the set
+	 */
+	public boolean remove(UUID uuid) {
+		return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was in the set
+	 */
+	public boolean remove(long msb, long lsb) {
+
+		if ((msb | lsb) == 0) {
+			final boolean removed = nil;
+			nil = false;
+			return removed;
+		}
+
+		final int found = find(msb, lsb);
+		if (found < 0) {
+			return false;
+		}
+
+		// shift back the entries that can't be found after the removal
+		final int mask = capacity() - 1;
+		int empty = found;
+		for (int slot = (found + 1) & mask;; slot = (slot + 1) & mask) {
+			final long m = keys[2 * slot];
+			final long l = keys[2 * slot + 1];
+			if ((m | l) == 0) {
+				break;
+			}
+			if (isShiftable(slot(m, l, shift), empty, slot)) {
+				keys[2 * empty] = m;
+				keys[2 * empty + 1] = l;
+				empty = slot;
+			}
+		}
+		keys[2 * empty] = 0L;
+		keys[2 * empty + 1] = 0L;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Returns the number of UUIDs in the set.
+	 * 
+	 * @return the number of UUIDs
+	 */
+	public int size() {
+		return nil ? size + 1 : size;
+	}
+
+	/**
+	 * Checks if the set is empty.
+	 * 
+	 * @return true if the set is empty
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Removes all the UUIDs, keeping the capacity.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0L);
+		size = 0;
+		nil = false;
+	}
+
+	/**
+	 * Returns the UUIDs of the set as pairs of longs, in no particular order.
+	 * 
+	 * @return an array of longs, two per UUID
+	 */
+	public long[] toArray() {
+		final long[] array = new long[2 * size()];
+		int i = nil ? 2 : 0; // the Nil UUID is all zeros
+		for (int slot = 0; slot < keys.length; slot += 2) {
+			if ((keys[slot] | keys[slot + 1]) != 0) {
+				array[i++] = keys[slot];
+				array[i++] = keys[slot + 1];
+			}
+		}
+		return array;
+	}
+
+	private int find(final long msb, final long lsb) {
+		final int mask = capacity() - 1;
+		for (int slot = slot(msb, lsb, shift);; slot = (slot + 1) & mask) {
+			final long m = keys[2 * slot];
+			final long l = keys[2 * slot + 1];
+			if (m == msb && l == lsb) {
+				return slot;
+			}
+			if ((m | l) == 0) {
+				return -1;
+			}
+		}
+	}
+
+	private int capacity() {
+		return keys.length >>> 1;
+	}
+
+	private void allocate(final int bits) {
+		keys = new long[2 << bits];
+		shift = 64 - bits;
+		threshold = threshold(bits);
+	}
+
+	private void rehash(final int bits) {
+		final long[] old = keys;
+		allocate(bits);
+		final int mask = capacity() - 1;
+		for (int i = 0; i < old.length; i += 2) {
+			final long msb = old[i];
+			final long lsb = old[i + 1];
+			if ((msb | lsb) != 0) {
+				int slot = slot(msb, lsb, shift);
+				while ((keys[2 * slot] | keys[2 * slot + 1]) != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[2 * slot] = msb;
+				keys[2 * slot + 1] = lsb;
+			}
+		}
+	}
+
+	/**
+	 * Returns the home slot of a UUID in a table of 2^(64 - shift) slots.
+	 */
+	static int slot(final long msb, final long lsb, final int shift) {
+		final long hash = (msb ^ (lsb * 0x9e3779b97f4a7c15L)) * 0xc2b2ae3d27d4eb4fL;
+		return (int) (hash >>> shift);
+	}
+
+	/**
+	 * Checks if an entry can be moved from its slot to an empty slot, that is,
+	 * if its home slot is not cyclically in the range (empty, slot].
+	 */
+	static boolean isShiftable(final int home, final int empty, final int slot) {
+		return empty <= slot ? (home <= empty || home > slot) : (home <= empty && home > slot);
+	}
+
+	/**
+	 * Returns the number of bits of the capacity for an expected size, so that
+	 * the load factor stays under 3/4.
+	 */
+	static int bits(final int expectedSize, final int maxBits) {
+		if (expectedSize < 0 || expectedSize > threshold(maxBits)) {
+			throw new IllegalArgumentException(String.format("Invalid expected size: %s", expectedSize));
+		}
+		int bits = MIN_BITS;
+		while (threshold(bits) < expectedSize) {
+			bits++;
+		}
+		return bits;
+	}
+
+	/**
+	 * Returns the number of bits of the capacity of a full table.
+	 */
+	static int grow(final int shift, final int maxBits) {
+		final int bits = 64 - shift;
+		if (bits >= maxBits) {
+			throw new IllegalStateException("The table is full");
+		}
+		return bits + 1;
+	}
+
+	/**
+	 * Returns the maximum size of a table of 2^bits slots.
+	 */
+	static int threshold(final int bits) {
+		return (int) ((3L << bits) >>> 2);
+	}
+}
@@ -0,0 +1,411 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util;
+
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Utility for sorting large batches of UUIDs.
+ * <p>
+ * UUIDs are sorted in the order of {@link UuidComparator#defaultCompare(UUID, UUID)}
+ * or {@link UuidComparator#opaqueCompare(UUID, UUID)}, depending on the
+ * comparator instance given. The default order is used if none is given.
+ * <p>
+ * It uses a stable least significant digit radix sort with 8-bit digits. All
+ * the digit histograms are counted in a single pass, and the passes in which all
+ * UUIDs have the same digit are skipped. It needs a buffer of the same size as
+ * the UUIDs being sorted. Small batches are sorted by insertion.
+ * <p>
+ * Arrays of longs hold each UUID as a pair of longs: the most significant bits
+ * followed by the least significant bits. Arrays of {@link UUID} may contain
+ * null elements, which are sorted as Nil UUIDs.
+ * <p>
+ * The parallel methods split the histograms and the passes among the threads
+ * of the common {@link ForkJoinPool}.
+ */
+public final class UuidSorter {
+
+	private static final int RADIX = 256;
+	private static final int DIGITS = 16;
+
+	// below this size, insertion is faster
+	private static final int INSERTION_THRESHOLD = 64;
+
+	private UuidSorter() {
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the default order.
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @see UuidComparator#defaultCompare(UUID, UUID)
+	 */
+	public static void sort(UUID[] uuids) {
+		sort(uuids, UuidComparator.getDefaultInstance(), false);
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the order of a comparator.
+	 * 
+	 * @param uuids      an array of UUIDs
+	 * @param comparator the default or the opaque comparator
+	 */
+	public static void sort(UUID[] uuids, UuidComparator comparator) {
+		sort(uuids, comparator, false);
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the default order, in parallel.
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @see UuidComparator#defaultCompare(UUID, UUID)
+	 */
+	public static void sortParallel(UUID[] uuids) {
+		sort(uuids, UuidComparator.getDefaultInstance(), true);
+	}
+
+	/**
+	 * Sorts an array of UUIDs in the order of a comparator, in parallel.
+	 * 
+	 * @param uuids      an array of UUIDs
+	 * @param comparator the default or the opaque comparator
+	 */
+	public static void sortParallel(UUID[] uuids, UuidComparator comparator) {
+		sort(uuids, comparator, true);
+	}
+
+	/**
+	 * Sorts a range of UUIDs stored as pairs of longs in the default order.
+	 * 
+	 * @param uuids an array of longs, two per UUID
+	 * @param index the index of the first UUID
+	 * @param count the number of UUIDs
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 * @see UuidComparator#defaultCompare(long, long, long, long)
+	 */
+	public static void sort(long[] uuids, int index, int count) {
+		sort(uuids, index, count, UuidComparator.getDefaultInstance(), false);
+	}
+
+	/**
+	 * Sorts a range of UUIDs stored as pairs of longs in the order of a
+	 * comparator.
+	 * 
+	 * @param uuids      an array of longs, two per UUID
+	 * @param index      the index of the first UUID
+	 * @param count      the number of UUIDs
+	 * @param comparator the default or the opaque comparator
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static void sort(long[] uuids, int index, int count, UuidComparator comparator) {
+		sort(uuids, index, count, comparator, false);
+	}
+
+	/**
+	 * Sorts a range of UUIDs stored as pairs of longs in the default order, in
+	 * parallel.
+	 * 
+	 * @param uuids an array of longs, two per UUID
+	 * @param index the index of the first UUID
+	 * @param count the number of UUIDs
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 * @see UuidComparator#defaultCompare(long, long, long, long)
+	 */
+	public static void sortParallel(long[] uuids, int index, int count) {
+		sort(uuids, index, count, UuidComparator.getDefaultInstance(), true);
+	}
+
+	/**
+	 * Sorts a range of UUIDs stored as pairs of longs in the order of a
+	 * comparator, in parallel.
+	 * 
+	 * @param uuids      an array of longs, two per UUID
+	 * @param index      the index of the first UUID
+	 * @param count      the number of UUIDs
+	 * @param comparator the default or the opaque comparator
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static void sortParallel(long[] uuids, int index, int count, UuidComparator comparator) {
+		sort(uuids, index, count, comparator, true);
+	}
+
+	private static void sort(final UUID[] uuids, final UuidComparator comparator, final boolean parallel) {
+
+		final int count = uuids.length;
+		final boolean opaque = comparator.isOpaque();
+
+		// sort the keys along with their positions in the array
+		final long[] keys = new long[2 * count];
+		final int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			final UUID uuid = uuids[i];
+			if (uuid != null) {
+				final long msb = uuid.getMostSignificantBits();
+				final long lsb = uuid.getLeastSignificantBits();
+				keys[2 * i] = opaque ? msb : UuidComparator.timeOrdered(msb, lsb);
+				keys[2 * i + 1] = lsb;
+			}
+			order[i] = i;
+		}
+
+		radix(keys, 0, count, order, parallel);
+
+		final UUID[] copy = uuids.clone();
+		for (int i = 0; i < count; i++) {
+			uuids[i] = copy[order[i]];
+		}
+	}
+
+	private static void sort(final long[] uuids, final int index, final int count, final UuidComparator comparator,
+			final boolean parallel) {
+
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+
+		final int offset = 2 * index;
+		final boolean opaque = comparator.isOpaque();
+
+		if (!opaque) {
+			for (int i = offset; i < offset + 2 * count; i += 2) {
+				uuids[i] = UuidComparator.timeOrdered(uuids[i], uuids[i + 1]);
+			}
+		}
+
+		radix(uuids, offset, count, null, parallel);
+
+		if (!opaque) {
+			for (int i = offset; i < offset + 2 * count; i += 2) {
+				uuids[i] = UuidComparator.fromTimeOrdered(uuids[i], uuids[i + 1]);
+			}
+		}
+	}
+
+	/**
+	 * Sorts the pairs of longs as unsigned 128-bit integers.
+	 * 
+	 * @param keys   an array of longs, two per UUID
+	 * @param offset the position of the first long
+	 * @param count  the number of UUIDs
+	 * @param order  the values that are moved along with the keys, or null
+	 */
+	private static void radix(final long[] keys, final int offset, final int count, final int[] order,
+			final boolean parallel) {
+
+		if (count <= INSERTION_THRESHOLD) {
+			insertion(keys, offset, count, order);
+			return;
+		}
+
+		final int chunks = parallel ? chunks(count) : 1;
+		final int[] histograms = histograms(keys, offset, count, chunks);
+
+		long[] source = keys;
+		long[] target = new long[2 * count];
+		int sourceOffset = offset;
+		int targetOffset = 0;
+		int[] sourceOrder = order;
+		int[] targetOrder = order != null ? new int[count] : null;
+
+		for (int digit = 0; digit < DIGITS; digit++) {
+
+			if (isConstant(histograms, digit, count)) {
+				continue; // nothing to move
+			}
+
+			if (chunks == 1) {
+				scatter(source, sourceOffset, target, targetOffset, sourceOrder, targetOrder, digit, 0, count,
+						offsets(histograms, digit));
+			} else {
+				scatter(source, sourceOffset, target, targetOffset, sourceOrder, targetOrder, digit, count, chunks);
+			}
+
+			final long[] tempKeys = source;
+			source = target;
+			target = tempKeys;
+			final int tempOffset = sourceOffset;
+			sourceOffset = targetOffset;
+			targetOffset = tempOffset;
+			final int[] tempOrder = sourceOrder;
+			sourceOrder = targetOrder;
+			targetOrder = tempOrder;
+		}
+
+		if (source != keys) {
+			System.arraycopy(source, sourceOffset, keys, offset, 2 * count);
+			if (order != null) {
+				System.arraycopy(sourceOrder, 0, order, 0, count);
+			}
+		}
+	}
+
+	/**
+	 * Counts the digits of all the passes in a single read.
+	 * 
+	 * @return the histograms of the 16 digits, 256 counts each
+	 */
+	private static int[] histograms(final long[] keys, final int offset, final int count, final int chunks) {
+
+		final int[][] partial = new int[chunks][];
+		ParallelUtil.forEachIndex(chunks, chunk -> {
+			final int[] histograms = new int[DIGITS * RADIX];
+			final int to = offset + 2 * end(count, chunks, chunk);
+			for (int i = offset + 2 * start(count, chunks, chunk); i < to; i += 2) {
+				final long msb = keys[i];
+				final long lsb = keys[i + 1];
+				for (int digit = 0; digit < 8; digit++) {
+					histograms[(digit << 8) | (int) ((lsb >>> (digit << 3)) & 0xff)]++;
+					histograms[((digit + 8) << 8) | (int) ((msb >>> (digit << 3)) & 0xff)]++;
+				}
+			}
+			partial[chunk] = histograms;
+		});
+
+		final int[] histograms = partial[0];
+		for (int chunk = 1; chunk < chunks; chunk++) {
+			for (int i = 0; i < histograms.length; i++) {
+				histograms[i] += partial[chunk][i];
+			}
+		}
+		return histograms;
+	}
+
+	private static boolean isConstant(final int[] histograms, final int digit, final int count) {
+		for (int i = digit << 8; i < (digit + 1) << 8; i++) {
+			if (histograms[i] != 0) {
+				return histograms[i] == count;
+			}
+		}
+		return true;
+	}
+
+	private static int[] offsets(final int[] histograms, final int digit) {
+		final int[] offsets = new int[RADIX];
+		int sum = 0;
+		for (int i = 0; i < RADIX; i++) {
+			offsets[i] = sum;
+			sum += histograms[(digit << 8) | i];
+		}
+		return offsets;
+	}
+
+	/**
+	 * Moves the UUIDs of a chunk to their buckets.
+	 * 
+	 * @param offsets the next position of each bucket, updated as UUIDs are moved
+	 */
+	private static void scatter(final long[] source, final int sourceOffset, final long[] target,
+			final int targetOffset, final int[] sourceOrder, final int[] targetOrder, final int digit, final int from,
+			final int to, final int[] offsets) {
+
+		final int shift = (digit & 7) << 3;
+		final int word = digit < 8 ? 1 : 0; // least or most significant bits
+
+		for (int i = from; i < to; i++) {
+			final int s = sourceOffset + 2 * i;
+			final int bucket = (int) ((source[s + word] >>> shift) & 0xff);
+			final int j = offsets[bucket]++;
+			final int t = targetOffset + 2 * j;
+			target[t] = source[s];
+			target[t + 1] = source[s + 1];
+			if (sourceOrder != null) {
+				targetOrder[j] = sourceOrder[i];
+			}
+		}
+	}
+
+	/**
+	 * Moves the UUIDs to their buckets in parallel.
+	 * <p>
+	 * Each chunk counts its own digits, so that it can be moved independently
+	 * without changing the relative order of UUIDs in the same bucket.
+	 */
+	private static void scatter(final long[] source, final int sourceOffset, final long[] target,
+			final int targetOffset, final int[] sourceOrder, final int[] targetOrder, final int digit,
+			final int count, final int chunks) {
+
+		final int shift = (digit & 7) << 3;
+		final int word = digit < 8 ? 1 : 0; // least or most significant bits
+
+		final int[][] offsets = new int[chunks][RADIX];
+		ParallelUtil.forEachIndex(chunks, chunk -> {
+			final int[] histogram = offsets[chunk];
+			final int to = end(count, chunks, chunk);
+			for (int i = start(count, chunks, chunk); i < to; i++) {
+				histogram[(int) ((source[sourceOffset + 2 * i + word] >>> shift) & 0xff)]++;
+			}
+		});
+
+		int sum = 0;
+		for (int bucket = 0; bucket < RADIX; bucket++) {
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				final int size = offsets[chunk][bucket];
+				offsets[chunk][bucket] = sum;
+				sum += size;
+			}
+		}
+
+		ParallelUtil.forEachIndex(chunks, chunk -> scatter(source, sourceOffset, target, targetOffset, sourceOrder,
+				targetOrder, digit, start(count, chunks, chunk), end(count, chunks, chunk), offsets[chunk]));
+	}
+
+	private static void insertion(final long[] keys, final int offset, final int count, final int[] order) {
+		for (int i = 1; i < count; i++) {
+			final long msb = keys[offset + 2 * i];
+			final long lsb = keys[offset + 2 * i + 1];
+			final int value = order != null ? order[i] : 0;
+			int j = i - 1;
+			while (j >= 0 && UuidComparator.opaqueCompare(keys[offset + 2 * j], keys[offset + 2 * j + 1], msb, lsb) > 0) {
+				keys[offset + 2 * j + 2] = keys[offset + 2 * j];
+				keys[offset + 2 * j + 3] = keys[offset + 2 * j + 1];
+				if (order != null) {
+					order[j + 1] = order[j];
+				}
+				j--;
+			}
+			keys[offset + 2 * j + 2] = msb;
+			keys[offset + 2 * j + 3] = lsb;
+			if (order != null) {
+				order[j + 1] = value;
+			}
+		}
+	}
+
+	private static int chunks(final int count) {
+		final int chunks = (count + ParallelUtil.THRESHOLD - 1) / ParallelUtil.THRESHOLD;
+		return Math.max(1, Math.min(chunks, 4 * ForkJoinPool.getCommonPoolParallelism()));
+	}
+
+	private static int start(final int count, final int chunks, final int chunk) {
+		return (int) ((long) count * chunk / chunks);
+	}
+
+	private static int end(final int count, final int chunks, final int chunk) {
+		return (int) ((long) count * (chunk + 1) / chunks);
+	}
+}
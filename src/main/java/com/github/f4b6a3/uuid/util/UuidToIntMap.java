@@ -0,0 +1,381 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * A map from UUIDs to primitive {@code int} values.
+ * <p>
+ * It's an open addressing hash table with linear probing, like
+ * {@link UuidHashSet}. Each UUID is stored as a pair of longs in an array, and
+ * the values are stored in a parallel array. It takes 20 bytes per slot,
+ * about 27 to 53 bytes per entry depending on the load, and no object is
+ * created per entry.
+ * <p>
+ * This class is not thread-safe. It holds at most 3 * 2^27 entries, about 400
+ * million.
+ * 
+ * @see UuidHashSet
+ * @see UuidToLongMap
+ */
+public final class UuidToIntMap {
+
+	private long[] keys;
+	private int[] values;
+	private int shift;
+	private int size;
+	private int threshold;
+	private boolean nil;
+	private int nilValue;
+
+	private static final int DEFAULT_EXPECTED_SIZE = 16;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public UuidToIntMap() {
+		this(DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates an empty map that holds an expected number of entries without
+	 * resizing.
+	 * 
+	 * @param expectedSize the expected number of entries
+	 * @throws IllegalArgumentException if the size is negative or too large
+	 */
+	public UuidToIntMap(int expectedSize) {
+		allocate(UuidHashSet.bits(expectedSize, UuidHashSet.MAX_BITS));
+	}
+
+	/**
+	 * Checks if a UUID is in the map.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID is in the map
+	 */
+	public boolean containsKey(UUID uuid) {
+		return containsKey(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Checks if a UUID is in the map.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID is in the map
+	 */
+	public boolean containsKey(long msb, long lsb) {
+		if ((msb | lsb) == 0) {
+			return nil;
+		}
+		return find(msb, lsb) >= 0;
+	}
+
+	/**
+	 * Returns the value of a UUID.
+	 * 
+	 * @param uuid         a UUID
+	 * @param defaultValue the value returned if the UUID is not in the map
+	 * @return the value or the default value
+	 */
+	public int getOrDefault(UUID uuid, int defaultValue) {
+		return getOrDefault(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), defaultValue);
+	}
+
+	/**
+	 * Returns the value of a UUID.
+	 * 
+	 * @param msb          the most significant bits
+	 * @param lsb          the least significant bits
+	 * @param defaultValue the value returned if the UUID is not in the map
+	 * @return the value or the default value
+	 */
+	public int getOrDefault(long msb, long lsb, int defaultValue) {
+		if ((msb | lsb) == 0) {
+			return nil ? nilValue : defaultValue;
+		}
+		final int slot = find(msb, lsb);
+		return slot >= 0 ? values[slot] : defaultValue;
+	}
+
+	/**
+	 * Sets the value of a UUID.
+	 * 
+	 * @param uuid  a UUID
+	 * @param value a value
+	 * @return the previous value, or zero if the UUID was not in the map
+	 */
+	public int put(UUID uuid, int value) {
+		return put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), value);
+	}
+
+	/**
+	 * Sets the value of a UUID.
+	 * 
+	 * @param msb   the most significant bits
+	 * @param lsb   the least significant bits
+	 * @param value a value
+	 * @return the previous value, or zero if the UUID was not in the map
+	 */
+	public int put(long msb, long lsb, int value) {
+		if ((msb | lsb) == 0) {
+			final int previous = nilValue;
+			nil = true;
+			nilValue = value;
+			return previous;
+		}
+		final int slot = insert(msb, lsb);
+		final int previous = values[slot];
+		values[slot] = value;
+		return previous;
+	}
+
+	/**
+	 * Adds an increment to the value of a UUID, which is zero if the UUID is not
+	 * in the map.
+	 * <p>
+	 * It can be used to count UUIDs.
+	 * 
+	 * @param uuid      a UUID
+	 * @param increment the increment
+	 * @return the new value
+	 */
+	public int addTo(UUID uuid, int increment) {
+		return addTo(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), increment);
+	}
+
+	/**
+	 * Adds an increment to the value of a UUID, which is zero if the UUID is not
+	 * in the map.
+	 * <p>
+	 * It can be used to count UUIDs.
+	 * 
+	 * @param msb       the most significant bits
+	 * @param lsb       the least significant bits
+	 * @param increment the increment
+	 * @return the new value
+	 */
+	public int addTo(long msb, long lsb, int increment) {
+		if ((msb | lsb) == 0) {
+			nil = true;
+			return nilValue += increment;
+		}
+		final int slot = insert(msb, lsb); // may resize the arrays
+		return values[slot] += increment;
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param uuid a UUID
+	 * @return true if the UUID was in the map
+	 */
+	public boolean remove(UUID uuid) {
+		return remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Removes a UUID.
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return true if the UUID was in the map
+	 */
+	public boolean remove(long msb, long lsb) {
+
+		if ((msb | lsb) == 0) {
+			final boolean removed = nil;
+			nil = false;
+			nilValue = 0;
+			return removed;
+		}
+
+		final int found = find(msb, lsb);
+		if (found < 0) {
+			return false;
+		}
+
+		// shift back the entries that can't be found after the removal
+		final int mask = capacity() - 1;
+		int empty = found;
+		for (int slot = (found + 1) & mask;; slot = (slot + 1) & mask) {
+			final long m = keys[2 * slot];
+			final long l = keys[2 * slot + 1];
+			if ((m | l) == 0) {
+				break;
+			}
+			if (UuidHashSet.isShiftable(UuidHashSet.slot(m, l, shift), empty, slot)) {
+				keys[2 * empty] = m;
+				keys[2 * empty + 1] = l;
+				values[empty] = values[slot];
+				empty = slot;
+			}
+		}
+		keys[2 * empty] = 0L;
+		keys[2 * empty + 1] = 0L;
+		values[empty] = 0;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Returns the number of entries in the map.
+	 * 
+	 * @return the number of entries
+	 */
+	public int size() {
+		return nil ? size + 1 : size;
+	}
+
+	/**
+	 * Checks if the map is empty.
+	 * 
+	 * @return true if the map is empty
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Removes all the entries, keeping the capacity.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0L);
+		Arrays.fill(values, 0);
+		size = 0;
+		nil = false;
+		nilValue = 0;
+	}
+
+	/**
+	 * Returns the UUIDs of the map as pairs of longs, in the same order as
+	 * {@link #values()}.
+	 * 
+	 * @return an array of longs, two per UUID
+	 */
+	public long[] keys() {
+		final long[] array = new long[2 * size()];
+		int i = nil ? 2 : 0; // the Nil UUID is all zeros
+		for (int slot = 0; slot < keys.length; slot += 2) {
+			if ((keys[slot] | keys[slot + 1]) != 0) {
+				array[i++] = keys[slot];
+				array[i++] = keys[slot + 1];
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * Returns the values of the map, in the same order as {@link #keys()}.
+	 * 
+	 * @return an array of values
+	 */
+	public int[] values() {
+		final int[] array = new int[size()];
+		int i = 0;
+		if (nil) {
+			array[i++] = nilValue;
+		}
+		for (int slot = 0; slot < values.length; slot++) {
+			if ((keys[2 * slot] | keys[2 * slot + 1]) != 0) {
+				array[i++] = values[slot];
+			}
+		}
+		return array;
+	}
+
+	private int find(final long msb, final long lsb) {
+		final int mask = capacity() - 1;
+		for (int slot = UuidHashSet.slot(msb, lsb, shift);; slot = (slot + 1) & mask) {
+			final long m = keys[2 * slot];
+			final long l = keys[2 * slot + 1];
+			if (m == msb && l == lsb) {
+				return slot;
+			}
+			if ((m | l) == 0) {
+				return -1;
+			}
+		}
+	}
+
+	/**
+	 * Returns the slot of a UUID, adding it with a zero value if it's not there.
+	 */
+	private int insert(final long msb, final long lsb) {
+		final int mask = capacity() - 1;
+		for (int slot = UuidHashSet.slot(msb, lsb, shift);; slot = (slot + 1) & mask) {
+			final long m = keys[2 * slot];
+			final long l = keys[2 * slot + 1];
+			if (m == msb && l == lsb) {
+				return slot;
+			}
+			if ((m | l) == 0) {
+				if (size >= threshold) {
+					rehash(UuidHashSet.grow(shift, UuidHashSet.MAX_BITS));
+					return insert(msb, lsb);
+				}
+				keys[2 * slot] = msb;
+				keys[2 * slot + 1] = lsb;
+				size++;
+				return slot;
+			}
+		}
+	}
+
+	private int capacity() {
+		return values.length;
+	}
+
+	private void allocate(final int bits) {
+		keys = new long[2 << bits];
+		values = new int[1 << bits];
+		shift = 64 - bits;
+		threshold = UuidHashSet.threshold(bits);
+	}
+
+	private void rehash(final int bits) {
+		final long[] oldKeys = keys;
+		final int[] oldValues = values;
+		allocate(bits);
+		final int mask = capacity() - 1;
+		for (int i = 0; i < oldValues.length; i++) {
+			final long msb = oldKeys[2 * i];
+			final long lsb = oldKeys[2 * i + 1];
+			if ((msb | lsb) != 0) {
+				int slot = UuidHashSet.slot(msb, lsb, shift);
+				while ((keys[2 * slot] | keys[2 * slot + 1]) != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[2 * slot] = msb;
+				keys[2 * slot + 1] = lsb;
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+}
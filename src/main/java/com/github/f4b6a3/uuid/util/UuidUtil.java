@@ -277,6 +277,38 @@ public final class UuidUtil {
 		}
 	}
 
+	/**
+	 * Returns the time stamp from a time-based, time-ordered or DCE Security UUID
+	 * given as a pair of longs.
+	 * <p>
+	 * The value returned by this method is the number of 100-nanos since 1582-10-15
+	 * (Gregorian epoch).
+	 *
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return long the timestamp
+	 * @throws IllegalArgumentException if the input is not a time-based,
+	 *                                  time-ordered or DCE Security UUID.
+	 * @see #getTimestamp(UUID)
+	 */
+	public static long getTimestamp(long msb, long lsb) {
+		if ((lsb >>> 62) == 2) { // RFC-4122 variant
+			switch ((int) (msb >>> 12) & 0xf) {
+			case 1:
+				return getTimeBasedTimestamp(msb);
+			case 2:
+				return getTimeBasedTimestamp(msb & 0x00000000ffffffffL);
+			case 6:
+				return getTimeOrderedTimestamp(msb);
+			case 7:
+				return UuidTime.toGregTimestamp(getTimeOrderedEpochTimestamp(msb));
+			default:
+				break;
+			}
+		}
+		throw new IllegalArgumentException(String.format(MESSAGE_NOT_A_TIME_BASED_UUID, new UUID(msb, lsb)));
+	}
+
 	private static long getUnixTimestamp(UUID uuid) {
 		if (UuidUtil.isTimeOrderedEpoch(uuid)) {
 			return getTimeOrderedEpochTimestamp(uuid.getMostSignificantBits());
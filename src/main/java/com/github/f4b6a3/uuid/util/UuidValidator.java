@@ -24,6 +24,7 @@
 
 package com.github.f4b6a3.uuid.util;
 
+import java.nio.CharBuffer;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.codec.base.Base16Codec;
@@ -103,7 +104,7 @@ public final class UuidValidator {
 	 * @return true if valid, false if invalid
 	 */
 	public static boolean isValid(final String uuid) {
-		return uuid != null && uuid.length() != 0 && isParseable(uuid.toCharArray());
+		return uuid != null && uuid.length() != 0 && isParseable((CharSequence) uuid);
 	}
 
 	/**
@@ -114,7 +115,7 @@ public final class UuidValidator {
 	 * @return true if valid, false if invalid
 	 */
 	public static boolean isValid(final String uuid, int version) {
-		return uuid != null && uuid.length() != 0 && isParseable(uuid.toCharArray(), version);
+		return uuid != null && uuid.length() != 0 && isParseable((CharSequence) uuid, version);
 	}
 
 	/**
@@ -195,7 +196,7 @@ public final class UuidValidator {
 	 * @throws InvalidUuidException if the argument is invalid
 	 */
 	public static void validate(final String uuid) {
-		if (uuid == null || !isParseable(uuid.toCharArray())) {
+		if (uuid == null || !isParseable((CharSequence) uuid)) {
 			throw InvalidUuidException.newInstance(uuid);
 		}
 	}
@@ -208,7 +209,7 @@ public final class UuidValidator {
 	 * @throws InvalidUuidException if the argument is invalid
 	 */
 	public static void validate(final String uuid, int version) {
-		if (uuid == null || !isParseable(uuid.toCharArray(), version)) {
+		if (uuid == null || !isParseable((CharSequence) uuid, version)) {
 			throw InvalidUuidException.newInstance(uuid);
 		}
 	}
@@ -249,10 +250,33 @@ public final class UuidValidator {
 	 * @return true if valid, false if invalid
 	 */
 	protected static boolean isParseable(final char[] chars) {
+		return isParseable(CharBuffer.wrap(chars));
+	}
+
+	/**
+	 * Checks if the UUID char array can be parsed.
+	 * 
+	 * @param chars   a char array
+	 * @param version a version number
+	 * @return true if valid, false if invalid
+	 */
+	protected static boolean isParseable(final char[] chars, int version) {
+		return isParseable(CharBuffer.wrap(chars), version);
+	}
+
+	/**
+	 * Checks if the UUID chars can be parsed.
+	 * <p>
+	 * The chars are read directly from the sequence, so validating a string
+	 * doesn't copy it into an array.
+	 */
+	private static boolean isParseable(final CharSequence chars) {
+		final int length = chars.length();
 		int dashCount = 0;
-		for (int i = 0; i < chars.length; i++) {
-			if (MAP.get(chars[i]) == -1) {
-				if (chars[i] == '-') {
+		for (int i = 0; i < length; i++) {
+			final char c = chars.charAt(i);
+			if (c >= MAP.length() || MAP.get(c) == -1) {
+				if (c == '-') {
 					dashCount++;
 					continue;
 				}
@@ -260,22 +284,16 @@ public final class UuidValidator {
 			}
 		}
 
-		if (chars.length == WITH_DASH_UUID_LENGTH && dashCount == MAX_DASH_COUNT) {
+		if (length == WITH_DASH_UUID_LENGTH && dashCount == MAX_DASH_COUNT) {
 			// check if the hyphens positions are correct
-			return chars[DASH_POSITIONS[0]] == '-' && chars[DASH_POSITIONS[1]] == '-' && chars[DASH_POSITIONS[2]] == '-' && chars[DASH_POSITIONS[3]] == '-';
+			return chars.charAt(DASH_POSITIONS[0]) == '-' && chars.charAt(DASH_POSITIONS[1]) == '-'
+					&& chars.charAt(DASH_POSITIONS[2]) == '-' && chars.charAt(DASH_POSITIONS[3]) == '-';
 		}
 
-		return chars.length == WITHOUT_DASH_UUID_LENGTH && dashCount == 0;
+		return length == WITHOUT_DASH_UUID_LENGTH && dashCount == 0;
 	}
 
-	/**
-	 * Checks if the UUID char array can be parsed.
-	 * 
-	 * @param chars   a char array
-	 * @param version a version number
-	 * @return true if valid, false if invalid
-	 */
-	protected static boolean isParseable(final char[] chars, int version) {
+	private static boolean isParseable(final CharSequence chars, int version) {
 		return isVersion(chars, version) && isParseable(chars);
 	}
 
@@ -313,6 +331,10 @@ public final class UuidValidator {
 	 * @return true if the UUID version is equal to the expected version number
 	 */
 	protected static boolean isVersion(char[] chars, int version) {
+		return isVersion(CharBuffer.wrap(chars), version);
+	}
+
+	private static boolean isVersion(final CharSequence chars, int version) {
 
 		// valid if between 0x0 and 0xf
 		if ((version & ~0xf) != 0) {
@@ -322,7 +344,7 @@ public final class UuidValidator {
 		int ver = 0; // version index
 		int var = 0; // variant index
 
-		switch (chars.length) {
+		switch (chars.length()) {
 		case 32: // without hyphen
 			ver = 12;
 			var = 16;
@@ -335,11 +357,10 @@ public final class UuidValidator {
 			return false;
 		}
 
-		final char[] lower = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
-		final char[] upper = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F' };
-		boolean versionOk = ((version & ~0xf) == 0) && (chars[ver] == lower[version] || chars[ver] == upper[version]);
-		boolean variantOk = chars[var] == '8' || chars[var] == '9' //
-				|| chars[var] == 'a' || chars[var] == 'b' || chars[var] == 'A' || chars[var] == 'B';
+		final char v = chars.charAt(ver);
+		final char r = chars.charAt(var);
+		boolean versionOk = Character.digit(v, 16) == version && v < 0x80;
+		boolean variantOk = r == '8' || r == '9' || r == 'a' || r == 'b' || r == 'A' || r == 'B';
 
 		return versionOk && variantOk;
 	}
@@ -0,0 +1,426 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util.immutable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.github.f4b6a3.uuid.util.UuidComparator;
+import com.github.f4b6a3.uuid.util.UuidSorter;
+import com.github.f4b6a3.uuid.util.UuidTime;
+import com.github.f4b6a3.uuid.util.UuidUtil;
+import com.github.f4b6a3.uuid.util.internal.RangeUtil;
+
+/**
+ * Immutable array of UUIDs.
+ * <p>
+ * The UUIDs are stored as pairs of longs in a single array, the most
+ * significant bits followed by the least significant bits, so it takes 16 bytes
+ * per UUID and no object is created per UUID. Slices share the array of the
+ * instance they are taken from.
+ * <p>
+ * The search methods require the UUIDs to be sorted, as in
+ * {@link java.util.Arrays#binarySearch(long[], long)}. Use {@link #sorted()} to
+ * sort them.
+ */
+public final class UuidArray {
+
+	private final long[] array;
+	private final int offset; // the index of the first UUID
+	private final int length; // the number of UUIDs
+
+	private static final UuidArray EMPTY = new UuidArray(new long[0], 0, 0);
+
+	private UuidArray(long[] array, int offset, int length) {
+		this.array = array;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	/**
+	 * Action applied to each UUID of the array.
+	 */
+	@FunctionalInterface
+	public static interface LongPairConsumer {
+		/**
+		 * Applies the action to a UUID.
+		 * 
+		 * @param msb the most significant bits
+		 * @param lsb the least significant bits
+		 */
+		public void accept(long msb, long lsb);
+	}
+
+	/**
+	 * Creates an instance of this class.
+	 * 
+	 * @param uuids an array of longs, two per UUID
+	 * @return a new instance
+	 * @throws IllegalArgumentException if the array length is odd
+	 */
+	public static UuidArray from(long[] uuids) {
+		if ((uuids.length & 1) != 0) {
+			throw new IllegalArgumentException(String.format("Invalid array length: %s", uuids.length));
+		}
+		return from(uuids, 0, uuids.length / 2);
+	}
+
+	/**
+	 * Creates an instance of this class from a range of UUIDs stored as pairs of
+	 * longs.
+	 * 
+	 * @param uuids an array of longs, two per UUID
+	 * @param index the index of the first UUID
+	 * @param count the number of UUIDs
+	 * @return a new instance
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public static UuidArray from(long[] uuids, int index, int count) {
+		RangeUtil.checkRange(uuids.length, 2L * index, 2L * count);
+		final long[] array = new long[2 * count];
+		System.arraycopy(uuids, 2 * index, array, 0, array.length);
+		return new UuidArray(array, 0, count);
+	}
+
+	/**
+	 * Creates an instance of this class.
+	 * 
+	 * @param uuids an array of UUIDs
+	 * @return a new instance
+	 */
+	public static UuidArray from(UUID[] uuids) {
+		final long[] array = new long[2 * uuids.length];
+		for (int i = 0; i < uuids.length; i++) {
+			array[2 * i] = uuids[i].getMostSignificantBits();
+			array[2 * i + 1] = uuids[i].getLeastSignificantBits();
+		}
+		return new UuidArray(array, 0, uuids.length);
+	}
+
+	/**
+	 * Creates an instance of this class.
+	 * 
+	 * @param uuids a collection of UUIDs
+	 * @return a new instance
+	 */
+	public static UuidArray from(Collection<UUID> uuids) {
+		return from(uuids.toArray(new UUID[0]));
+	}
+
+	/**
+	 * Returns the empty array.
+	 * 
+	 * @return an empty array
+	 */
+	public static UuidArray empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Returns the UUID at a position.
+	 * 
+	 * @param index the position
+	 * @return a UUID
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public UUID get(int index) {
+		final int i = position(index);
+		return new UUID(array[i], array[i + 1]);
+	}
+
+	/**
+	 * Returns the most significant bits of the UUID at a position.
+	 * 
+	 * @param index the position
+	 * @return the most significant bits
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public long getMostSignificantBits(int index) {
+		return array[position(index)];
+	}
+
+	/**
+	 * Returns the least significant bits of the UUID at a position.
+	 * 
+	 * @param index the position
+	 * @return the least significant bits
+	 * @throws IndexOutOfBoundsException if the index is out of bounds
+	 */
+	public long getLeastSignificantBits(int index) {
+		return array[position(index) + 1];
+	}
+
+	/**
+	 * Returns the number of UUIDs.
+	 * 
+	 * @return the length
+	 */
+	public int length() {
+		return this.length;
+	}
+
+	/**
+	 * Returns a slice of the array without copying it.
+	 * 
+	 * @param from the index of the first UUID, inclusive
+	 * @param to   the index of the last UUID, exclusive
+	 * @return a slice
+	 * @throws IndexOutOfBoundsException if the range is out of bounds
+	 */
+	public UuidArray slice(int from, int to) {
+		RangeUtil.checkRange(length, from, (long) to - from);
+		return new UuidArray(array, offset + from, to - from);
+	}
+
+	/**
+	 * Returns a copy of the array sorted in the default order.
+	 * 
+	 * @return a sorted array
+	 * @see UuidComparator#defaultCompare(UUID, UUID)
+	 */
+	public UuidArray sorted() {
+		return sorted(UuidComparator.getDefaultInstance());
+	}
+
+	/**
+	 * Returns a copy of the array sorted in the order of a comparator.
+	 * 
+	 * @param comparator the default or the opaque comparator
+	 * @return a sorted array
+	 * @see UuidSorter
+	 */
+	public UuidArray sorted(UuidComparator comparator) {
+		final long[] copy = toArray();
+		UuidSorter.sort(copy, 0, length, comparator);
+		return new UuidArray(copy, 0, length);
+	}
+
+	/**
+	 * Searches a UUID in an array sorted as unsigned 128-bit integers.
+	 * 
+	 * @param uuid a UUID
+	 * @return the index of the UUID, or {@code (-(insertion point) - 1)}
+	 * @see java.util.Arrays#binarySearch(long[], long)
+	 * @see UuidComparator#opaqueCompare(UUID, UUID)
+	 */
+	public int binarySearch(UUID uuid) {
+		return binarySearch(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	/**
+	 * Searches a UUID in an array sorted as unsigned 128-bit integers.
+	 * <p>
+	 * It's the same order as the default order for Unix epoch time-based UUIDs
+	 * (version 7) and time-ordered UUIDs (version 6).
+	 * 
+	 * @param msb the most significant bits
+	 * @param lsb the least significant bits
+	 * @return the index of the UUID, or {@code (-(insertion point) - 1)}
+	 * @see java.util.Arrays#binarySearch(long[], long)
+	 * @see UuidComparator#opaqueCompare(long, long, long, long)
+	 */
+	public int binarySearch(long msb, long lsb) {
+		int low = 0;
+		int high = length - 1;
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int i = 2 * (offset + middle);
+			final int comparison = UuidComparator.opaqueCompare(array[i], array[i + 1], msb, lsb);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Searches a UUID in an array sorted in the order of a comparator.
+	 * 
+	 * @param msb        the most significant bits
+	 * @param lsb        the least significant bits
+	 * @param comparator the comparator used to sort the array
+	 * @return the index of the UUID, or {@code (-(insertion point) - 1)}
+	 * @see java.util.Arrays#binarySearch(long[], long)
+	 */
+	public int binarySearch(long msb, long lsb, UuidComparator comparator) {
+		int low = 0;
+		int high = length - 1;
+		while (low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int i = 2 * (offset + middle);
+			final int comparison = comparator.compare(array[i], array[i + 1], msb, lsb);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Returns the slice of UUIDs created in a time range, without copying it.
+	 * <p>
+	 * The UUIDs must be time-based, time-ordered, Unix epoch time-based or DCE
+	 * Security UUIDs sorted by time, as in the default order of
+	 * {@link UuidComparator}. Time-ordered (version 6) and Unix epoch time-based
+	 * (version 7) UUIDs are sorted by time as unsigned 128-bit integers too.
+	 * <p>
+	 * The time of each UUID is read as in {@link UuidUtil#getTimestamp(long, long)}.
+	 * 
+	 * @param from the start of the range, inclusive
+	 * @param to   the end of the range, exclusive
+	 * @return a slice, which is empty if the end is not after the start
+	 * @throws IllegalArgumentException if a UUID read by the search has no time
+	 */
+	public UuidArray range(Instant from, Instant to) {
+		final int start = lowerBound(timestamp(from));
+		final int end = Math.max(start, lowerBound(timestamp(to)));
+		return new UuidArray(array, offset + start, end - start);
+	}
+
+	/**
+	 * Applies an action to each UUID, in order.
+	 * 
+	 * @param action the action
+	 */
+	public void forEach(LongPairConsumer action) {
+		for (int i = 2 * offset; i < 2 * (offset + length); i += 2) {
+			action.accept(array[i], array[i + 1]);
+		}
+	}
+
+	/**
+	 * Returns a sequential stream of the UUIDs.
+	 * <p>
+	 * The {@link UUID} instances are created as the stream is consumed. Use
+	 * {@link #forEach(LongPairConsumer)} to read the UUIDs without creating them.
+	 * 
+	 * @return a stream of UUIDs
+	 */
+	public Stream<UUID> stream() {
+		return IntStream.range(0, length).mapToObj(this::get);
+	}
+
+	/**
+	 * Returns copy of the array.
+	 * 
+	 * @return an array of longs, two per UUID
+	 */
+	public long[] toArray() {
+		final long[] copy = new long[2 * length];
+		System.arraycopy(array, 2 * offset, copy, 0, copy.length);
+		return copy;
+	}
+
+	@Override
+	public int hashCode() {
+		final int prime = 31;
+		int result = 1;
+		for (int i = 2 * offset; i < 2 * (offset + length); i++) {
+			result = prime * result + Long.hashCode(array[i]);
+		}
+		return result;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		UuidArray other = (UuidArray) obj;
+		if (length != other.length)
+			return false;
+		for (int i = 0; i < 2 * length; i++) {
+			if (array[2 * offset + i] != other.array[2 * other.offset + i])
+				return false;
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder("UuidArray [array=[");
+		for (int i = 0; i < length; i++) {
+			builder.append(i == 0 ? "" : ", ").append(get(i));
+		}
+		return builder.append("]]").toString();
+	}
+
+	private int position(final int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException(String.format("Index %d out of bounds for length %d", index, length));
+		}
+		return 2 * (offset + index);
+	}
+
+	/**
+	 * Returns the index of the first UUID whose time stamp is not less than a
+	 * time stamp.
+	 */
+	private int lowerBound(final long timestamp) {
+		int low = 0;
+		int high = length;
+		while (low < high) {
+			final int middle = (low + high) >>> 1;
+			final int i = 2 * (offset + middle);
+			if (UuidUtil.getTimestamp(array[i], array[i + 1]) < timestamp) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the Gregorian time stamp of an instant, rounded up to the next
+	 * 100-nanos, so that a UUID is in a range if its time stamp is not less than
+	 * the start and is less than the end.
+	 */
+	private static long timestamp(final Instant instant) {
+		final long seconds = instant.getEpochSecond() - UuidTime.EPOCH_GREG_SECONDS;
+		if (seconds >= Long.MAX_VALUE / UuidTime.TICKS_PER_SECOND) {
+			return Long.MAX_VALUE; // after all UUIDs
+		} else if (seconds <= Long.MIN_VALUE / UuidTime.TICKS_PER_SECOND) {
+			return Long.MIN_VALUE; // before all UUIDs
+		}
+		final long timestamp = UuidTime.toGregTimestamp(instant);
+		return instant.getNano() % UuidTime.NANOS_PER_TICK != 0 ? timestamp + 1 : timestamp;
+	}
+}
@@ -0,0 +1,261 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+/**
+ * Utility class that converts hexadecimal digits using SWAR.
+ * <p>
+ * SWAR stands for SIMD Within A Register. It converts 8 hexadecimal digits at
+ * once, packed as ASCII bytes into a single {@code long}, using only additions,
+ * shifts and masks. No lookup table is used.
+ * <p>
+ * The packed digits are big-endian: the first digit is the most significant
+ * byte.
+ */
+public final class HexUtil {
+
+	private static final long ONES = 0x0101010101010101L; // 0x01 in each byte
+	private static final long HIGH = 0x8080808080808080L; // 0x80 in each byte
+
+	private HexUtil() {
+	}
+
+	/**
+	 * Packs 4 chars of a char sequence into the lower 32 bits of a long.
+	 * <p>
+	 * If any char is not ASCII, it returns zero, which is not a valid sequence
+	 * of hexadecimal digits.
+	 * 
+	 * @param string a char sequence
+	 * @param index  the index of the first char
+	 * @return 4 ASCII bytes
+	 */
+	public static long pack(final CharSequence string, final int index) {
+		final int c0 = string.charAt(index);
+		final int c1 = string.charAt(index + 1);
+		final int c2 = string.charAt(index + 2);
+		final int c3 = string.charAt(index + 3);
+		if ((c0 | c1 | c2 | c3) > 0x7f) {
+			return 0L;
+		}
+		return ((long) c0 << 24) | (c1 << 16) | (c2 << 8) | c3;
+	}
+
+	/**
+	 * Unpacks the lower 32 bits of a long into 4 chars of an array.
+	 * 
+	 * @param ascii 4 ASCII bytes
+	 * @param chars the destination array
+	 * @param index the index of the first char
+	 */
+	public static void unpack(final long ascii, final char[] chars, final int index) {
+		chars[index] = (char) ((ascii >>> 24) & 0xff);
+		chars[index + 1] = (char) ((ascii >>> 16) & 0xff);
+		chars[index + 2] = (char) ((ascii >>> 8) & 0xff);
+		chars[index + 3] = (char) (ascii & 0xff);
+	}
+
+	/**
+	 * Packs 4 bytes of an array into the lower 32 bits of a long.
+	 * 
+	 * @param bytes an array of bytes
+	 * @param index the index of the first byte
+	 * @return 4 bytes
+	 */
+	public static long pack(final byte[] bytes, final int index) {
+		return ((bytes[index] & 0xffL) << 24) | ((bytes[index + 1] & 0xff) << 16) //
+				| ((bytes[index + 2] & 0xff) << 8) | (bytes[index + 3] & 0xff);
+	}
+
+	/**
+	 * Unpacks the lower 32 bits of a long into 4 bytes of an array.
+	 * 
+	 * @param ascii 4 ASCII bytes
+	 * @param bytes the destination array
+	 * @param index the index of the first byte
+	 */
+	public static void unpack(final long ascii, final byte[] bytes, final int index) {
+		bytes[index] = (byte) (ascii >>> 24);
+		bytes[index + 1] = (byte) (ascii >>> 16);
+		bytes[index + 2] = (byte) (ascii >>> 8);
+		bytes[index + 3] = (byte) ascii;
+	}
+
+	/**
+	 * Decodes 8 hexadecimal digits into a 32-bit number.
+	 * <p>
+	 * Upper and lower case digits are accepted.
+	 * 
+	 * @param ascii 8 ASCII bytes
+	 * @return a number between 0 and 0xffffffff, or -1 if any byte is not a
+	 *         hexadecimal digit
+	 */
+	public static long decode(final long ascii) {
+
+		// range checks: the high bit of each byte is set if it's in the range
+		final long digit = (ascii + 0x50 * ONES) & ~(ascii + 0x46 * ONES); // '0' to '9'
+		final long lower = ascii | 0x20 * ONES; // 'A' to 'F' become 'a' to 'f'
+		final long letter = (lower + 0x1f * ONES) & ~(lower + 0x19 * ONES) & HIGH; // 'a' to 'f'
+
+		// the checks are only reliable if all bytes are ASCII
+		final long invalid = ((digit | letter) & HIGH ^ HIGH) | (ascii & HIGH);
+
+		// the values of the digits, one per byte
+		long value = (ascii & 0x0f * ONES) + (letter >>> 7) * 9;
+
+		// join the bytes
+		value = (value | value >>> 4) & 0x00ff00ff00ff00ffL;
+		value = (value | value >>> 8) & 0x0000ffff0000ffffL;
+		value = (value | value >>> 16) & 0x00000000ffffffffL;
+
+		return invalid == 0 ? value : -1L;
+	}
+
+	/**
+	 * Encodes a 32-bit number into 8 lower case hexadecimal digits.
+	 * 
+	 * @param number a number, of which only the lower 32 bits are used
+	 * @return 8 ASCII bytes
+	 */
+	public static long encode(final long number) {
+
+		// spread the nibbles, one per byte
+		long value = number & 0x00000000ffffffffL;
+		value = (value | value << 16) & 0x0000ffff0000ffffL;
+		value = (value | value << 8) & 0x00ff00ff00ff00ffL;
+		value = (value | value << 4) & 0x0f0f0f0f0f0f0f0fL;
+
+		// 0x01 in each byte greater than 9
+		final long letter = ((value + 0x06 * ONES) >>> 4) & ONES;
+
+		// add '0' to all bytes and ('a' - '0' - 10) to letters
+		return value + 0x30 * ONES + letter * 0x27;
+	}
+
+	/**
+	 * Writes the canonical string of a UUID into 36 chars of an array.
+	 * 
+	 * @param msb    the most significant bits
+	 * @param lsb    the least significant bits
+	 * @param chars  the destination array
+	 * @param offset the index of the first char
+	 */
+	public static void format(final long msb, final long lsb, final char[] chars, final int offset) {
+
+		final long a = encode(msb >>> 32);
+		final long b = encode(msb);
+		final long c = encode(lsb >>> 32);
+		final long d = encode(lsb);
+
+		unpack(a >>> 32, chars, offset);
+		unpack(a, chars, offset + 4);
+		chars[offset + 8] = '-';
+		unpack(b >>> 32, chars, offset + 9);
+		chars[offset + 13] = '-';
+		unpack(b, chars, offset + 14);
+		chars[offset + 18] = '-';
+		unpack(c >>> 32, chars, offset + 19);
+		chars[offset + 23] = '-';
+		unpack(c, chars, offset + 24);
+		unpack(d >>> 32, chars, offset + 28);
+		unpack(d, chars, offset + 32);
+	}
+
+	/**
+	 * Writes the canonical string of a UUID into 36 bytes of an array.
+	 * 
+	 * @param msb    the most significant bits
+	 * @param lsb    the least significant bits
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte
+	 */
+	public static void format(final long msb, final long lsb, final byte[] bytes, final int offset) {
+
+		final long a = encode(msb >>> 32);
+		final long b = encode(msb);
+		final long c = encode(lsb >>> 32);
+		final long d = encode(lsb);
+
+		unpack(a >>> 32, bytes, offset);
+		unpack(a, bytes, offset + 4);
+		bytes[offset + 8] = '-';
+		unpack(b >>> 32, bytes, offset + 9);
+		bytes[offset + 13] = '-';
+		unpack(b, bytes, offset + 14);
+		bytes[offset + 18] = '-';
+		unpack(c >>> 32, bytes, offset + 19);
+		bytes[offset + 23] = '-';
+		unpack(c, bytes, offset + 24);
+		unpack(d >>> 32, bytes, offset + 28);
+		unpack(d, bytes, offset + 32);
+	}
+
+	/**
+	 * Reads 32 hexadecimal digits of a UUID, with or without hyphens, from an
+	 * array.
+	 * <p>
+	 * With hyphens, it reads the 36 bytes of the canonical string. Upper and
+	 * lower case digits are accepted. The UUID is written as a pair of most and
+	 * least significant bits.
+	 * 
+	 * @param bytes   the source array
+	 * @param offset  the index of the first byte
+	 * @param hyphens true if the digits are separated by hyphens
+	 * @param uuids   the destination array
+	 * @param pair    the index of the most significant bits
+	 * @return false if the bytes are invalid, in which case nothing is written
+	 */
+	public static boolean parse(final byte[] bytes, final int offset, final boolean hyphens, final long[] uuids,
+			final int pair) {
+
+		final int h = hyphens ? 1 : 0;
+
+		final long a = decode(pack(bytes, offset) << 32 | pack(bytes, offset + 4));
+		final long b = decode(pack(bytes, offset + 8 + h) << 32 | pack(bytes, offset + 12 + 2 * h));
+		final long c = decode(pack(bytes, offset + 16 + 3 * h) << 32 | pack(bytes, offset + 20 + 4 * h));
+		final long d = decode(pack(bytes, offset + 24 + 4 * h) << 32 | pack(bytes, offset + 28 + 4 * h));
+
+		long error = a | b | c | d;
+		if (hyphens) {
+			error |= dash(bytes[offset + 8]) | dash(bytes[offset + 13]) | dash(bytes[offset + 18])
+					| dash(bytes[offset + 23]);
+		}
+
+		if (error < 0) {
+			return false;
+		}
+
+		uuids[pair] = (a << 32) | b;
+		uuids[pair + 1] = (c << 32) | d;
+		return true;
+	}
+
+	/**
+	 * Returns zero if the byte is a hyphen, or a negative number otherwise.
+	 */
+	private static int dash(final byte b) {
+		return -((b & 0xff) ^ '-');
+	}
+}
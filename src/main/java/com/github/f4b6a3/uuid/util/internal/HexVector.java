@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+/**
+ * Bulk conversion of UUIDs to and from canonical ASCII strings using the Vector
+ * API.
+ * <p>
+ * This is the Java 8 implementation, which converts one UUID at a time with
+ * {@link HexUtil}. The multi-release JAR replaces it with an implementation
+ * based on {@code jdk.incubator.vector} on Java 17 and later. That
+ * implementation is used if the module is added to the JVM, e.g.
+ * {@code --add-modules jdk.incubator.vector}.
+ * <p>
+ * The UUIDs are stored in an array of longs, as pairs of most and least
+ * significant bits. The strings are stored in an array of bytes, 36 bytes per
+ * UUID, with no separators.
+ */
+public final class HexVector {
+
+	private static final int LENGTH = 36;
+
+	private HexVector() {
+	}
+
+	/**
+	 * Check if the Vector API is used.
+	 * 
+	 * @return true if supported
+	 */
+	public static boolean isSupported() {
+		return false;
+	}
+
+	/**
+	 * Encode UUIDs to canonical strings.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID
+	 * @param count  the number of UUIDs
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte
+	 */
+	public static void encode(long[] uuids, int index, int count, byte[] bytes, int offset) {
+		for (int i = 0; i < count; i++) {
+			final int pair = (index + i) << 1;
+			HexUtil.format(uuids[pair], uuids[pair + 1], bytes, offset + i * LENGTH);
+		}
+	}
+
+	/**
+	 * Decode canonical strings to UUIDs.
+	 * 
+	 * @param bytes  the source array
+	 * @param offset the index of the first byte
+	 * @param count  the number of UUIDs
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID
+	 * @return the position of the first invalid string, or -1 if all are valid
+	 */
+	public static int decode(byte[] bytes, int offset, int count, long[] uuids, int index) {
+		for (int i = 0; i < count; i++) {
+			if (!HexUtil.parse(bytes, offset + i * LENGTH, true, uuids, (index + i) << 1)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Utility class that splits batches of UUIDs among the threads of the common
+ * {@link ForkJoinPool}.
+ */
+public final class ParallelUtil {
+
+	/**
+	 * The number of UUIDs below which a range is not split.
+	 */
+	public static final int THRESHOLD = 8192;
+
+	private ParallelUtil() {
+	}
+
+	/**
+	 * Action applied to a range of a batch.
+	 */
+	@FunctionalInterface
+	public static interface RangeAction {
+		/**
+		 * Applies the action to a range of a batch.
+		 * 
+		 * @param from the index of the first element, inclusive
+		 * @param to   the index of the last element, exclusive
+		 */
+		public void apply(int from, int to);
+	}
+
+	/**
+	 * Applies an action to the range [0, count) in parallel.
+	 * <p>
+	 * The range is split in halves until they are smaller than
+	 * {@link #THRESHOLD}. Small batches run in the calling thread.
+	 * <p>
+	 * If an action throws a runtime exception, it is thrown to the caller after
+	 * the other ranges complete or are cancelled.
+	 * 
+	 * @param count  the number of elements
+	 * @param action the action
+	 */
+	public static void forEachRange(final int count, final RangeAction action) {
+		if (count <= THRESHOLD) {
+			action.apply(0, count);
+		} else {
+			ForkJoinPool.commonPool().invoke(new RangeTask(0, count, THRESHOLD, action));
+		}
+	}
+
+	/**
+	 * Applies an action to each index in the range [0, count) in parallel.
+	 * <p>
+	 * Unlike {@link #forEachRange(int, RangeAction)}, every index is a task of its
+	 * own. It's meant for a few coarse tasks, such as the chunks of a batch.
+	 * <p>
+	 * If an action throws a runtime exception, it is thrown to the caller after
+	 * the other tasks complete or are cancelled.
+	 * 
+	 * @param count  the number of tasks
+	 * @param action the action
+	 */
+	public static void forEachIndex(final int count, final IntConsumer action) {
+		final RangeAction range = (from, to) -> {
+			for (int i = from; i < to; i++) {
+				action.accept(i);
+			}
+		};
+		if (count <= 1) {
+			range.apply(0, count);
+		} else {
+			ForkJoinPool.commonPool().invoke(new RangeTask(0, count, 1, range));
+		}
+	}
+
+	private static final class RangeTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int from;
+		private final int to;
+		private final int threshold;
+		private final RangeAction action;
+
+		private RangeTask(final int from, final int to, final int threshold, final RangeAction action) {
+			this.from = from;
+			this.to = to;
+			this.threshold = threshold;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= threshold) {
+				action.apply(from, to);
+			} else {
+				final int middle = (from + to) >>> 1;
+				invokeAll(new RangeTask(from, middle, threshold, action), new RangeTask(middle, to, threshold, action));
+			}
+		}
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.util.UUID;
+
+/**
+ * Utility class for operations that have faster implementations in newer JDKs.
+ * <p>
+ * This is the Java 8 implementation. The multi-release JAR replaces it with a
+ * Java 11 implementation that uses APIs not available in Java 8, so the hot
+ * paths don't have to check the Java version at runtime.
+ */
+public final class PlatformUtil {
+
+	private PlatformUtil() {
+	}
+
+	/**
+	 * Returns the canonical string of a UUID.
+	 * <p>
+	 * In Java 8, it is much faster than {@link UUID#toString()}.
+	 * 
+	 * @param uuid a UUID
+	 * @return a string
+	 */
+	public static String toString(final UUID uuid) {
+
+		final char[] chars = new char[36];
+		HexUtil.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * Reads 8 bytes of an array as a big-endian long.
+	 * 
+	 * @param bytes an array
+	 * @param index the index of the first byte
+	 * @return a long
+	 */
+	public static long getLong(final byte[] bytes, final int index) {
+		return ((bytes[index] & 0xffL) << 56) //
+				| ((bytes[index + 1] & 0xffL) << 48) //
+				| ((bytes[index + 2] & 0xffL) << 40) //
+				| ((bytes[index + 3] & 0xffL) << 32) //
+				| ((bytes[index + 4] & 0xffL) << 24) //
+				| ((bytes[index + 5] & 0xffL) << 16) //
+				| ((bytes[index + 6] & 0xffL) << 8) //
+				| (bytes[index + 7] & 0xffL);
+	}
+
+	/**
+	 * Writes a long into 8 bytes of an array in big-endian order.
+	 * 
+	 * @param bytes an array
+	 * @param index the index of the first byte
+	 * @param value a long
+	 */
+	public static void putLong(final byte[] bytes, final int index, final long value) {
+		bytes[index] = (byte) (value >>> 56);
+		bytes[index + 1] = (byte) (value >>> 48);
+		bytes[index + 2] = (byte) (value >>> 40);
+		bytes[index + 3] = (byte) (value >>> 32);
+		bytes[index + 4] = (byte) (value >>> 24);
+		bytes[index + 5] = (byte) (value >>> 16);
+		bytes[index + 6] = (byte) (value >>> 8);
+		bytes[index + 7] = (byte) value;
+	}
+
+	/**
+	 * Returns the high 64 bits of the signed 128-bit product of two longs.
+	 * 
+	 * @param x a long
+	 * @param y a long
+	 * @return the high 64 bits of the product
+	 * @see <a href="https://bugs.openjdk.org/browse/JDK-5100935">Math.multiplyHigh
+	 *      in Java 9</a>
+	 */
+	public static long multiplyHigh(final long x, final long y) {
+
+		final long x1 = x >> 32;
+		final long x2 = x & 0xffffffffL;
+		final long y1 = y >> 32;
+		final long y2 = y & 0xffffffffL;
+
+		final long z2 = x2 * y2;
+		final long t = x1 * y2 + (z2 >>> 32);
+		long z1 = t & 0xffffffffL;
+		final long z0 = t >> 32;
+		z1 += x2 * y1;
+
+		return x1 * y1 + z0 + (z1 >> 32);
+	}
+
+	/**
+	 * Indicates that the caller is in a busy-wait loop.
+	 * <p>
+	 * It does nothing in Java 8.
+	 */
+	public static void onSpinWait() {
+		// not available in Java 8
+	}
+}
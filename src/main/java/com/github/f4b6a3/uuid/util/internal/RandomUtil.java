@@ -26,17 +26,53 @@ package com.github.f4b6a3.uuid.util.internal;
 
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Utility class that wraps a shared {@link SecureRandom} and provides new
  * instances of {@link SecureRandom}.
+ * <p>
+ * The shared instance is created on first use, not when this class is loaded.
+ * So calling {@link #newSecureRandom()} does not create it. It also keeps this
+ * class free of entropy in its static initializer, which is required by
+ * ahead-of-time compilers like GraalVM native image.
+ * <p>
+ * On freshly booted hosts, the first value of a {@link SecureRandom} may block
+ * until the operating system has gathered enough entropy. To avoid that, enable
+ * the asynchronous startup with the system property
+ * `uuidcreator.securerandom.async` or the environment variable
+ * `UUIDCREATOR_SECURERANDOM_ASYNC`. Then the shared instance is created and
+ * seeded by a background thread, and the values returned by {@link #nextInt()}
+ * and {@link #nextLong()} come from a bootstrap generator until the seeding
+ * completes. The bootstrap values are unique within the process, but they are
+ * not suitable for cryptography. They are only used for initial counters, clock
+ * sequences and random node identifiers.
+ * <p>
+ * Asynchronous startup also makes {@link #newSecureRandom()} prefer one of the
+ * known non-blocking algorithms, unless an algorithm is set explicitly.
+ * <p>
+ * System property:
+ * 
+ * <pre>{@code
+ * -Duuidcreator.securerandom.async="true"
+ * }</pre>
+ * <p>
+ * Environment variable:
+ * 
+ * <pre>{@code
+ * export UUIDCREATOR_SECURERANDOM_ASYNC="true"
+ * }</pre>
  */
 public final class RandomUtil {
 
 	/**
-	 * A globally shared {@link SecureRandom} instance.
+	 * Known non-blocking algorithms, in order of preference.
+	 * <p>
+	 * NativePRNGNonBlocking reads from `/dev/urandom` only. DRBG is available in
+	 * JDK 9+.
 	 */
-	protected static final SecureRandom SHARED_RANDOM = newSecureRandom();
+	protected static final String[] NON_BLOCKING_ALGORITHMS = { "NativePRNGNonBlocking", "DRBG" };
 
 	private RandomUtil() {
 	}
@@ -47,7 +83,11 @@ public final class RandomUtil {
 	 * @return a number
 	 */
 	public static int nextInt() {
-		return SHARED_RANDOM.nextInt();
+		final SecureRandom random = SharedRandomHolder.shared;
+		if (random != null) {
+			return random.nextInt();
+		}
+		return (int) (BootstrapRandom.nextLong() >>> 32);
 	}
 
 	/**
@@ -56,7 +96,23 @@ public final class RandomUtil {
 	 * @return a number
 	 */
 	public static long nextLong() {
-		return SHARED_RANDOM.nextLong();
+		final SecureRandom random = SharedRandomHolder.shared;
+		if (random != null) {
+			return random.nextLong();
+		}
+		return BootstrapRandom.nextLong();
+	}
+
+	/**
+	 * Checks if the shared {@link SecureRandom} is ready.
+	 * <p>
+	 * It is always true unless asynchronous startup is enabled. In that case, it
+	 * is false until the background thread finishes seeding.
+	 * 
+	 * @return true if seeded
+	 */
+	public static boolean isSeeded() {
+		return SharedRandomHolder.shared != null;
 	}
 
 	/**
@@ -67,6 +123,13 @@ public final class RandomUtil {
 	 * `UUIDCREATOR_SECURERANDOM`. If the algorithm name is not supported by the
 	 * runtime, it returns an instance with the default algorithm.
 	 * <p>
+	 * If the algorithm name is `auto`, it returns an instance of the fastest
+	 * non-blocking algorithm chosen by {@link SecureRandomSelector}.
+	 * <p>
+	 * If no algorithm is specified and asynchronous startup is enabled, it
+	 * returns an instance of the first available algorithm out of
+	 * {@link #NON_BLOCKING_ALGORITHMS}.
+	 * <p>
 	 * It can be useful to make use of SHA1PRNG or DRBG as a non-blocking source of
 	 * random bytes. The SHA1PRNG algorithm is default on operating systems that
 	 * don't have '/dev/random', e.g., on Windows. The DRBG algorithm is available
@@ -84,6 +147,9 @@ public final class RandomUtil {
 	 * 
 	 * # Use the the algorithm DRBG for SecureRandom (JDK9+)
 	 * -Duuidcreator.securerandom="DRBG"
+	 * 
+	 * # Use the fastest non-blocking algorithm of the host
+	 * -Duuidcreator.securerandom="auto"
 	 * }</pre>
 	 * 
 	 * <p>
@@ -95,12 +161,18 @@ public final class RandomUtil {
 	 * 
 	 * # Use the the algorithm DRBG for SecureRandom (JDK9+)
 	 * export UUIDCREATOR_SECURERANDOM="DRBG"
+	 * 
+	 * # Use the fastest non-blocking algorithm of the host
+	 * export UUIDCREATOR_SECURERANDOM="auto"
 	 * }</pre>
 	 * 
 	 * @return a new {@link SecureRandom}.
 	 */
 	public static SecureRandom newSecureRandom() {
 		String algorithm = SettingsUtil.getSecureRandom();
+		if (SecureRandomSelector.ALGORITHM_AUTO.equalsIgnoreCase(algorithm)) {
+			return SecureRandomSelector.newSecureRandom();
+		}
 		if (algorithm != null) {
 			try {
 				return SecureRandom.getInstance(algorithm);
@@ -108,6 +180,103 @@ public final class RandomUtil {
 				return new SecureRandom();
 			}
 		}
+		if (SettingsUtil.isSecureRandomAsync()) {
+			return newNonBlockingSecureRandom();
+		}
+		return new SecureRandom();
+	}
+
+	/**
+	 * Returns a new instance of the first available non-blocking algorithm.
+	 * <p>
+	 * If none is available, it returns an instance with the default algorithm.
+	 * 
+	 * @return a new {@link SecureRandom}.
+	 */
+	protected static SecureRandom newNonBlockingSecureRandom() {
+		for (String algorithm : NON_BLOCKING_ALGORITHMS) {
+			try {
+				return SecureRandom.getInstance(algorithm);
+			} catch (NoSuchAlgorithmException e) {
+				// try the next one
+			}
+		}
 		return new SecureRandom();
 	}
+
+	private static class SharedRandomHolder {
+
+		// a globally shared instance created on first use
+		static volatile SecureRandom shared;
+
+		static {
+			if (SettingsUtil.isSecureRandomAsync()) {
+				Thread thread = new Thread(SharedRandomHolder::seed, "uuid-creator-seeder");
+				thread.setDaemon(true);
+				thread.start();
+			} else {
+				shared = newSecureRandom();
+			}
+		}
+
+		private static void seed() {
+			shared = newSeededSecureRandom(RandomUtil::newSecureRandom);
+		}
+	}
+
+	/**
+	 * Returns a new instance of {@link SecureRandom} that is already seeded.
+	 * <p>
+	 * If the supplier fails to create or to seed an instance, it falls back to
+	 * an instance with the default algorithm, so that the background thread
+	 * never leaves the shared instance unset.
+	 * 
+	 * @param supplier a function that returns a new {@link SecureRandom}
+	 * @return a seeded {@link SecureRandom}
+	 */
+	static SecureRandom newSeededSecureRandom(Supplier<SecureRandom> supplier) {
+		try {
+			final SecureRandom random = supplier.get();
+			random.nextLong(); // force the seeding, which may block
+			return random;
+		} catch (RuntimeException e) {
+			final SecureRandom random = new SecureRandom();
+			random.nextLong();
+			return random;
+		}
+	}
+
+	/**
+	 * A SplitMix64 generator that is used until the shared instance is seeded.
+	 * <p>
+	 * The state is an atomic counter, so the values are unique within the
+	 * process. The initial state mixes the wall clock, the monotonic clock and an
+	 * identity hash code, so that processes started at different times have
+	 * different sequences.
+	 */
+	static final class BootstrapRandom {
+
+		private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+		private static final AtomicLong STATE = new AtomicLong(seed());
+
+		private BootstrapRandom() {
+		}
+
+		static long nextLong() {
+			return mix(STATE.addAndGet(GOLDEN_GAMMA));
+		}
+
+		private static long seed() {
+			final long time = mix(System.currentTimeMillis());
+			final long nano = mix(System.nanoTime());
+			final long hash = mix(System.identityHashCode(new Object()));
+			return time ^ nano ^ (hash << 32 | hash >>> 32);
+		}
+
+		private static long mix(long z) {
+			z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+			z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+			return z ^ (z >>> 31);
+		}
+	}
 }
@@ -1,18 +1,18 @@
 /*
  * MIT License
- *
+ * 
  * Copyright (c) 2018-2022 Fabio Lima
- *
+ * 
  * Permission is hereby granted, free of charge, to any person obtaining a copy
  * of this software and associated documentation files (the "Software"), to deal
  * in the Software without restriction, including without limitation the rights
  * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
  * copies of the Software, and to permit persons to whom the Software is
  * furnished to do so, subject to the following conditions:
- *
+ * 
  * The above copyright notice and this permission notice shall be included in all
  * copies or substantial portions of the Software.
- *
+ * 
  * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
  * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
  * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
@@ -24,32 +24,29 @@
 
 package com.github.f4b6a3.uuid.util.internal;
 
-public class JavaVersionUtil {
-
-    /**
-     * Returns the java major version number.
-     *
-     * @see <a href= "https://www.java.com/releases/">JDK Releases</a>
-     * @return major version number
-     */
-    public static int getJavaVersion() {
-        try {
-
-            String property = System.getProperty("java.version");
+/**
+ * Utility class that checks ranges of arrays and sequences.
+ */
+public final class RangeUtil {
 
-            if (property != null) {
-                String[] version = property.split("\\.");
-                if (version[0].equals("1")) {
-                    return Integer.parseInt(version[1]);
-                } else {
-                    return Integer.parseInt(version[0]);
-                }
-            } else {
-                return 8;
-            }
+	private RangeUtil() {
+	}
 
-        } catch (NullPointerException | NumberFormatException | IndexOutOfBoundsException e) {
-            return 8;
-        }
-    }
+	/**
+	 * Checks if a range fits in an array or sequence.
+	 * <p>
+	 * The arguments are long so that products like {@code count * length} can't
+	 * overflow.
+	 * 
+	 * @param size   the size of the array or sequence
+	 * @param offset the index of the first element
+	 * @param length the number of elements
+	 * @throws IndexOutOfBoundsException if the range doesn't fit
+	 */
+	public static void checkRange(final int size, final long offset, final long length) {
+		if (offset < 0 || length < 0 || offset > size - length) {
+			throw new IndexOutOfBoundsException(
+					String.format("Range [%d, %d + %d) out of bounds for length %d", offset, offset, length, size));
+		}
+	}
 }
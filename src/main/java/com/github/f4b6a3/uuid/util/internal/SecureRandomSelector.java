@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Utility class that chooses the fastest non-blocking {@link SecureRandom}
+ * algorithm of the running host.
+ * <p>
+ * It is used when the algorithm name in the system property
+ * `uuidcreator.securerandom` or in the environment variable
+ * `UUIDCREATOR_SECURERANDOM` is `auto`. On first use, each candidate algorithm
+ * is warmed up and measured for a few rounds of a millisecond, and the one that
+ * generates more 16-byte values per millisecond in its best round is chosen for
+ * {@link RandomUtil} and, through it, for the default random function of the
+ * random-based factories.
+ * <p>
+ * The selection is done only once per class loader. Use
+ * {@link #getSelection()} to find out which algorithm was chosen and how fast
+ * each candidate was.
+ * <p>
+ * System property:
+ * 
+ * <pre>{@code
+ * -Duuidcreator.securerandom="auto"
+ * }</pre>
+ * <p>
+ * Environment variable:
+ * 
+ * <pre>{@code
+ * export UUIDCREATOR_SECURERANDOM="auto"
+ * }</pre>
+ */
+public final class SecureRandomSelector {
+
+	/**
+	 * The algorithm name that enables the automatic selection.
+	 */
+	public static final String ALGORITHM_AUTO = "auto";
+
+	/**
+	 * The candidate algorithms.
+	 * <p>
+	 * The blocking variants, like NativePRNGBlocking, are never candidates.
+	 * Neither is SHA1PRNG, because a new instance seeds itself from the source
+	 * in the security property `securerandom.source`, which is `/dev/random` by
+	 * default and may block on a freshly booted host.
+	 */
+	protected static final String[] CANDIDATES = { "NativePRNGNonBlocking", "DRBG", "NativePRNG" };
+
+	/**
+	 * The measurement time for each round in nanoseconds.
+	 */
+	protected static final long MEASUREMENT_NANOS = 1_000_000L; // 1ms
+
+	/**
+	 * The number of measurement rounds for each candidate, after a warm-up round
+	 * that is not measured.
+	 */
+	protected static final int MEASUREMENT_ROUNDS = 3;
+
+	private static final int VALUE_BYTES = 16;
+	private static final long NANOS_PER_MILLI = 1_000_000L;
+
+	private SecureRandomSelector() {
+	}
+
+	/**
+	 * Returns the selection, measuring the candidates if not done yet.
+	 * 
+	 * @return the selection
+	 */
+	public static Selection getSelection() {
+		return SelectionHolder.INSTANCE;
+	}
+
+	/**
+	 * Returns a new instance of the selected algorithm.
+	 * 
+	 * @return a new {@link SecureRandom}
+	 */
+	public static SecureRandom newSecureRandom() {
+		try {
+			return SecureRandom.getInstance(getSelection().getAlgorithm());
+		} catch (NoSuchAlgorithmException e) {
+			return new SecureRandom();
+		}
+	}
+
+	/**
+	 * Measures the candidates and returns the fastest.
+	 * <p>
+	 * If no candidate is available, the default algorithm is measured and
+	 * selected.
+	 * 
+	 * @param candidates the candidate algorithms
+	 * @param nanos      the measurement time for each round
+	 * @return the selection
+	 */
+	static Selection select(final String[] candidates, final long nanos) {
+
+		final Map<String, Long> throughputs = new LinkedHashMap<>();
+
+		String fastest = null;
+		long max = -1;
+
+		for (String algorithm : candidates) {
+			final SecureRandom random;
+			try {
+				random = SecureRandom.getInstance(algorithm);
+			} catch (NoSuchAlgorithmException e) {
+				continue; // not available in this runtime
+			}
+			final long throughput = measure(random, nanos);
+			throughputs.put(algorithm, throughput);
+			if (throughput > max) {
+				fastest = algorithm;
+				max = throughput;
+			}
+		}
+
+		if (fastest == null) {
+			final SecureRandom random = new SecureRandom();
+			fastest = random.getAlgorithm();
+			max = measure(random, nanos);
+			throughputs.put(fastest, max);
+		}
+
+		return new Selection(fastest, throughputs);
+	}
+
+	/**
+	 * Returns how many 16-byte values are generated per millisecond in the best
+	 * round.
+	 * <p>
+	 * The first round warms up the instance and the JIT compiler, so it is not
+	 * measured.
+	 */
+	private static long measure(final SecureRandom random, final long nanos) {
+
+		final byte[] bytes = new byte[VALUE_BYTES];
+
+		round(random, bytes, nanos);
+
+		long max = 0;
+		for (int i = 0; i < MEASUREMENT_ROUNDS; i++) {
+			max = Math.max(max, round(random, bytes, nanos));
+		}
+		return max;
+	}
+
+	/**
+	 * Returns how many 16-byte values are generated per millisecond in a round.
+	 */
+	private static long round(final SecureRandom random, final byte[] bytes, final long nanos) {
+
+		long count = 0;
+		final long start = System.nanoTime();
+		long elapsed;
+		do {
+			random.nextBytes(bytes);
+			count++;
+			elapsed = System.nanoTime() - start;
+		} while (elapsed < nanos);
+
+		return (count * NANOS_PER_MILLI) / elapsed;
+	}
+
+	/**
+	 * The chosen algorithm and the measured throughput of each candidate.
+	 */
+	public static final class Selection {
+
+		private final String algorithm;
+		private final Map<String, Long> throughputs;
+
+		private Selection(String algorithm, Map<String, Long> throughputs) {
+			this.algorithm = algorithm;
+			this.throughputs = Collections.unmodifiableMap(throughputs);
+		}
+
+		/**
+		 * Returns the chosen algorithm.
+		 * 
+		 * @return an algorithm name
+		 */
+		public String getAlgorithm() {
+			return this.algorithm;
+		}
+
+		/**
+		 * Returns the throughput of the chosen algorithm.
+		 * 
+		 * @return 16-byte values per millisecond
+		 */
+		public long getThroughput() {
+			return this.throughputs.get(this.algorithm);
+		}
+
+		/**
+		 * Returns the throughput of each available candidate.
+		 * 
+		 * @return an unmodifiable map of algorithm names to 16-byte values per
+		 *         millisecond, in order of measurement
+		 */
+		public Map<String, Long> getThroughputs() {
+			return this.throughputs;
+		}
+
+		@Override
+		public String toString() {
+			return this.algorithm + " " + this.throughputs;
+		}
+	}
+
+	private static class SelectionHolder {
+		static final Selection INSTANCE = select(CANDIDATES, MEASUREMENT_NANOS);
+	}
+}
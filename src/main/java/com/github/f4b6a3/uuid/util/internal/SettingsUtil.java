@@ -24,6 +24,8 @@
 
 package com.github.f4b6a3.uuid.util.internal;
 
+import com.github.f4b6a3.uuid.UuidCreatorSettings;
+
 /**
  * Utility class that reads system properties and environment variables.
  * <p>
@@ -31,23 +33,26 @@ package com.github.f4b6a3.uuid.util.internal;
  * <ul>
  * <li>uuidcreator.node
  * <li>uuidcreator.securerandom
+ * <li>uuidcreator.securerandom.async
+ * <li>uuidcreator.stackless
  * </ul>
  * <p>
  * List of environment variables:
  * <ul>
  * <li>UUIDCREATOR_NODE
  * <li>UUIDCREATOR_SECURERANDOM
+ * <li>UUIDCREATOR_SECURERANDOM_ASYNC
+ * <li>UUIDCREATOR_STACKLESS
  * </ul>
  * <p>
- * System properties has prevalence over environment variables.
+ * System properties has prevalence over environment variables, which has
+ * prevalence over the file {@code uuidcreator.properties} in the class path.
+ * <p>
+ * The values are read from an immutable snapshot. See
+ * {@link UuidCreatorSettings}.
  */
 public final class SettingsUtil {
 
-	/**
-	 * The property name prefix.
-	 */
-	protected static final String PROPERTY_PREFIX = "uuidcreator";
-
 	/**
 	 * The property name for the node number.
 	 */
@@ -58,6 +63,16 @@ public final class SettingsUtil {
 	 */
 	public static final String PROPERTY_SECURERANDOM = "securerandom";
 
+	/**
+	 * The property name for the asynchronous secure random startup.
+	 */
+	public static final String PROPERTY_SECURERANDOM_ASYNC = "securerandom.async";
+
+	/**
+	 * The property name for exceptions without stack traces.
+	 */
+	public static final String PROPERTY_STACKLESS = "stackless";
+
 	/**
 	 * Default constructor.
 	 */
@@ -109,6 +124,42 @@ public final class SettingsUtil {
 		setProperty(PROPERTY_SECURERANDOM, algorithm);
 	}
 
+	/**
+	 * Check if the secure random startup is asynchronous.
+	 * 
+	 * @return true if enabled
+	 */
+	public static boolean isSecureRandomAsync() {
+		return Boolean.parseBoolean(getProperty(PROPERTY_SECURERANDOM_ASYNC));
+	}
+
+	/**
+	 * Set the secure random startup to asynchronous or not.
+	 * 
+	 * @param async true to enable
+	 */
+	public static void setSecureRandomAsync(boolean async) {
+		setProperty(PROPERTY_SECURERANDOM_ASYNC, Boolean.toString(async));
+	}
+
+	/**
+	 * Check if exceptions are created without stack traces.
+	 * 
+	 * @return true if enabled
+	 */
+	public static boolean isStackless() {
+		return Boolean.parseBoolean(getProperty(PROPERTY_STACKLESS));
+	}
+
+	/**
+	 * Set whether exceptions are created without stack traces.
+	 * 
+	 * @param stackless true to enable
+	 */
+	public static void setStackless(boolean stackless) {
+		setProperty(PROPERTY_STACKLESS, Boolean.toString(stackless));
+	}
+
 	/**
 	 * Get a property.
 	 * 
@@ -116,20 +167,7 @@ public final class SettingsUtil {
 	 * @return a string
 	 */
 	public static String getProperty(String name) {
-
-		String fullName = getPropertyName(name);
-		String value = System.getProperty(fullName);
-		if (!isEmpty(value)) {
-			return value;
-		}
-
-		fullName = getEnvinronmentName(name);
-		value = System.getenv(fullName);
-		if (!isEmpty(value)) {
-			return value;
-		}
-
-		return null;
+		return UuidCreatorSettings.get().getProperty(name);
 	}
 
 	/**
@@ -140,6 +178,7 @@ public final class SettingsUtil {
 	 */
 	public static void setProperty(String key, String value) {
 		System.setProperty(getPropertyName(key), value);
+		UuidCreatorSettings.reload();
 	}
 
 	/**
@@ -149,6 +188,7 @@ public final class SettingsUtil {
 	 */
 	public static void clearProperty(String key) {
 		System.clearProperty(getPropertyName(key));
+		UuidCreatorSettings.reload();
 	}
 
 	/**
@@ -158,20 +198,6 @@ public final class SettingsUtil {
 	 * @return a string
 	 */
 	protected static String getPropertyName(String key) {
-		return String.join(".", PROPERTY_PREFIX, key);
-	}
-
-	/**
-	 * Get an environment variable name.
-	 * 
-	 * @param key a key
-	 * @return a string
-	 */
-	protected static String getEnvinronmentName(String key) {
-		return String.join("_", PROPERTY_PREFIX, key).toUpperCase().replace(".", "_");
-	}
-
-	private static boolean isEmpty(String value) {
-		return value == null || value.isEmpty();
+		return String.join(".", UuidCreatorSettings.PREFIX, key);
 	}
 }
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.UUID;
+
+/**
+ * Utility class for operations that have faster implementations in newer JDKs.
+ * <p>
+ * This is the Java 11 implementation, which is used by the multi-release JAR
+ * on Java 11 and later.
+ */
+public final class PlatformUtil {
+
+	private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+	private PlatformUtil() {
+	}
+
+	/**
+	 * Returns the canonical string of a UUID.
+	 * <p>
+	 * Since Java 9, {@link UUID#toString()} is optimized and builds a compact
+	 * (Latin-1) string directly.
+	 * 
+	 * @param uuid a UUID
+	 * @return a string
+	 */
+	public static String toString(final UUID uuid) {
+		return uuid.toString();
+	}
+
+	/**
+	 * Reads 8 bytes of an array as a big-endian long.
+	 * 
+	 * @param bytes an array
+	 * @param index the index of the first byte
+	 * @return a long
+	 */
+	public static long getLong(final byte[] bytes, final int index) {
+		return (long) LONGS.get(bytes, index);
+	}
+
+	/**
+	 * Writes a long into 8 bytes of an array in big-endian order.
+	 * 
+	 * @param bytes an array
+	 * @param index the index of the first byte
+	 * @param value a long
+	 */
+	public static void putLong(final byte[] bytes, final int index, final long value) {
+		LONGS.set(bytes, index, value);
+	}
+
+	/**
+	 * Returns the high 64 bits of the signed 128-bit product of two longs.
+	 * 
+	 * @param x a long
+	 * @param y a long
+	 * @return the high 64 bits of the product
+	 */
+	public static long multiplyHigh(final long x, final long y) {
+		return Math.multiplyHigh(x, y);
+	}
+
+	/**
+	 * Indicates that the caller is in a busy-wait loop.
+	 */
+	public static void onSpinWait() {
+		Thread.onSpinWait();
+	}
+}
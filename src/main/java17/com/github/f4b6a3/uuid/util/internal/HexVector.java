@@ -0,0 +1,269 @@
+/*
+ * MIT License
+ * 
+ * Copyright (c) 2018-2022 Fabio Lima
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.github.f4b6a3.uuid.util.internal;
+
+import java.nio.ByteOrder;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Bulk conversion of UUIDs to and from canonical ASCII strings using the Vector
+ * API.
+ * <p>
+ * This is the Java 17 implementation. It is supported if the module
+ * {@code jdk.incubator.vector} is added to the JVM, the byte order is little
+ * endian and the CPU has 256-bit vectors. Otherwise, {@link #isSupported()}
+ * returns false and the UUIDs are converted one at a time with {@link HexUtil}.
+ * <p>
+ * Each UUID is converted by a few vector operations: the 16 bytes are split
+ * into 32 nibbles, which are reordered with a shuffle and converted to ASCII
+ * with a masked addition. The hyphens are inserted with a second shuffle.
+ * <p>
+ * The UUIDs are stored in an array of longs, as pairs of most and least
+ * significant bits. The strings are stored in an array of bytes, 36 bytes per
+ * UUID, with no separators.
+ */
+public final class HexVector {
+
+	private static final String MODULE = "jdk.incubator.vector";
+
+	private static final int LENGTH = 36;
+
+	private static final boolean SUPPORTED = supported();
+
+	private HexVector() {
+	}
+
+	/**
+	 * Check if the Vector API is used.
+	 * 
+	 * @return true if supported
+	 */
+	public static boolean isSupported() {
+		return SUPPORTED;
+	}
+
+	/**
+	 * Encode UUIDs to canonical strings.
+	 * 
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID
+	 * @param count  the number of UUIDs
+	 * @param bytes  the destination array
+	 * @param offset the index of the first byte
+	 */
+	public static void encode(long[] uuids, int index, int count, byte[] bytes, int offset) {
+		if (SUPPORTED) {
+			Vectorized.encode(uuids, index, count, bytes, offset);
+			return;
+		}
+		for (int i = 0; i < count; i++) {
+			final int pair = (index + i) << 1;
+			HexUtil.format(uuids[pair], uuids[pair + 1], bytes, offset + i * LENGTH);
+		}
+	}
+
+	/**
+	 * Decode canonical strings to UUIDs.
+	 * 
+	 * @param bytes  the source array
+	 * @param offset the index of the first byte
+	 * @param count  the number of UUIDs
+	 * @param uuids  pairs of most and least significant bits
+	 * @param index  the index of the first UUID
+	 * @return the position of the first invalid string, or -1 if all are valid
+	 */
+	public static int decode(byte[] bytes, int offset, int count, long[] uuids, int index) {
+		if (SUPPORTED) {
+			return Vectorized.decode(bytes, offset, count, uuids, index);
+		}
+		for (int i = 0; i < count; i++) {
+			if (!HexUtil.parse(bytes, offset + i * LENGTH, true, uuids, (index + i) << 1)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean supported() {
+		if (!ModuleLayer.boot().findModule(MODULE).isPresent() || ByteOrder.nativeOrder() != ByteOrder.LITTLE_ENDIAN) {
+			return false;
+		}
+		try {
+			return Vectorized.isSupported();
+		} catch (LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * The vector code, which is only loaded if the module is present.
+	 */
+	private static final class Vectorized {
+
+		private static final VectorSpecies<Byte> B128 = ByteVector.SPECIES_128;
+		private static final VectorSpecies<Byte> B256 = ByteVector.SPECIES_256;
+		private static final VectorSpecies<Long> L128 = LongVector.SPECIES_128;
+
+		private static final int LENGTH = 36;
+		private static final int[] HYPHENS = { 8, 13, 18, 23 };
+
+		private static final ByteVector DASHES = ByteVector.broadcast(B256, (byte) '-');
+
+		// bytes of the little endian longs to digits in string order
+		private static final VectorShuffle<Byte> NIBBLES = VectorShuffle.fromArray(B256, nibbles(), 0);
+		// digits to the first 32 chars of the string, with hyphens
+		private static final VectorShuffle<Byte> EXPAND = VectorShuffle.fromArray(B256, expand(), 0);
+		// the first 32 chars of the string to the first 28 digits
+		private static final VectorShuffle<Byte> COMPACT = VectorShuffle.fromArray(B256, compact(), 0);
+		// digits to high and low nibbles of the little endian longs
+		private static final VectorShuffle<Byte> HIGH = VectorShuffle.fromArray(B256, pairs(0), 0);
+		private static final VectorShuffle<Byte> LOW = VectorShuffle.fromArray(B256, pairs(1), 0);
+
+		private static final VectorMask<Byte> ODD_LANES = VectorMask.fromLong(B256, 0xaaaaaaaaL);
+		// the last 4 digits are in the same lanes of the last 32 chars
+		private static final VectorMask<Byte> TAIL_LANES = VectorMask.fromLong(B256, 0xf0000000L);
+		private static final VectorMask<Byte> DASH_LANES = VectorMask.fromLong(B256,
+				(1L << 8) | (1L << 13) | (1L << 18) | (1L << 23));
+
+		static boolean isSupported() {
+			return ByteVector.SPECIES_PREFERRED.vectorBitSize() >= B256.vectorBitSize();
+		}
+
+		static void encode(long[] uuids, int index, int count, byte[] bytes, int offset) {
+			for (int i = 0; i < count; i++) {
+
+				final int off = offset + i * LENGTH;
+				final LongVector pair = LongVector.fromArray(L128, uuids, (index + i) << 1);
+				final ByteVector binary = (ByteVector) pair.reinterpretAsBytes().reinterpretShape(B256, 0);
+
+				// each byte twice, in string order: high nibbles in even lanes
+				final ByteVector spread = binary.rearrange(NIBBLES);
+				final ByteVector digits = spread.lanewise(VectorOperators.LSHR, 4).blend(spread, ODD_LANES)
+						.and((byte) 0x0f);
+
+				final VectorMask<Byte> letters = digits.compare(VectorOperators.GT, (byte) 9);
+				final ByteVector ascii = digits.add((byte) '0').add((byte) ('a' - '0' - 10), letters);
+
+				// the last 4 digits go to the chars 32 to 35; the other chars are
+				// overwritten by the next store
+				ascii.intoArray(bytes, off + 4);
+				ascii.rearrange(EXPAND).blend(DASHES, DASH_LANES).intoArray(bytes, off);
+			}
+		}
+
+		static int decode(byte[] bytes, int offset, int count, long[] uuids, int index) {
+			for (int i = 0; i < count; i++) {
+
+				final int off = offset + i * LENGTH;
+				final ByteVector first = ByteVector.fromArray(B256, bytes, off);
+				final ByteVector last = ByteVector.fromArray(B256, bytes, off + 4);
+				final ByteVector digits = first.rearrange(COMPACT).blend(last, TAIL_LANES);
+
+				final VectorMask<Byte> numbers = digits.compare(VectorOperators.GE, (byte) '0')
+						.and(digits.compare(VectorOperators.LE, (byte) '9'));
+				final ByteVector lower = digits.or((byte) 0x20);
+				final VectorMask<Byte> letters = lower.compare(VectorOperators.GE, (byte) 'a')
+						.and(lower.compare(VectorOperators.LE, (byte) 'f'));
+
+				if (!numbers.or(letters).allTrue() || first.compare(VectorOperators.NE, (byte) '-', DASH_LANES).anyTrue()) {
+					return i;
+				}
+
+				final ByteVector values = digits.and((byte) 0x0f).add((byte) 9, letters);
+				final ByteVector binary = values.rearrange(HIGH).lanewise(VectorOperators.LSHL, 4)
+						.or(values.rearrange(LOW));
+
+				((ByteVector) binary.reinterpretShape(B128, 0)).reinterpretAsLongs().intoArray(uuids, (index + i) << 1);
+			}
+			return -1;
+		}
+
+		/**
+		 * Returns the index of the byte of a UUID in big endian order, in the pair of
+		 * little endian longs.
+		 */
+		private static int little(int big) {
+			return big < 8 ? 7 - big : 23 - big;
+		}
+
+		private static int[] nibbles() {
+			// even digits are high nibbles; odd digits are low nibbles
+			final int[] indexes = new int[32];
+			for (int p = 0; p < 32; p++) {
+				indexes[p] = little(p >>> 1);
+			}
+			return indexes;
+		}
+
+		private static int[] expand() {
+			final int[] indexes = new int[32];
+			int digit = 0;
+			for (int p = 0; p < 32; p++) {
+				if (isHyphen(p)) {
+					indexes[p] = 0; // replaced by a hyphen
+				} else {
+					indexes[p] = digit++;
+				}
+			}
+			return indexes;
+		}
+
+		private static int[] compact() {
+			// digits 28 to 31 are taken from the last 32 chars
+			final int[] indexes = new int[32];
+			int digit = 0;
+			for (int p = 0; p < 32 && digit < 28; p++) {
+				if (!isHyphen(p)) {
+					indexes[digit++] = p;
+				}
+			}
+			return indexes;
+		}
+
+		private static int[] pairs(int nibble) {
+			final int[] indexes = new int[32];
+			for (int lane = 0; lane < 16; lane++) {
+				final int big = little(lane); // the mapping is symmetric
+				indexes[lane] = (big << 1) + nibble;
+			}
+			return indexes;
+		}
+
+		private static boolean isHyphen(int position) {
+			for (int hyphen : HYPHENS) {
+				if (position == hyphen) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -8,10 +8,13 @@ import com.github.f4b6a3.uuid.codec.base.BaseNCodec1Test;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec2SamplesTest;
 import com.github.f4b6a3.uuid.codec.base.BaseNCodec3SamplesTest;
 import com.github.f4b6a3.uuid.codec.base.BaseNTest;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNChunkedDecoderTest;
+import com.github.f4b6a3.uuid.codec.base.function.BaseNChunkedEncoderTest;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderDecoderTest;
 import com.github.f4b6a3.uuid.codec.base.function.BaseNRemainderEncoderTest;
 import com.github.f4b6a3.uuid.codec.other.DotNetGuid1CodecTest;
 import com.github.f4b6a3.uuid.codec.other.DotNetGuid4CodecTest;
+import com.github.f4b6a3.uuid.codec.other.DotNetGuidSwapperTest;
 import com.github.f4b6a3.uuid.codec.other.NcnameCodecTest;
 import com.github.f4b6a3.uuid.codec.other.SlugCodecTest;
 import com.github.f4b6a3.uuid.codec.other.TimeOrderedCodecTest;
@@ -28,20 +31,36 @@ import com.github.f4b6a3.uuid.factory.nonstandard.SuffixCombFactoryTest;
 import com.github.f4b6a3.uuid.factory.rfc4122.DceSecurityFactoryTest;
 import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedMd5FactoryTest;
 import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha1FactoryTest;
+import com.github.f4b6a3.uuid.factory.rfc4122.NameBasedSha256FactoryTest;
 import com.github.f4b6a3.uuid.factory.rfc4122.RandomBasedFactoryTest;
 import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactoryTest;
 import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactoryTest;
 import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedFactoryTest;
 import com.github.f4b6a3.uuid.alt.GUIDTest;
+import com.github.f4b6a3.uuid.codec.AsciiCodecTest;
 import com.github.f4b6a3.uuid.codec.BinaryCodecTest;
+import com.github.f4b6a3.uuid.codec.CachedStringCodecTest;
 import com.github.f4b6a3.uuid.codec.StringCodecTest;
+import com.github.f4b6a3.uuid.codec.UniversalCodecTest;
 import com.github.f4b6a3.uuid.codec.UriCodecTest;
 import com.github.f4b6a3.uuid.codec.UrnCodecTest;
+import com.github.f4b6a3.uuid.codec.UuidStringCodecTest;
 import com.github.f4b6a3.uuid.util.internal.ByteUtilTest;
+import com.github.f4b6a3.uuid.util.internal.HexUtilTest;
+import com.github.f4b6a3.uuid.util.internal.HexVectorTest;
+import com.github.f4b6a3.uuid.util.internal.PlatformUtilTest;
+import com.github.f4b6a3.uuid.util.internal.RandomUtilTest;
+import com.github.f4b6a3.uuid.util.internal.SecureRandomSelectorTest;
 import com.github.f4b6a3.uuid.util.internal.SettingsUtilTest;
+import com.github.f4b6a3.uuid.util.immutable.UuidArrayTest;
 import com.github.f4b6a3.uuid.util.CombUtilTest;
+import com.github.f4b6a3.uuid.util.DirectUuidHashSetTest;
 import com.github.f4b6a3.uuid.util.UuidComparatorTest;
+import com.github.f4b6a3.uuid.util.UuidHashSetTest;
+import com.github.f4b6a3.uuid.util.UuidSorterTest;
 import com.github.f4b6a3.uuid.util.UuidTimeTest;
+import com.github.f4b6a3.uuid.util.UuidToIntMapTest;
+import com.github.f4b6a3.uuid.util.UuidToLongMapTest;
 import com.github.f4b6a3.uuid.util.UuidUtilTest;
 import com.github.f4b6a3.uuid.util.UuidValidatorTest;
 
@@ -49,27 +68,39 @@ import com.github.f4b6a3.uuid.util.UuidValidatorTest;
 @Suite.SuiteClasses({
 	AbstTimeBasedFactoryTest.class,
 	AbstRandomBasedFactoryTest.class,
+	AsciiCodecTest.class,
 	BaseNCodec1Test.class,
 	BaseNCodec2SamplesTest.class,
 	BaseNCodec3SamplesTest.class,
+	BaseNChunkedDecoderTest.class,
+	BaseNChunkedEncoderTest.class,
 	BaseNRemainderDecoderTest.class,
 	BaseNRemainderEncoderTest.class,
 	BaseNTest.class,
 	BinaryCodecTest.class,
 	ByteUtilTest.class,
+	CachedStringCodecTest.class,
 	ClockSeqPoolTest.class,
 	CombUtilTest.class,
 	DceSecurityFactoryTest.class,
 	DefaultClockSeqFunctionTest.class,
 	DefaultTimeFunctionTest.class,
+	DirectUuidHashSetTest.class,
 	DotNetGuid1CodecTest.class,
 	DotNetGuid4CodecTest.class,
+	DotNetGuidSwapperTest.class,
 	GUIDTest.class,
+	HexUtilTest.class,
+	HexVectorTest.class,
 	NameBasedMd5FactoryTest.class,
 	NameBasedSha1FactoryTest.class,
+	NameBasedSha256FactoryTest.class,
 	NcnameCodecTest.class,
+	PlatformUtilTest.class,
 	PrefixCombFactoryTest.class,
 	RandomBasedFactoryTest.class,
+	RandomUtilTest.class,
+	SecureRandomSelectorTest.class,
 	SettingsUtilTest.class,
 	ShortPrefixCombFactoryTest.class,
 	ShortSuffixCombFactoryTest.class,
@@ -80,10 +111,18 @@ import com.github.f4b6a3.uuid.util.UuidValidatorTest;
 	TimeOrderedCodecTest.class,
 	TimeOrderedEpochFactoryTest.class,
 	TimeOrderedFactoryTest.class,
+	UniversalCodecTest.class,
+	UuidArrayTest.class,
 	UriCodecTest.class,
 	UrnCodecTest.class,
 	UuidComparatorTest.class,
+	UuidCreatorSettingsTest.class,
+	UuidHashSetTest.class,
+	UuidSorterTest.class,
+	UuidStringCodecTest.class,
 	UuidTimeTest.class,
+	UuidToIntMapTest.class,
+	UuidToLongMapTest.class,
 	UuidUtilTest.class,
 	UuidValidatorTest.class,
 	WindowsTimeFunctionTest.class,
@@ -0,0 +1,119 @@
+package com.github.f4b6a3.uuid;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.internal.SettingsUtil;
+
+public class UuidCreatorSettingsTest {
+
+	private static final Map<String, String> NO_ENVIRONMENT = Collections.emptyMap();
+
+	@After
+	public void after() {
+		SettingsUtil.clearProperty(UuidCreatorSettings.RANDOM);
+	}
+
+	@Test
+	public void testPrecedence() {
+
+		Properties file = new Properties();
+		file.setProperty("uuidcreator.node", "1");
+		file.setProperty("uuidcreator.random", "fast");
+		file.setProperty("uuidcreator.time", "windows");
+		file.setProperty("other.node", "9");
+
+		Map<String, String> environment = new HashMap<>();
+		environment.put("UUIDCREATOR_NODE", "2");
+		environment.put("UUIDCREATOR_SECURERANDOM_ASYNC", "true");
+		environment.put("UUIDCREATOR_INCREMENT", "plusn");
+
+		Properties system = new Properties();
+		system.setProperty("uuidcreator.node", "3");
+		system.setProperty("uuidcreator.increment", "PLUS1");
+
+		UuidCreatorSettings settings = UuidCreatorSettings.of(system, environment, file);
+		assertEquals(Long.valueOf(3), settings.getNodeIdentifier());
+		assertEquals(UuidCreatorSettings.RANDOM_FAST, settings.getRandom());
+		assertEquals(UuidCreatorSettings.TIME_WINDOWS, settings.getTime());
+		assertEquals(UuidCreatorSettings.INCREMENT_PLUS_1, settings.getIncrement());
+		assertTrue(settings.isSecureRandomAsync());
+		assertNull(settings.getSecureRandom());
+		assertFalse(settings.isStackless());
+
+		system.clear();
+		settings = UuidCreatorSettings.of(system, environment, file);
+		assertEquals(Long.valueOf(2), settings.getNodeIdentifier());
+		assertEquals(UuidCreatorSettings.INCREMENT_PLUS_N, settings.getIncrement());
+
+		environment.clear();
+		settings = UuidCreatorSettings.of(system, environment, file);
+		assertEquals(Long.valueOf(1), settings.getNodeIdentifier());
+		assertEquals(UuidCreatorSettings.INCREMENT_DEFAULT, settings.getIncrement());
+		assertNull(settings.getProperty("other.node"));
+	}
+
+	@Test
+	public void testDefaults() {
+		Properties system = new Properties();
+		system.setProperty("uuidcreator.node", ""); // empty is ignored
+		system.setProperty("uuidcreator.random", "unknown");
+		system.setProperty("uuidcreator.time", "unknown");
+		UuidCreatorSettings settings = UuidCreatorSettings.of(system, NO_ENVIRONMENT, new Properties());
+		assertNull(settings.getNodeIdentifier());
+		assertNull(settings.getTime());
+		assertFalse(settings.isSecureRandomAsync());
+		assertFalse(settings.isStackless());
+		assertEquals(UuidCreatorSettings.RANDOM_SECURE, settings.getRandom());
+		assertEquals(UuidCreatorSettings.INCREMENT_DEFAULT, settings.getIncrement());
+	}
+
+	@Test
+	public void testSnapshotIsCached() {
+		UuidCreatorSettings settings = UuidCreatorSettings.get();
+		assertSame(settings, UuidCreatorSettings.get());
+
+		// direct changes are only seen after reload
+		System.setProperty("uuidcreator.random", "fast");
+		assertEquals(UuidCreatorSettings.RANDOM_SECURE, UuidCreatorSettings.get().getRandom());
+		assertEquals(UuidCreatorSettings.RANDOM_FAST, UuidCreatorSettings.reload().getRandom());
+
+		// changes through SettingsUtil are seen immediately
+		SettingsUtil.setProperty(UuidCreatorSettings.RANDOM, "secure");
+		assertEquals(UuidCreatorSettings.RANDOM_SECURE, UuidCreatorSettings.get().getRandom());
+	}
+
+	@Test
+	public void testStackless() {
+		try {
+			SettingsUtil.setStackless(true);
+			assertTrue(SettingsUtil.isStackless());
+			assertEquals(0, InvalidUuidException.newInstance("invalid").getStackTrace().length);
+
+			SettingsUtil.setStackless(false);
+			assertFalse(SettingsUtil.isStackless());
+			assertNotEquals(0, InvalidUuidException.newInstance("invalid").getStackTrace().length);
+		} finally {
+			SettingsUtil.clearProperty(SettingsUtil.PROPERTY_STACKLESS);
+		}
+	}
+
+	@Test
+	public void testFactories() {
+		Properties system = new Properties();
+		system.setProperty("uuidcreator.random", "fast");
+		system.setProperty("uuidcreator.increment", "plusn");
+		UuidCreatorSettings settings = UuidCreatorSettings.of(system, NO_ENVIRONMENT, new Properties());
+
+		assertEquals(4, UuidCreator.newRandomBasedFactory(settings).create().version());
+		assertEquals(7, UuidCreator.newTimeOrderedEpochFactory(settings).create().version());
+	}
+}
@@ -465,6 +465,10 @@ public class GUIDTest {
 			}
 		});
 
+		testValidator((String string) -> {
+			return GUID.tryParse(string) != null;
+		});
+
 		// compare with regular expression
 		testValidator((String string) -> {
 			boolean expected = (string != null && PATTERN.matcher(string).matches());
@@ -474,6 +478,27 @@ public class GUIDTest {
 		});
 	}
 
+	@Test
+	public void testParserAgainstTable() {
+		// SWAR parser must agree with the table validator
+		final char[] samples = "0123456789abcdefABCDEF-/:@G`g\u0080\u0130\u0161".toCharArray();
+		Random random = new Random(1);
+		for (int i = 0; i < DEFAULT_LOOP_MAX * 100; i++) {
+			char[] chars = UUID.randomUUID().toString().toCharArray();
+			chars[random.nextInt(chars.length)] = samples[random.nextInt(samples.length)];
+			String string = new String(chars);
+			boolean valid = Parser.valid(string);
+			assertEquals(string, valid, Parser.tryParse(string) != null);
+			try {
+				GUID guid = Parser.parse(string);
+				assertTrue(string, valid);
+				assertEquals(UUID.fromString(string), guid.toUUID());
+			} catch (IllegalArgumentException e) {
+				assertFalse(string, valid);
+			}
+		}
+	}
+
 	public void testValidator(Function<String, Boolean> validator) {
 
 		String guid = null;
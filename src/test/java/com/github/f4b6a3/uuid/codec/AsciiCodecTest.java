@@ -0,0 +1,296 @@
+package com.github.f4b6a3.uuid.codec;
+
+import static org.junit.Assert.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+
+public class AsciiCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	private static final String URN_PREFIX = "urn:uuid:";
+
+	private static byte[] ascii(String string) {
+		return string.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	@Test
+	public void testEncode() {
+
+		AsciiCodec codec = new AsciiCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			byte[] expected = ascii(uuid.toString());
+			assertArrayEquals(expected, codec.encode(uuid));
+
+			// at an offset
+			byte[] bytes = new byte[40];
+			assertEquals(38, codec.encode(uuid, bytes, 2));
+			assertEquals(uuid.toString(), new String(bytes, 2, 36, StandardCharsets.US_ASCII));
+
+			// heap and direct buffers
+			ByteBuffer[] buffers = { ByteBuffer.allocate(40), ByteBuffer.allocateDirect(40) };
+			for (ByteBuffer buffer : buffers) {
+				buffer.position(3);
+				codec.encode(uuid, buffer);
+				assertEquals(39, buffer.position());
+				byte[] actual = new byte[36];
+				buffer.position(3);
+				buffer.get(actual);
+				assertArrayEquals(expected, actual);
+			}
+		}
+	}
+
+	@Test
+	public void testDecode() {
+
+		AsciiCodec codec = new AsciiCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String canonical = uuid.toString();
+			String[] strings = { canonical, canonical.toUpperCase(), canonical.replace("-", ""), "{" + canonical + "}",
+					URN_PREFIX + canonical };
+
+			for (String string : strings) {
+				byte[] bytes = ascii(string);
+				assertEquals(uuid, codec.decode(bytes));
+
+				// at an offset
+				byte[] padded = ascii("xx" + string + "yy");
+				assertEquals(uuid, codec.decode(padded, 2, string.length()));
+
+				// heap buffer with array offset
+				ByteBuffer heap = ByteBuffer.wrap(padded, 1, padded.length - 1).slice();
+				assertEquals(uuid, codec.decode(heap, 1, string.length()));
+				assertEquals(0, heap.position());
+
+				// direct buffer
+				ByteBuffer direct = ByteBuffer.allocateDirect(padded.length);
+				direct.put(padded);
+				direct.position(2).limit(2 + string.length());
+				assertEquals(uuid, codec.decode(direct));
+				assertEquals(direct.limit(), direct.position());
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecode() {
+		AsciiCodec codec = new AsciiCodec();
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			ByteBuffer buffer = ByteBuffer.allocateDirect(36);
+			codec.encode(uuid, buffer);
+			buffer.flip();
+			assertEquals(uuid, codec.decode(buffer));
+			assertEquals(uuid, codec.decode(codec.encode(uuid)));
+		}
+	}
+
+	@Test
+	public void testEncodeAllAndDecodeAll() {
+
+		AsciiCodec codec = new AsciiCodec();
+
+		final int count = 1000;
+		final long[] uuids = new long[2 * count + 2];
+		final byte[] expected = new byte[36 * count + 1];
+		for (int i = 0; i < count; i++) {
+			UUID uuid = i < 2 ? new UUID(-i, -i) : UUID.randomUUID();
+			uuids[2 * i + 2] = uuid.getMostSignificantBits();
+			uuids[2 * i + 3] = uuid.getLeastSignificantBits();
+			codec.encode(uuid, expected, 36 * i + 1);
+		}
+
+		// skip the first UUID and the first byte
+		byte[] bytes = new byte[36 * count + 1];
+		assertEquals(bytes.length, codec.encodeAll(uuids, 1, count, bytes, 1));
+		assertArrayEquals(expected, bytes);
+
+		long[] actual = new long[uuids.length];
+		codec.decodeAll(bytes, 1, count, actual, 1);
+		assertArrayEquals(uuids, actual);
+
+		// upper case
+		String upper = new String(bytes, StandardCharsets.US_ASCII).toUpperCase();
+		actual = new long[uuids.length];
+		codec.decodeAll(ascii(upper), 1, count, actual, 1);
+		assertArrayEquals(uuids, actual);
+
+		// an invalid string in the middle
+		final char[] invalid = { 'g', 'G', '-', '/', ':', '@', '`', '\u0000', '\u00e1' };
+		for (int i = 0; i < 36; i++) {
+			byte[] copy = bytes.clone();
+			int position = 1 + 36 * 500 + i;
+			boolean hyphen = copy[position] == '-';
+			copy[position] = (byte) (hyphen ? 'a' : invalid[i % invalid.length]);
+			actual = new long[uuids.length];
+			try {
+				codec.decodeAll(copy, 1, count, actual, 1);
+				fail("Should throw exception");
+			} catch (InvalidUuidException e) {
+				// the UUIDs before the invalid one are decoded
+				assertEquals(uuids[2 * 500 + 1], actual[2 * 500 + 1]);
+			}
+		}
+
+		try {
+			codec.encodeAll(uuids, 2, count, bytes, 0);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.decodeAll(bytes, 2, count, actual, 0);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testEncodeAllAndDecodeAllParallel() {
+
+		AsciiCodec codec = new AsciiCodec();
+
+		final int count = 3 * ParallelUtil.THRESHOLD + 1;
+		final long[] uuids = new long[2 * count];
+		final byte[] expected = new byte[36 * count];
+		for (int i = 0; i < count; i++) {
+			UUID uuid = UUID.randomUUID();
+			uuids[2 * i] = uuid.getMostSignificantBits();
+			uuids[2 * i + 1] = uuid.getLeastSignificantBits();
+			codec.encode(uuid, expected, 36 * i);
+		}
+
+		byte[] bytes = new byte[36 * count];
+		assertEquals(bytes.length, codec.encodeAllParallel(uuids, 0, count, bytes, 0));
+		assertArrayEquals(expected, bytes);
+
+		long[] actual = new long[uuids.length];
+		codec.decodeAllParallel(bytes, 0, count, actual, 0);
+		assertArrayEquals(uuids, actual);
+
+		bytes[36 * (count - 1)] = 'g';
+		try {
+			codec.decodeAllParallel(bytes, 0, count, actual, 0);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			codec.encodeAllParallel(uuids, 1, count, bytes, 0);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testDecodeInvalidUuidException() {
+
+		AsciiCodec codec = new AsciiCodec();
+
+		String canonical = UUID.randomUUID().toString();
+		String[] invalid = { "", "INVALID", canonical + "x", canonical.substring(0, 35), "[" + canonical + "]",
+				"URN:UUID:" + canonical, canonical.replace('-', '_'), canonical.replace('-', 'a'),
+				"g" + canonical.replace("-", "").substring(1), "x" + canonical.substring(1) };
+
+		for (String string : invalid) {
+			byte[] bytes = ascii(string);
+			assertNull(string, codec.tryDecode(bytes));
+			try {
+				codec.decode(bytes);
+				fail("Should throw exception: " + string);
+			} catch (InvalidUuidException e) {
+				assertTrue(e.getMessage().contains(string));
+			}
+			try {
+				ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+				direct.put(bytes).flip();
+				codec.decode(direct);
+				fail("Should throw exception: " + string);
+			} catch (InvalidUuidException e) {
+				assertTrue(e.getMessage().contains(string));
+			}
+		}
+
+		// non-ASCII bytes
+		for (int j = 0; j < 36; j++) {
+			byte[] bytes = ascii(canonical);
+			bytes[j] = (byte) (bytes[j] | 0x80);
+			try {
+				codec.decode(bytes);
+				fail("Should throw exception");
+			} catch (InvalidUuidException e) {
+				// success
+			}
+		}
+
+		assertNull(codec.tryDecode((byte[]) null));
+		assertEquals(UUID.fromString(canonical), codec.tryDecode(ascii(canonical)));
+		assertEquals(UUID.fromString(canonical), codec.tryDecode(ascii("x" + canonical), 1, 36));
+
+		try {
+			codec.decode((byte[]) null);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			codec.decode((ByteBuffer) null);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testOutOfBounds() {
+
+		AsciiCodec codec = new AsciiCodec();
+		UUID uuid = UUID.randomUUID();
+
+		try {
+			codec.encode(uuid, new byte[40], 5);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.encode(uuid, ByteBuffer.allocateDirect(35));
+			fail("Should throw exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+
+		try {
+			codec.decode(new byte[36], 1, 36);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.encode(null, new byte[36], 0);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+}
@@ -3,7 +3,11 @@ package com.github.f4b6a3.uuid.codec;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.UuidCreator;
@@ -81,6 +85,166 @@ public class BinaryCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeAndDecodeAtOffset() {
+
+		BinaryCodec codec = new BinaryCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			byte[] expected = codec.encode(uuid);
+
+			byte[] bytes = new byte[21];
+			assertEquals(19, codec.encode(uuid, bytes, 3));
+			assertArrayEquals(expected, Arrays.copyOfRange(bytes, 3, 19));
+			assertEquals(uuid, codec.decode(bytes, 3));
+		}
+
+		try {
+			codec.encode(UUID.randomUUID(), new byte[16], 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.decode(new byte[16], 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecodeByteBuffer() {
+
+		BinaryCodec codec = new BinaryCodec();
+
+		ByteOrder[] orders = { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+		for (ByteOrder order : orders) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				byte[] expected = codec.encode(uuid);
+
+				ByteBuffer[] buffers = { ByteBuffer.allocate(21), ByteBuffer.allocateDirect(21) };
+				for (ByteBuffer buffer : buffers) {
+					buffer.order(order).position(3);
+					codec.encode(uuid, buffer);
+					assertEquals(19, buffer.position());
+
+					// the bytes are in network order
+					byte[] actual = new byte[16];
+					buffer.position(3);
+					buffer.get(actual);
+					assertArrayEquals(expected, actual);
+
+					assertEquals(uuid, codec.decode(buffer, 3));
+					assertEquals(19, buffer.position());
+
+					buffer.position(3);
+					assertEquals(uuid, codec.decode(buffer));
+					assertEquals(19, buffer.position());
+				}
+			}
+		}
+
+		try {
+			codec.encode(UUID.randomUUID(), ByteBuffer.allocate(15));
+			fail("Should throw exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+
+		try {
+			codec.decode(ByteBuffer.allocate(15));
+			fail("Should throw exception");
+		} catch (BufferUnderflowException e) {
+			// success
+		}
+
+		try {
+			codec.decode(ByteBuffer.allocate(16), 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testEncodeAllAndDecodeAll() {
+
+		BinaryCodec codec = new BinaryCodec();
+
+		final int count = 1000;
+		final long[] uuids = new long[2 * count + 2];
+		final byte[] expected = new byte[16 * count + 1];
+		for (int i = 0; i < count; i++) {
+			UUID uuid = UUID.randomUUID();
+			uuids[2 * i + 2] = uuid.getMostSignificantBits();
+			uuids[2 * i + 3] = uuid.getLeastSignificantBits();
+			codec.encode(uuid, expected, 16 * i + 1);
+		}
+
+		// skip the first UUID and the first byte
+		byte[] bytes = new byte[16 * count + 1];
+		assertEquals(bytes.length, codec.encodeAll(uuids, 1, count, bytes, 1));
+		assertArrayEquals(expected, bytes);
+
+		long[] actual = new long[uuids.length];
+		codec.decodeAll(bytes, 1, count, actual, 1);
+		assertArrayEquals(uuids, actual);
+
+		ByteOrder[] orders = { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+		for (ByteOrder order : orders) {
+			ByteBuffer[] buffers = { ByteBuffer.allocate(bytes.length), ByteBuffer.allocateDirect(bytes.length) };
+			for (ByteBuffer buffer : buffers) {
+				buffer.order(order).position(1);
+				codec.encodeAll(uuids, 1, count, buffer);
+				assertEquals(bytes.length, buffer.position());
+
+				byte[] written = new byte[bytes.length];
+				buffer.position(1);
+				buffer.get(written, 1, written.length - 1);
+				assertArrayEquals(expected, written);
+
+				actual = new long[uuids.length];
+				buffer.position(1);
+				codec.decodeAll(buffer, count, actual, 1);
+				assertArrayEquals(uuids, actual);
+				assertEquals(bytes.length, buffer.position());
+				assertEquals(order, buffer.order());
+			}
+		}
+
+		try {
+			codec.encodeAll(uuids, 2, count, bytes, 0);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.decodeAll(bytes, 2, count, actual, 0);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.encodeAll(uuids, 0, count, ByteBuffer.allocate(16 * count - 1));
+			fail("Should throw exception");
+		} catch (BufferOverflowException e) {
+			// success
+		}
+
+		try {
+			codec.decodeAll(ByteBuffer.allocate(16 * count - 1), count, actual, 0);
+			fail("Should throw exception");
+		} catch (BufferUnderflowException e) {
+			// success
+		}
+	}
+
 	@Test
 	public void testEncodeInvalidUuidException() {
 
@@ -115,6 +279,16 @@ public class BinaryCodecTest {
 		}
 	}
 
+	@Test
+	public void testTryDecode() {
+		BinaryCodec codec = new BinaryCodec();
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid, codec.tryDecode(codec.encode(uuid)));
+		assertNull(codec.tryDecode(null));
+		assertNull(codec.tryDecode(new byte[15]));
+		assertNull(codec.tryDecode(new byte[17]));
+	}
+
 	@Test
 	public void testDecodeInvalidUuidException() {
 
@@ -0,0 +1,144 @@
+package com.github.f4b6a3.uuid.codec;
+
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class CachedStringCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	@Test
+	public void testEncodeAndDecode() {
+
+		CachedStringCodec codec = new CachedStringCodec(1024);
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String string = codec.encode(uuid);
+			assertEquals(uuid.toString(), string);
+			assertSame(string, codec.encode(new UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits())));
+
+			UUID decoded = codec.decode(string);
+			assertEquals(uuid, decoded);
+			assertSame(decoded, codec.decode(new String(string)));
+
+			// the other formats of StringCodec
+			assertEquals(uuid, codec.decode(string.toUpperCase()));
+			assertEquals(uuid, codec.decode(string.replace("-", "")));
+			assertEquals(uuid, codec.decode("{" + string + "}"));
+			assertEquals(uuid, codec.decode("urn:uuid:" + string));
+		}
+
+		CachedStringCodec.Stats encode = codec.getEncodeStats();
+		assertEquals(DEFAULT_LOOP_LIMIT, encode.getHits());
+		assertEquals(DEFAULT_LOOP_LIMIT, encode.getMisses());
+		assertEquals(0.5, encode.getHitRate(), 0.0);
+
+		CachedStringCodec.Stats decode = codec.getDecodeStats();
+		assertEquals(DEFAULT_LOOP_LIMIT, decode.getHits());
+		assertEquals(5 * DEFAULT_LOOP_LIMIT, decode.getMisses());
+		assertEquals(1024, decode.getCapacity());
+
+		codec.clear();
+		assertEquals(0, codec.getEncodeStats().getSize());
+		assertEquals(0, codec.getDecodeStats().getHits());
+		assertEquals(0.0, codec.getDecodeStats().getHitRate(), 0.0);
+	}
+
+	@Test
+	public void testEviction() {
+
+		// a single set of 8 entries
+		CachedStringCodec codec = new CachedStringCodec(1);
+
+		UUID hot = UUID.randomUUID();
+		String string = codec.encode(hot);
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			// the hot UUID is read between insertions, so it is never evicted
+			assertSame(string, codec.encode(hot));
+			codec.encode(UUID.randomUUID());
+		}
+
+		CachedStringCodec.Stats stats = codec.getEncodeStats();
+		assertEquals(8, stats.getCapacity());
+		assertEquals(8, stats.getSize());
+		assertEquals(DEFAULT_LOOP_LIMIT, stats.getHits());
+		assertEquals(DEFAULT_LOOP_LIMIT + 1, stats.getMisses());
+		assertEquals(DEFAULT_LOOP_LIMIT + 1 - 8, stats.getEvictions());
+	}
+
+	@Test
+	public void testInvalid() {
+
+		CachedStringCodec codec = new CachedStringCodec();
+
+		String[] invalid = { "", "INVALID", UUID.randomUUID().toString().replace('-', 'x') };
+		for (String string : invalid) {
+			assertNull(codec.tryDecode(string));
+			try {
+				codec.decode(string);
+				fail("Should throw exception");
+			} catch (InvalidUuidException e) {
+				// success
+			}
+		}
+		assertEquals(0, codec.getDecodeStats().getSize());
+		// the lookups of invalid strings are misses
+		assertEquals(0, codec.getDecodeStats().getHits());
+		assertEquals(invalid.length * 2, codec.getDecodeStats().getMisses());
+
+		assertNull(codec.tryDecode(null));
+		try {
+			codec.encode(null);
+			fail("Should throw exception");
+		} catch (InvalidUuidException e) {
+			// success
+		}
+
+		try {
+			new CachedStringCodec(0);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testConcurrency() throws InterruptedException {
+
+		final CachedStringCodec codec = new CachedStringCodec(256);
+
+		final UUID[] uuids = new UUID[1000];
+		for (int i = 0; i < uuids.length; i++) {
+			uuids[i] = UUID.randomUUID();
+		}
+
+		final boolean[] failed = new boolean[1];
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			threads[t] = new Thread(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				for (int i = 0; i < 10_000; i++) {
+					UUID uuid = uuids[random.nextInt(uuids.length)];
+					String string = codec.encode(uuid);
+					if (!uuid.toString().equals(string) || !uuid.equals(codec.decode(string))) {
+						failed[0] = true;
+					}
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertFalse("Should return the right strings and UUIDs", failed[0]);
+		assertEquals(40_000, codec.getEncodeStats().getHits() + codec.getEncodeStats().getMisses());
+	}
+}
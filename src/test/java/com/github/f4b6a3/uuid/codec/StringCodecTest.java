@@ -2,11 +2,11 @@ package com.github.f4b6a3.uuid.codec;
 
 import static org.junit.Assert.*;
 
-import com.github.f4b6a3.uuid.util.internal.JavaVersionUtil;
 import org.junit.Test;
 
 import com.github.f4b6a3.uuid.UuidCreator;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.UuidValidator;
 
 import java.util.UUID;
 
@@ -97,6 +97,30 @@ public class StringCodecTest {
 		}
 	}
 
+	@Test
+	public void testTryDecode() {
+
+		StringCodec codec = new StringCodec();
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String string = uuid.toString();
+			assertEquals(uuid, codec.tryDecode(string));
+			assertEquals(uuid, codec.tryDecode(string.toUpperCase()));
+			assertEquals(uuid, codec.tryDecode(string.replace("-", "")));
+			assertEquals(uuid, codec.tryDecode(URN_PREFIX + string));
+			assertEquals(uuid, codec.tryDecode("{" + string + "}"));
+		}
+
+		String canonical = UUID.randomUUID().toString();
+		String[] invalid = { null, "", "INVALID", canonical + "x", canonical.substring(1), "[" + canonical + "]",
+				"URN:UUID:" + canonical, canonical.replace('-', '_'), "g" + canonical.substring(1),
+				canonical.substring(0, 35) + '\u00e1' };
+		for (String string : invalid) {
+			assertNull(string, codec.tryDecode(string));
+		}
+	}
+
 	@Test
 	public void testEncodeAndDecode() {
 
@@ -226,6 +250,89 @@ public class StringCodecTest {
 		}
 	}
 
+	@Test
+	public void testDecodeInvalidChars() {
+
+		StringCodec codec = new StringCodec();
+
+		// the low byte of '\u0161' and '\u0141' are 'a' and 'A'
+		final char[] invalid = { 'g', 'G', 'x', ' ', '/', ':', '@', '`', '\u0000', '\u0161', '\u0141', '\uff10' };
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			final String string = UUID.randomUUID().toString();
+			final String[] prefixes = { "", "{", URN_PREFIX };
+			final String[] suffixes = { "", "}", "" };
+			for (int p = 0; p < prefixes.length; p++) {
+				for (int j = 0; j < string.length(); j++) {
+					final char[] chars = string.toCharArray();
+					final boolean hyphen = chars[j] == '-';
+					chars[j] = hyphen ? 'a' : invalid[(i + j) % invalid.length];
+					final String input = prefixes[p] + new String(chars) + suffixes[p];
+					try {
+						codec.decode(input);
+						fail("Should throw exception: " + input);
+					} catch (InvalidUuidException e) {
+						// success
+					}
+				}
+			}
+
+			// without hyphens
+			final String hex = string.replace("-", "");
+			for (int j = 0; j < hex.length(); j++) {
+				final char[] chars = hex.toCharArray();
+				chars[j] = invalid[(i + j) % invalid.length];
+				try {
+					codec.decode(new String(chars));
+					fail("Should throw exception");
+				} catch (InvalidUuidException e) {
+					// success
+				}
+			}
+
+			// wrong delimiters
+			final String[] wrong = { "[" + string + "]", "{" + string + "]", "URN:UUID:" + string, "urn:uuid-" + string,
+					"-" + hex + "-", "{" + hex + "}" };
+			for (String input : wrong) {
+				try {
+					codec.decode(input);
+					fail("Should throw exception: " + input);
+				} catch (InvalidUuidException e) {
+					// success
+				}
+			}
+
+			// upper case
+			assertEquals(UUID.fromString(string), codec.decode(string.toUpperCase()));
+			assertEquals(UUID.fromString(string), codec.decode(hex.toUpperCase()));
+		}
+	}
+
+	@Test
+	public void testDecodeAgainstTable() {
+
+		// SWAR decoder must agree with the table validator
+		StringCodec codec = new StringCodec();
+		final char[] samples = "0123456789abcdefABCDEF-/:@G`g\u0080\u0130\u0161".toCharArray();
+		java.util.Random random = new java.util.Random(1);
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT * 100; i++) {
+			String canonical = UUID.randomUUID().toString();
+			String input = random.nextBoolean() ? canonical : canonical.replace("-", "");
+			char[] chars = input.toCharArray();
+			chars[random.nextInt(chars.length)] = samples[random.nextInt(samples.length)];
+			String string = new String(chars);
+			boolean valid = UuidValidator.isValid(string);
+			try {
+				UUID uuid = codec.decode(string);
+				assertTrue(string, valid);
+				assertEquals(string.replace("-", "").toLowerCase(), uuid.toString().replace("-", ""));
+			} catch (InvalidUuidException e) {
+				assertFalse(string, valid);
+			}
+		}
+	}
+
 	@Test
 	public void testToCharArray() {
 
@@ -251,48 +358,6 @@ public class StringCodecTest {
 		}
 	}
 
-	@Test
-	public void testGetJavaVersion() {
-
-		final String key = "java.version";
-		final String backup = System.getProperty(key);
-
-		System.setProperty(key, "1.8");
-		assertEquals(8, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "1.8.0");
-		assertEquals(8, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "8");
-		assertEquals(8, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "8.0");
-		assertEquals(8, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "8.0.0");
-		assertEquals(8, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "9");
-		assertEquals(9, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "9.0");
-		assertEquals(9, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "9.0.0");
-		assertEquals(9, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "10");
-		assertEquals(10, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "10.0");
-		assertEquals(10, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, "10.0.0");
-		assertEquals(10, JavaVersionUtil.getJavaVersion());
-
-		System.setProperty(key, backup);
-	}
-
 	private void checkPattern(String string, String pattern) {
 		assertTrue("Doesn't match the pattern: " + string, string.matches(pattern));
 	}
@@ -0,0 +1,149 @@
+package com.github.f4b6a3.uuid.codec;
+
+import static org.junit.Assert.*;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.UniversalCodec.Format;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class UniversalCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	@Test
+	public void testDecodeHexadecimalFormats() {
+		UniversalCodec codec = UniversalCodec.INSTANCE;
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			String canonical = uuid.toString();
+			String[] strings = { canonical, //
+					canonical.replace("-", ""), //
+					"{" + canonical + "}", //
+					"urn:uuid:" + canonical, //
+					canonical.toUpperCase() };
+			Format[] formats = { Format.CANONICAL, Format.HEXADECIMAL, Format.BRACES, Format.URN, Format.CANONICAL };
+			for (int j = 0; j < strings.length; j++) {
+				assertEquals(strings[j], uuid, codec.decode(strings[j]));
+				assertEquals(strings[j], uuid, codec.tryDecode(strings[j]));
+				assertEquals(strings[j], formats[j], codec.detect(strings[j]));
+				long[] bits = new long[2];
+				assertEquals(strings[j], formats[j], codec.detect(new StringBuilder(strings[j]), bits));
+				assertEquals(uuid.getMostSignificantBits(), bits[0]);
+				assertEquals(uuid.getLeastSignificantBits(), bits[1]);
+			}
+			assertEquals(canonical, codec.encode(uuid));
+		}
+	}
+
+	@Test
+	public void testEncodeAndDecodeEachFormat() {
+		for (Format format : Format.values()) {
+			UniversalCodec codec = new UniversalCodec(format);
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String string = codec.encode(uuid);
+				assertEquals(format.name(), format.getLength(), string.length());
+				assertEquals(format.name(), string, format.encode(uuid));
+				assertEquals(format.name(), uuid, codec.decode(string));
+				assertEquals(format.name(), format, codec.detect(string));
+			}
+		}
+		UUID uuid = UUID.randomUUID();
+		assertEquals("{" + uuid + "}", Format.BRACES.encode(uuid));
+		assertEquals("urn:uuid:" + uuid, Format.URN.encode(uuid));
+		assertEquals(Base62Codec.INSTANCE.encode(uuid), Format.BASE_62.encode(uuid));
+	}
+
+	@Test
+	public void testDecodeInvalid() {
+
+		UniversalCodec codec = new UniversalCodec(Format.values());
+
+		String[] invalid = { null, "", "0", //
+				"01234567-89ab-4def-a123-456789abcdeg", // invalid char
+				"01234567-89ab-4def-a123_456789abcdef", // invalid hyphen
+				"[01234567-89ab-4def-a123-456789abcdef]", // invalid braces
+				"urn:uuif:01234567-89ab-4def-a123-456789abcdef", // invalid prefix
+				"01234567-89ab-4def-a123-456789abcdef0", // no format of this length
+				"urn:uuid:01234567-89ab-4def-a123-456789abcdef0", // longer than all
+				"0123456789abcdef0123456789abcdé", // non-ASCII
+				"zzzzzzzzzzzzzzzzzzzzz.", // invalid in all formats of length 22
+		};
+
+		for (String string : invalid) {
+			assertNull(string, codec.tryDecode(string));
+			assertNull(string, codec.detect(string));
+			long[] bits = { 1, 2 };
+			assertNull(string, codec.detect(string, bits));
+			assertArrayEquals(new long[] { 1, 2 }, bits);
+			try {
+				codec.decode(string);
+				fail(string);
+			} catch (InvalidUuidException e) {
+				// success
+			}
+		}
+
+		// valid, but not accepted by the shared instance
+		UUID uuid = UUID.randomUUID();
+		assertNull(UniversalCodec.INSTANCE.tryDecode(Base62Codec.INSTANCE.encode(uuid)));
+	}
+
+	@Test
+	public void testFormatsOfSameLength() {
+
+		// overflows 128 bits in base-62, but is valid in base-64-url
+		String overflow = "zzzzzzzzzzzzzzzzzzzzzz";
+		UniversalCodec codec = new UniversalCodec(Format.BASE_62, Format.BASE_64_URL);
+		assertEquals(Format.BASE_64_URL, codec.detect(overflow));
+		assertEquals(Base64UrlCodec.INSTANCE.decode(overflow), codec.decode(overflow));
+
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+			UUID uuid = UUID.randomUUID();
+
+			// a base-62 string is tried as base-62 first
+			String base62 = Base62Codec.INSTANCE.encode(uuid);
+			assertEquals(Format.BASE_62, codec.detect(base62));
+			assertEquals(uuid, codec.decode(base62));
+
+			// the order of the formats decides
+			UniversalCodec reversed = new UniversalCodec(Format.BASE_64_URL, Format.BASE_62);
+			assertEquals(Format.BASE_64_URL, reversed.detect(base62));
+		}
+	}
+
+	@Test
+	public void testConstructor() {
+		try {
+			new UniversalCodec();
+			fail();
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+		try {
+			new UniversalCodec(Format.CANONICAL, null);
+			fail();
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+
+		// repeated formats are ignored
+		UniversalCodec codec = new UniversalCodec(Format.URN, Format.CANONICAL, Format.URN);
+		UUID uuid = UUID.randomUUID();
+		assertEquals("urn:uuid:" + uuid, codec.encode(uuid));
+		assertEquals(uuid, codec.decode(uuid.toString()));
+
+		try {
+			codec.encode(null);
+			fail();
+		} catch (InvalidUuidException e) {
+			// success
+		}
+	}
+}
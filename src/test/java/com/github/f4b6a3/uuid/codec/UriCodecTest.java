@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 import org.junit.Test;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.UUID;
 
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
@@ -48,6 +49,29 @@ public class UriCodecTest {
 		}
 	}
 
+	@Test
+	public void testTryDecode() {
+		UriCodec codec = new UriCodec();
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid, codec.tryDecode(URI.create("urn:uuid:" + uuid)));
+		assertNull(codec.tryDecode(null));
+		assertNull(codec.tryDecode(URI.create("urn:uuix:" + uuid)));
+		assertNull(codec.tryDecode(URI.create("urn:uuid:" + uuid + "0")));
+		assertNull(codec.tryDecode(URI.create("https://example.com/" + uuid)));
+		assertNull(codec.tryDecode(URI.create("urn:uuid:" + uuid + "#x")));
+		assertNull(codec.tryDecode(URI.create("URN:UUID:" + uuid)));
+		assertFalse(UriCodec.isUuidUri(URI.create("urn:uuix:" + uuid)));
+		assertTrue(UriCodec.isUuidUri(URI.create("urn:uuid:" + uuid)));
+	}
+
+	@Test
+	public void testDecodeOtherConstructors() throws URISyntaxException {
+		UriCodec codec = new UriCodec();
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid, codec.decode(new URI("urn", "uuid:" + uuid, null)));
+		assertEquals(uuid, codec.decode(URI.create("urn:uuid:" + uuid.toString().toUpperCase()).normalize()));
+	}
+
 	@Test
 	public void testIsUuidUri() {
 
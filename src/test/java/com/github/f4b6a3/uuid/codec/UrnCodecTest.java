@@ -79,6 +79,18 @@ public class UrnCodecTest {
 				String string = URN_PREFIX;
 				assertFalse("Should not be valid", UrnCodec.isUuidUrn(string));
 			}
+
+			{
+				// wrong prefix
+				String string = "urn:uuix:" + UUID.randomUUID().toString();
+				assertFalse("Should not be valid", UrnCodec.isUuidUrn(string));
+			}
+
+			{
+				// wrong hyphens
+				String string = URN_PREFIX + UUID.randomUUID().toString().replace('-', 'a');
+				assertFalse("Should not be valid", UrnCodec.isUuidUrn(string));
+			}
 		}
 	}
 
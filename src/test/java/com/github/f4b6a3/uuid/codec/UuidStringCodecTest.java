@@ -0,0 +1,294 @@
+package com.github.f4b6a3.uuid.codec;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.codec.base.Base32Codec;
+import com.github.f4b6a3.uuid.codec.base.Base58BtcCodec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
+import com.github.f4b6a3.uuid.codec.base.BaseNCodec;
+import com.github.f4b6a3.uuid.codec.other.NcnameCodec;
+import com.github.f4b6a3.uuid.codec.other.SlugCodec;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+
+public class UuidStringCodecTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100;
+
+	private static final UuidStringCodec[] CODECS = { //
+			StringCodec.INSTANCE, //
+			UrnCodec.INSTANCE, //
+			Base16Codec.INSTANCE, //
+			Base32Codec.INSTANCE, //
+			Base58BtcCodec.INSTANCE, //
+			Base62Codec.INSTANCE, //
+			Base64Codec.INSTANCE, //
+			Base64UrlCodec.INSTANCE, //
+			BaseNCodec.newInstance(36), //
+			BaseNCodec.newInstance(62, x -> new long[] { x / 62, x % 62 }), //
+			SlugCodec.INSTANCE, //
+			new SlugCodec(Base32Codec.INSTANCE), //
+			NcnameCodec.INSTANCE, //
+			new NcnameCodec(Base32Codec.INSTANCE) //
+	};
+
+	@Test
+	public void testLength() {
+		for (UuidStringCodec codec : CODECS) {
+			assertEquals(name(codec), codec.encode(UUID.randomUUID()).length(), codec.length());
+		}
+	}
+
+	@Test
+	public void testEncodeToCharArray() {
+		for (UuidStringCodec codec : CODECS) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String expected = codec.encode(uuid);
+
+				char[] chars = new char[codec.length() + 4];
+				Arrays.fill(chars, '#');
+				int end = codec.encodeTo(uuid, chars, 2);
+
+				assertEquals(name(codec), 2 + codec.length(), end);
+				assertEquals(name(codec), "##" + expected + "##", new String(chars));
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeToCharArrayOutOfBounds() {
+		for (UuidStringCodec codec : CODECS) {
+			char[] chars = new char[codec.length() + 1];
+			Arrays.fill(chars, '#');
+			try {
+				codec.encodeTo(UUID.randomUUID(), chars, 2);
+				fail(name(codec));
+			} catch (IndexOutOfBoundsException e) {
+				// nothing is written if it doesn't fit
+				char[] expected = new char[chars.length];
+				Arrays.fill(expected, '#');
+				assertArrayEquals(name(codec), expected, chars);
+			}
+			try {
+				codec.encodeTo(UUID.randomUUID(), chars, -1);
+				fail(name(codec));
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeToNull() {
+		for (UuidStringCodec codec : CODECS) {
+			try {
+				codec.encodeTo(null, new char[codec.length()], 0);
+				fail(name(codec));
+			} catch (InvalidUuidException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeToStringBuilder() {
+		for (UuidStringCodec codec : CODECS) {
+			UUID uuid1 = UUID.randomUUID();
+			UUID uuid2 = UUID.randomUUID();
+			StringBuilder builder = new StringBuilder("id=");
+			codec.encodeTo(uuid1, builder);
+			builder.append(',');
+			codec.encodeTo(uuid2, builder);
+			assertEquals(name(codec), "id=" + codec.encode(uuid1) + "," + codec.encode(uuid2), builder.toString());
+		}
+	}
+
+	@Test
+	public void testEncodeToAppendable() throws IOException {
+		for (UuidStringCodec codec : CODECS) {
+			UUID uuid = UUID.randomUUID();
+			String expected = codec.encode(uuid);
+
+			StringWriter writer = new StringWriter();
+			codec.encodeTo(uuid, writer);
+			assertEquals(name(codec), expected, writer.toString());
+
+			StringBuilder builder = new StringBuilder();
+			codec.encodeTo(uuid, (Appendable) builder);
+			assertEquals(name(codec), expected, builder.toString());
+
+			// an appendable that is neither a writer nor a string builder
+			StringBuffer buffer = new StringBuffer();
+			codec.encodeTo(uuid, (Appendable) buffer);
+			assertEquals(name(codec), expected, buffer.toString());
+		}
+	}
+
+	@Test
+	public void testDecodeCharSequence() {
+		for (UuidStringCodec codec : CODECS) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String string = codec.encode(uuid);
+				UUID expected = codec.decode(string);
+
+				assertEquals(name(codec), expected, codec.decode(string, 0));
+				assertEquals(name(codec), expected, codec.decode("  " + string, 2));
+				assertEquals(name(codec), expected, codec.decode(new StringBuilder("x=").append(string).append(";"), 2));
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeCharSequenceInvalid() {
+		for (UuidStringCodec codec : CODECS) {
+			String string = codec.encode(UUID.randomUUID());
+			String invalid = "!" + string.substring(1);
+			try {
+				codec.decode(new StringBuilder(invalid), 0);
+				fail(name(codec) + ": " + invalid);
+			} catch (InvalidUuidException e) {
+				// success
+			}
+			try {
+				codec.decode(string, 1);
+				fail(name(codec));
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+			try {
+				codec.decode(string, -1);
+				fail(name(codec));
+			} catch (IndexOutOfBoundsException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeCharSequenceNonAscii() {
+		for (UuidStringCodec codec : CODECS) {
+			String string = codec.encode(UUID.randomUUID());
+			String invalid = string.substring(0, string.length() - 1) + 'é';
+			try {
+				codec.decode(invalid, 0);
+				fail(name(codec) + ": " + invalid);
+			} catch (InvalidUuidException e) {
+				// success
+			}
+		}
+	}
+
+	@Test
+	public void testTryDecode() {
+		for (UuidStringCodec codec : CODECS) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+				UUID uuid = UUID.randomUUID();
+				String string = codec.encode(uuid);
+				assertEquals(name(codec), uuid, codec.tryDecode(string));
+				assertEquals(name(codec), uuid, codec.tryDecode(new StringBuilder("x=").append(string), 2));
+
+				String invalid = string.substring(0, string.length() - 1) + '~';
+				assertNull(name(codec), codec.tryDecode(invalid));
+				assertNull(name(codec), codec.tryDecode(invalid, 0));
+				assertNull(name(codec), codec.tryDecode(string + "0"));
+				assertNull(name(codec), codec.tryDecode(string.substring(1)));
+			}
+			assertNull(name(codec), codec.tryDecode((String) null));
+			assertNull(name(codec), codec.tryDecode(""));
+		}
+	}
+
+	@Test
+	public void testEncodeAllAndDecodeAll() {
+		for (UuidStringCodec codec : CODECS) {
+			checkEncodeAllAndDecodeAll(codec, DEFAULT_LOOP_LIMIT, false);
+		}
+	}
+
+	@Test
+	public void testEncodeAllAndDecodeAllParallel() {
+		for (UuidStringCodec codec : CODECS) {
+			checkEncodeAllAndDecodeAll(codec, 3 * ParallelUtil.THRESHOLD + 1, true);
+		}
+	}
+
+	private static void checkEncodeAllAndDecodeAll(UuidStringCodec codec, int count, boolean parallel) {
+
+		final int length = codec.length();
+		final long[] uuids = new long[2 * count + 2];
+		final StringBuilder expected = new StringBuilder("x");
+		for (int i = 0; i < count; i++) {
+			UUID uuid = i < 2 ? new UUID(-i, -i) : UUID.randomUUID();
+			uuids[2 * i + 2] = uuid.getMostSignificantBits();
+			uuids[2 * i + 3] = uuid.getLeastSignificantBits();
+			expected.append(codec.encode(uuid));
+		}
+
+		// skip the first UUID and the first char
+		char[] chars = new char[length * count + 1];
+		chars[0] = 'x';
+		int end = parallel ? codec.encodeAllParallel(uuids, 1, count, chars, 1)
+				: codec.encodeAll(uuids, 1, count, chars, 1);
+		assertEquals(name(codec), chars.length, end);
+		assertEquals(name(codec), expected.toString(), new String(chars));
+
+		long[] actual = new long[uuids.length];
+		if (parallel) {
+			codec.decodeAllParallel(expected, 1, count, actual, 1);
+		} else {
+			codec.decodeAll(expected, 1, count, actual, 1);
+		}
+		assertArrayEquals(name(codec), uuids, actual);
+
+		// an invalid string in the middle
+		final int middle = count / 2;
+		expected.setCharAt(1 + length * middle + length - 1, '~');
+		actual = new long[uuids.length];
+		try {
+			if (parallel) {
+				codec.decodeAllParallel(expected, 1, count, actual, 1);
+			} else {
+				codec.decodeAll(expected, 1, count, actual, 1);
+			}
+			fail(name(codec));
+		} catch (InvalidUuidException e) {
+			if (!parallel) {
+				// the UUIDs before the invalid one are decoded
+				assertEquals(name(codec), uuids[2 * middle + 1], actual[2 * middle + 1]);
+			}
+		}
+
+		try {
+			codec.encodeAll(uuids, 2, count, chars, 0);
+			fail(name(codec));
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			codec.decodeAllParallel(expected, 2, count, actual, 0);
+			fail(name(codec));
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	private static String name(UuidStringCodec codec) {
+		if (codec instanceof BaseNCodec) {
+			return codec.getClass().getSimpleName() + "(" + ((BaseNCodec) codec).getBase().getRadix() + ")";
+		}
+		return codec.getClass().getSimpleName();
+	}
+}
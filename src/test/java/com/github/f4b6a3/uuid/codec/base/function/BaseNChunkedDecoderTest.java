@@ -0,0 +1,67 @@
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
+
+public class BaseNChunkedDecoderTest {
+
+	@Test
+	public void testDecode() {
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseN base = new BaseN(radix);
+			BaseNChunkedDecoder decoder = new BaseNChunkedDecoder(base);
+			BaseNRemainderEncoder encoder = new BaseNRemainderEncoder(base);
+			UUID[] samples = { new UUID(0L, 0L), new UUID(-1L, -1L), new UUID(0L, 1L) };
+			for (UUID uuid : samples) {
+				assertEquals(uuid, decoder.apply(encoder.apply(uuid)));
+			}
+			for (int i = 0; i < 100; i++) {
+				UUID uuid = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
+				assertEquals(uuid, decoder.apply(encoder.apply(uuid)));
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeOverflow() {
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseN base = new BaseN(radix);
+			BaseNChunkedDecoder decoder = new BaseNChunkedDecoder(base);
+			BaseNRemainderDecoder expected = new BaseNRemainderDecoder(base);
+			char[] chars = new char[base.getLength()];
+			Arrays.fill(chars, base.getAlphabet().get(radix - 1));
+			String string = new String(chars);
+			boolean overflow = false;
+			try {
+				expected.apply(string);
+			} catch (InvalidUuidException e) {
+				overflow = true;
+			}
+			try {
+				decoder.apply(string);
+				if (overflow) {
+					fail("Should throw an exception: " + string);
+				}
+			} catch (InvalidUuidException e) {
+				if (!overflow) {
+					fail("Should not throw an exception: " + string);
+				}
+			}
+		}
+	}
+
+	@Test(expected = InvalidUuidException.class)
+	public void testDecodeInvalidChar() {
+		BaseN base = new BaseN(62);
+		new BaseNChunkedDecoder(base).apply("000000000000000000000-");
+	}
+}
@@ -0,0 +1,79 @@
+package com.github.f4b6a3.uuid.codec.base.function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.base.BaseN;
+
+public class BaseNChunkedEncoderTest {
+
+	@Test
+	public void testEncode() {
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseN base = new BaseN(radix);
+			BaseNChunkedEncoder encoder = new BaseNChunkedEncoder(base);
+			BaseNRemainderEncoder expected = new BaseNRemainderEncoder(base);
+			assertEquals(expected.apply(new UUID(0L, 0L)), encoder.apply(new UUID(0L, 0L)));
+			assertEquals(expected.apply(new UUID(-1L, -1L)), encoder.apply(new UUID(-1L, -1L)));
+			assertEquals(expected.apply(new UUID(0L, 1L)), encoder.apply(new UUID(0L, 1L)));
+			for (int i = 0; i < 100; i++) {
+				UUID uuid = new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong());
+				assertEquals(expected.apply(uuid), encoder.apply(uuid));
+			}
+		}
+	}
+
+	@Test
+	public void testDigits() {
+		// some known values
+		assertEquals(5, BaseNChunkedEncoder.digits(62));
+		assertEquals(5, BaseNChunkedEncoder.digits(58));
+		assertEquals(5, BaseNChunkedEncoder.digits(36));
+		for (int radix = 2; radix <= 64; radix++) {
+			int digits = BaseNChunkedEncoder.digits(radix);
+			long divisor = BaseNChunkedEncoder.power(radix, digits);
+			assertEquals(BigInteger.valueOf(radix).pow(digits).longValue(), divisor);
+			assertTrue(divisor < (1L << 31));
+			assertTrue(divisor * radix >= (1L << 31) || digits > 1);
+		}
+	}
+
+	@Test
+	public void testChunkQuotient() {
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseNChunkedEncoder encoder = new BaseNChunkedEncoder(new BaseN(radix));
+			long divisor = BaseNChunkedEncoder.power(radix, BaseNChunkedEncoder.digits(radix));
+			// the dividends are less than divisor << 32
+			long max = (divisor << 32) - 1;
+			long[] samples = { 0, 1, divisor - 1, divisor, divisor + 1, max - 1, max };
+			for (long x : samples) {
+				assertEquals(x / divisor, encoder.chunkQuotient(x));
+			}
+			for (int i = 0; i < 1000; i++) {
+				long x = ThreadLocalRandom.current().nextLong(max + 1);
+				assertEquals(x / divisor, encoder.chunkQuotient(x));
+				x = divisor * ThreadLocalRandom.current().nextLong(1L << 32) - 1;
+				if (x >= 0) {
+					assertEquals(x / divisor, encoder.chunkQuotient(x));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testQuotient() {
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseNChunkedEncoder encoder = new BaseNChunkedEncoder(new BaseN(radix));
+			for (int i = 0; i < 1000; i++) {
+				long x = ThreadLocalRandom.current().nextLong(1L << 31);
+				assertEquals(x / radix, encoder.quotient(x));
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.github.f4b6a3.uuid.codec.base.function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -12,6 +13,7 @@ import org.junit.Test;
 import com.github.f4b6a3.uuid.codec.BinaryCodec;
 import com.github.f4b6a3.uuid.codec.base.Base62Codec;
 import com.github.f4b6a3.uuid.codec.base.BaseN;
+import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 
 public class BaseNRemainderDecoderTest {
 
@@ -27,6 +29,38 @@ public class BaseNRemainderDecoderTest {
 		}
 	}
 
+	@Test
+	public void testDecodeAllRadixes() {
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseN base = new BaseN(radix);
+			BaseNRemainderDecoder decoder = new BaseNRemainderDecoder(base);
+			for (int i = 0; i < 100; i++) {
+				String string = getRandomString(base);
+				byte[] bytes = BinaryCodec.INSTANCE.encode(decoder.apply(string));
+				assertEquals(Arrays.toString(decode(base, string)), Arrays.toString(bytes));
+			}
+		}
+	}
+
+	@Test
+	public void testDecodeOverflow() {
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseN base = new BaseN(radix);
+			BaseNRemainderDecoder decoder = new BaseNRemainderDecoder(base);
+			char[] chars = new char[base.getLength()];
+			Arrays.fill(chars, base.getAlphabet().get(radix - 1));
+			String string = new String(chars);
+			if (BigInteger.valueOf(radix).pow(chars.length).subtract(BigInteger.ONE).bitLength() > 128) {
+				try {
+					decoder.apply(string);
+					fail("Should throw an exception: " + string);
+				} catch (InvalidUuidException e) {
+					// success
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testMultiply() {
 
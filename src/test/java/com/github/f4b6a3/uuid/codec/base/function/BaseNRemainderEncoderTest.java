@@ -62,6 +62,54 @@ public class BaseNRemainderEncoderTest {
 		}
 	}
 
+	@Test
+	public void testQuotient() {
+
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseNRemainderEncoder encoder = new BaseNRemainderEncoder(new BaseN(radix));
+			// the dividends are less than radix << 32
+			long max = ((long) radix << 32) - 1;
+			long[] samples = { 0, 1, radix - 1, radix, max - 1, max };
+			for (long x : samples) {
+				assertEquals(x / radix, encoder.quotient(x));
+			}
+			for (int i = 0; i < 1000; i++) {
+				long x = ThreadLocalRandom.current().nextLong(max + 1);
+				assertEquals(x / radix, encoder.quotient(x));
+			}
+		}
+	}
+
+	@Test
+	public void testEncodeWithCustomDivider() {
+
+		BaseN base = Base62Codec.INSTANCE.getBase();
+		CustomDivider divider = x -> new long[] { x / 62, x % 62 };
+		BaseNRemainderEncoder encoder = new BaseNRemainderEncoder(base, divider);
+
+		for (int i = 0; i < 1000; i++) {
+			byte[] bytes = new byte[UUID_BYTES];
+			ThreadLocalRandom.current().nextBytes(bytes);
+			UUID uuid = BinaryCodec.INSTANCE.decode(bytes);
+			assertEquals(encode(base, bytes), encoder.apply(uuid));
+		}
+	}
+
+	@Test
+	public void testEncodeAllRadixes() {
+
+		for (int radix = 2; radix <= 64; radix++) {
+			BaseN base = new BaseN(radix);
+			BaseNRemainderEncoder encoder = new BaseNRemainderEncoder(base);
+			for (int i = 0; i < 100; i++) {
+				byte[] bytes = new byte[UUID_BYTES];
+				ThreadLocalRandom.current().nextBytes(bytes);
+				UUID uuid = BinaryCodec.INSTANCE.decode(bytes);
+				assertEquals(encode(base, bytes), encoder.apply(uuid));
+			}
+		}
+	}
+
 	private String encode(BaseN base, byte[] bytes) {
 
 		// it must be a POSITIVE big number
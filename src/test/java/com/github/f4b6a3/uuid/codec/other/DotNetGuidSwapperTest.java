@@ -0,0 +1,102 @@
+package com.github.f4b6a3.uuid.codec.other;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.codec.BinaryCodec;
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+
+public class DotNetGuidSwapperTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 1000;
+
+	@Test
+	public void testSwap() {
+
+		final byte[] original = new byte[16 * DEFAULT_LOOP_LIMIT + 1];
+		final byte[] expected = new byte[16 * DEFAULT_LOOP_LIMIT + 1];
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = UUID.randomUUID();
+			BinaryCodec.INSTANCE.encode(uuid, original, 16 * i + 1);
+			BinaryCodec.INSTANCE.encode(DotNetGuid4Codec.INSTANCE.encode(uuid), expected, 16 * i + 1);
+		}
+
+		byte[] bytes = original.clone();
+		DotNetGuidSwapper.swap(bytes, 1, DEFAULT_LOOP_LIMIT);
+		assertArrayEquals(expected, bytes);
+		DotNetGuidSwapper.swap(bytes, 1, DEFAULT_LOOP_LIMIT);
+		assertArrayEquals(original, bytes);
+
+		ByteOrder[] orders = { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN };
+		for (ByteOrder order : orders) {
+			ByteBuffer[] buffers = { ByteBuffer.allocate(original.length), ByteBuffer.allocateDirect(original.length) };
+			for (ByteBuffer buffer : buffers) {
+				buffer.order(order);
+				buffer.put(original).position(5);
+
+				DotNetGuidSwapper.swap(buffer, 1, DEFAULT_LOOP_LIMIT);
+				assertEquals(5, buffer.position());
+				byte[] actual = new byte[original.length];
+				buffer.position(0);
+				buffer.get(actual);
+				assertArrayEquals(expected, actual);
+
+				DotNetGuidSwapper.swap(buffer, 1, DEFAULT_LOOP_LIMIT);
+				buffer.position(0);
+				buffer.get(actual);
+				assertArrayEquals(original, actual);
+			}
+		}
+
+		try {
+			DotNetGuidSwapper.swap(bytes, 2, DEFAULT_LOOP_LIMIT);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+
+		try {
+			DotNetGuidSwapper.swap(ByteBuffer.allocateDirect(bytes.length), 2, DEFAULT_LOOP_LIMIT);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testSwapParallel() {
+
+		final int count = 3 * ParallelUtil.THRESHOLD + 1;
+		final byte[] original = new byte[16 * count];
+		final byte[] expected = new byte[16 * count];
+		for (int i = 0; i < count; i++) {
+			UUID uuid = UUID.randomUUID();
+			BinaryCodec.INSTANCE.encode(uuid, original, 16 * i);
+			BinaryCodec.INSTANCE.encode(DotNetGuid4Codec.INSTANCE.encode(uuid), expected, 16 * i);
+		}
+
+		byte[] bytes = original.clone();
+		DotNetGuidSwapper.swapParallel(bytes, 0, count);
+		assertArrayEquals(expected, bytes);
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(original.length).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(original);
+		DotNetGuidSwapper.swapParallel(buffer, 0, count);
+		byte[] actual = new byte[original.length];
+		buffer.flip();
+		buffer.get(actual);
+		assertArrayEquals(expected, actual);
+
+		try {
+			DotNetGuidSwapper.swapParallel(bytes, 1, count);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.github.f4b6a3.uuid.codec.other;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import java.util.UUID;
@@ -113,6 +114,41 @@ public class NcnameCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeToAndDecodeAtOffset() {
+
+		NcnameCodec[] codecs = { new NcnameCodec(Base32Codec.INSTANCE), new NcnameCodec(Base64UrlCodec.INSTANCE) };
+
+		for (NcnameCodec codec : codecs) {
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+				UUID uuid = i == 0 ? new UUID(-1L, -1L) : UUID.randomUUID();
+				String string = codec.encode(uuid);
+
+				char[] chars = new char[string.length() + 2];
+				assertEquals(string.length() + 1, codec.encodeTo(uuid, chars, 1));
+				assertEquals(string, new String(chars, 1, string.length()));
+				assertEquals(uuid, codec.tryDecode("x" + string + "x", 1));
+				assertEquals(uuid, codec.decode("x" + string + "x", 1));
+
+				// an invalid char in any position
+				int position = i % string.length();
+				String invalid = string.substring(0, position) + '.' + string.substring(position + 1);
+				assertNull(codec.tryDecode(invalid));
+				try {
+					codec.decode(invalid);
+					fail("Should throw exception");
+				} catch (InvalidUuidException e) {
+					// success
+				}
+
+				// the bookends are letters from 'A' to 'P'
+				String bookend = 'Q' + string.substring(1);
+				assertNull(codec.tryDecode(bookend));
+			}
+		}
+	}
+
 	@Test
 	public void testEncodeInvalidUuidException() {
 
@@ -6,6 +6,13 @@ import org.junit.Test;
 
 import com.github.f4b6a3.uuid.codec.BinaryCodec;
 import com.github.f4b6a3.uuid.codec.UuidCodec;
+import com.github.f4b6a3.uuid.codec.base.Base16Codec;
+import com.github.f4b6a3.uuid.codec.base.Base32Codec;
+import com.github.f4b6a3.uuid.codec.base.Base58BtcCodec;
+import com.github.f4b6a3.uuid.codec.base.Base62Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64Codec;
+import com.github.f4b6a3.uuid.codec.base.Base64UrlCodec;
+import com.github.f4b6a3.uuid.codec.base.BaseNCodec;
 import com.github.f4b6a3.uuid.exception.InvalidUuidException;
 
 import java.util.Base64;
@@ -66,6 +73,43 @@ public class SlugCodecTest {
 		}
 	}
 
+	@Test
+	public void testEncodeAndDecodeOtherCodecs() {
+
+		BaseNCodec[] codecs = { Base16Codec.INSTANCE, Base32Codec.INSTANCE, Base58BtcCodec.INSTANCE,
+				Base62Codec.INSTANCE, Base64Codec.INSTANCE, Base64UrlCodec.INSTANCE };
+
+		for (BaseNCodec base : codecs) {
+			SlugCodec codec = new SlugCodec(base);
+			for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+
+				UUID uuid = i == 0 ? new UUID(-1L, -1L) : UUID.randomUUID();
+				String string = base.encode(moveCharacters(uuid));
+
+				assertEquals(string, codec.encode(uuid));
+				assertEquals(uuid, codec.decode(string));
+
+				// at an offset
+				char[] chars = new char[string.length() + 2];
+				assertEquals(string.length() + 1, codec.encodeTo(uuid, chars, 1));
+				assertEquals(string, new String(chars, 1, string.length()));
+				assertEquals(uuid, codec.tryDecode("x" + string + "x", 1));
+				assertEquals(uuid, codec.decode("x" + string + "x", 1));
+
+				// an invalid char in any position
+				int position = i % string.length();
+				String invalid = string.substring(0, position) + '.' + string.substring(position + 1);
+				assertNull(codec.tryDecode(invalid));
+				try {
+					codec.decode(invalid);
+					fail("Should throw exception");
+				} catch (InvalidUuidException e) {
+					// success
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testEncodeInvalidUuidException() {
 
@@ -0,0 +1,155 @@
+package com.github.f4b6a3.uuid.factory.rfc4122;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.UuidCreator;
+import com.github.f4b6a3.uuid.enums.UuidNamespace;
+import com.github.f4b6a3.uuid.enums.UuidVersion;
+import com.github.f4b6a3.uuid.factory.UuidFactoryTest;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+public class NameBasedSha256FactoryTest extends UuidFactoryTest {
+
+	private static final int DEFAULT_LOOP_MAX = 100;
+
+	private static final Charset UTF8 = StandardCharsets.UTF_8;
+
+	private static final UuidNamespace NAMESPACE_DNS_ENUM = UuidNamespace.NAMESPACE_DNS;
+	private static final UUID NAMESPACE_DNS_UUID = UuidNamespace.NAMESPACE_DNS.getValue();
+	private static final String NAMESPACE_DNS_STRING = UuidNamespace.NAMESPACE_DNS.getValue().toString();
+
+	private static final UUID NAMESPACE_URL_UUID = UuidNamespace.NAMESPACE_URL.getValue();
+
+	/**
+	 * The first entry is the example in RFC-9562, Appendix B.2.
+	 *
+	 * The other entries were generated with Python:
+	 *
+	 * hashlib.sha256(namespace.bytes + name.encode()).digest()[:16]
+	 *
+	 * and then the version and variant bits were set.
+	 */
+	private static final String[][] LIST_DNS = { //
+			{ "5c146b14-3c52-8afd-938a-375d0df1fbf6", "www.example.com" }, //
+			{ "d03a3271-1d66-8d16-a6a5-e43722189903", "www.amazon.de" }, //
+			{ "d99d6513-dd5f-824f-940d-a37300c53725", "www.naver.com" }, //
+			{ "517c41eb-266f-862f-9254-1d29a2880d2a", "www.zimbio.com" }, //
+	};
+
+	private static final String[][] LIST_URL = { //
+			{ "d5d1751b-0de9-8b1d-9312-0157a5b53df8", "http://example.com/" }, //
+			{ "a21bda99-01d6-8f9e-94b7-ad6322afcbba", "https://www.example.net/" }, //
+			{ "e8ee5149-7eca-87a8-99d7-a750c504c751", "http://www.example.com/#apparel" }, //
+	};
+
+	@Test
+	public void testNameBasedSha256() {
+
+		UUID[] list = new UUID[DEFAULT_LOOP_MAX];
+		NameBasedSha256Factory factory = new NameBasedSha256Factory();
+
+		// Generate a list of UUIDs
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			String name = ("name" + i);
+			list[i] = factory.create(name);
+		}
+
+		// Check if the same inputs generate the same outputs
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			String name = ("name" + i);
+			assertEquals(list[i], factory.create(name));
+		}
+
+		// Check the list
+		checkNotNull(list);
+		checkUniqueness(list);
+		checkVersion(list, UuidVersion.VERSION_CUSTOM.getValue());
+	}
+
+	@Test
+	public void testNameBasedSha256WithNamespaceDns() {
+
+		// Test methods of the facade UuidCreator
+		for (int i = 0; i < LIST_DNS.length; i++) {
+
+			UUID expected = UUID.fromString(LIST_DNS[i][0]);
+			String name = LIST_DNS[i][1];
+
+			assertEquals(expected, UuidCreator.getNameBasedSha256(NAMESPACE_DNS_ENUM, name));
+			assertEquals(expected, UuidCreator.getNameBasedSha256(NAMESPACE_DNS_ENUM, name.getBytes(UTF8)));
+			assertEquals(expected, UuidCreator.getNameBasedSha256(NAMESPACE_DNS_UUID, name));
+			assertEquals(expected, UuidCreator.getNameBasedSha256(NAMESPACE_DNS_UUID, name.getBytes(UTF8)));
+			assertEquals(expected, UuidCreator.getNameBasedSha256(NAMESPACE_DNS_STRING, name));
+			assertEquals(expected, UuidCreator.getNameBasedSha256(NAMESPACE_DNS_STRING, name.getBytes(UTF8)));
+		}
+
+		NameBasedSha256Factory factory1 = new NameBasedSha256Factory(NAMESPACE_DNS_ENUM);
+		NameBasedSha256Factory factory2 = new NameBasedSha256Factory(NAMESPACE_DNS_UUID);
+		NameBasedSha256Factory factory3 = new NameBasedSha256Factory(NAMESPACE_DNS_STRING);
+
+		// Test methods of the factory with fixed namespace
+		for (int i = 0; i < LIST_DNS.length; i++) {
+
+			UUID expected = UUID.fromString(LIST_DNS[i][0]);
+			String name = LIST_DNS[i][1];
+
+			assertEquals(expected, factory1.create(name));
+			assertEquals(expected, factory2.create(name.getBytes(UTF8)));
+			assertEquals(expected, factory3.create(name));
+
+			// A different name space must not reuse the primed digest
+			assertEquals(expected, factory1.create(NAMESPACE_DNS_UUID, name));
+		}
+	}
+
+	@Test
+	public void testNameBasedSha256WithNamespaceUrl() {
+
+		// The factory name space must be ignored when other is given
+		NameBasedSha256Factory factory = new NameBasedSha256Factory(NAMESPACE_DNS_ENUM);
+
+		for (int i = 0; i < LIST_URL.length; i++) {
+
+			UUID expected = UUID.fromString(LIST_URL[i][0]);
+			String name = LIST_URL[i][1];
+
+			assertEquals(expected, UuidCreator.getNameBasedSha256(NAMESPACE_URL_UUID, name));
+			assertEquals(expected, factory.create(NAMESPACE_URL_UUID, name));
+		}
+	}
+
+	@Test
+	public void testHashSpaceSha256() {
+		UUID expected = UUID.fromString("3fb32780-953c-4464-9cfd-e85dbbe9843d");
+		assertEquals(expected, NameBasedSha256Factory.HASH_SPACE_SHA2_256);
+	}
+
+	@Test
+	public void testGetNameBasedSha256InParallel() throws InterruptedException {
+
+		Thread[] threads = new Thread[THREAD_TOTAL];
+		NameBasedTestThread.clearHashSet();
+
+		// All threads share the same primed digest prototype
+		NameBasedSha256Factory factory = new NameBasedSha256Factory(NAMESPACE_DNS_ENUM);
+
+		// Instantiate and start many threads
+		for (int i = 0; i < THREAD_TOTAL; i++) {
+			threads[i] = new NameBasedTestThread(factory, DEFAULT_LOOP_MAX);
+			threads[i].start();
+		}
+
+		// Wait all the threads to finish
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		// Check if the quantity of unique UUIDs is correct
+		assertEquals(DUPLICATE_UUID_MSG, (DEFAULT_LOOP_MAX * THREAD_TOTAL), NameBasedTestThread.hashSet.size());
+	}
+}
@@ -0,0 +1,52 @@
+package com.github.f4b6a3.uuid.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class DirectUuidHashSetTest {
+
+	@Test
+	public void testAddContainsRemove() {
+		Random random = new Random();
+		DirectUuidHashSet set = new DirectUuidHashSet(0);
+		Set<UUID> expected = new HashSet<>();
+		UUID[] pool = UuidHashSetTest.pool(random, 5000);
+
+		for (int i = 0; i < 100_000; i++) {
+			UUID uuid = pool[random.nextInt(pool.length)];
+			switch (random.nextInt(3)) {
+			case 0:
+				assertEquals(expected.add(uuid), set.add(uuid));
+				break;
+			case 1:
+				assertEquals(expected.remove(uuid), set.remove(uuid));
+				break;
+			default:
+				assertEquals(expected.contains(uuid), set.contains(uuid));
+			}
+			assertEquals(expected.size(), set.size());
+		}
+		assertEquals(expected, UuidHashSetTest.toSet(set.toArray()));
+
+		long[] uuids = new long[2 * pool.length];
+		for (int i = 0; i < pool.length; i++) {
+			uuids[2 * i] = pool[i].getMostSignificantBits();
+			uuids[2 * i + 1] = pool[i].getLeastSignificantBits();
+			expected.add(pool[i]);
+		}
+		set.addAll(uuids, 0, pool.length);
+		assertEquals(expected, UuidHashSetTest.toSet(set.toArray()));
+
+		set.clear();
+		assertTrue(set.isEmpty());
+		for (UUID uuid : pool) {
+			assertFalse(set.contains(uuid));
+		}
+	}
+}
@@ -4,6 +4,9 @@ import static org.junit.Assert.*;
 
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
@@ -233,6 +236,90 @@ public class UuidComparatorTest {
 		}
 	}
 
+	@Test
+	public void testComparePrimitive() {
+
+		Random random = new Random();
+		UuidComparator comparator = UuidComparator.getDefaultInstance();
+		UuidComparator opaque = UuidComparator.getOpaqueInstance();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			UUID uuid1 = UuidUtil.setVersion(new UUID(random.nextLong(), random.nextLong()), 1 + i % 7);
+			UUID uuid2 = UuidUtil.setVersion(new UUID(random.nextLong(), random.nextLong()), 1 + i % 7);
+			long msb1 = uuid1.getMostSignificantBits();
+			long lsb1 = uuid1.getLeastSignificantBits();
+			long msb2 = uuid2.getMostSignificantBits();
+			long lsb2 = uuid2.getLeastSignificantBits();
+
+			assertEquals(comparator.compare(uuid1, uuid2), comparator.compare(msb1, lsb1, msb2, lsb2));
+			assertEquals(opaque.compare(uuid1, uuid2), opaque.compare(msb1, lsb1, msb2, lsb2));
+			assertEquals(UuidComparator.opaqueCompare(uuid1, uuid2), UuidComparator.opaqueCompare(msb1, lsb1, msb2, lsb2));
+			assertEquals(UuidComparator.defaultCompare(uuid1, uuid2), UuidComparator.defaultCompare(msb1, lsb1, msb2, lsb2));
+			assertEquals(0, comparator.compare(msb1, lsb1, msb1, lsb1));
+			assertEquals(Integer.signum(comparator.compare(null, uuid2)), comparator.compare(0L, 0L, msb2, lsb2));
+		}
+	}
+
+	@Test
+	public void testCompareTimeOrdered() {
+
+		Random random = new Random();
+
+		for (int i = 0; i < DEFAULT_LOOP_MAX; i++) {
+			UUID uuid1 = UuidUtil.setVersion(new UUID(random.nextLong(), random.nextLong()), 1);
+			UUID uuid6 = TimeOrderedCodec.INSTANCE.encode(uuid1);
+
+			// the rearranged bits are the bits of a version 6 with version 1
+			long expected = UuidUtil.setVersion(uuid6, 1).getMostSignificantBits();
+			long lsb = uuid1.getLeastSignificantBits();
+			assertEquals(expected, UuidComparator.timeOrdered(uuid1.getMostSignificantBits(), lsb));
+			assertEquals(uuid6.getMostSignificantBits(), UuidComparator.timeOrdered(uuid6.getMostSignificantBits(), lsb));
+
+			// version 1 and version 6 are sorted together by time
+			UUID other = UuidUtil.setVersion(new UUID(random.nextLong(), random.nextLong()), 1);
+			long time1 = uuid1.timestamp();
+			long time2 = other.timestamp();
+			if ((time1 >>> 12) != (time2 >>> 12)) {
+				assertEquals(Long.signum(time1 - time2), UuidComparator.defaultCompare(uuid6, other));
+				assertEquals(Long.signum(time1 - time2), UuidComparator.defaultCompare(uuid1, TimeOrderedCodec.INSTANCE.encode(other)));
+			}
+
+			// DCE Security UUIDs are sorted by the high bits of the time stamp first
+			UUID dce1 = UuidUtil.setVersion(uuid1, 2);
+			UUID dce2 = UuidUtil.setVersion(other, 2);
+			long high1 = time1 >>> 32;
+			long high2 = time2 >>> 32;
+			if (high1 != high2) {
+				assertEquals(Long.signum(high1 - high2), UuidComparator.defaultCompare(dce1, dce2));
+			}
+		}
+	}
+
+	@Test
+	public void testCompareMixedVersions() {
+
+		Random random = new Random();
+		List<UUID> list = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++) {
+			long msb = i % 3 == 0 ? random.nextLong() & 0xffffffL : random.nextLong();
+			UUID uuid = UuidUtil.setVersion(new UUID(msb, random.nextLong()), 1 + i % 7);
+			list.add(uuid);
+		}
+		list.add(null);
+
+		// the order is total, so sorting doesn't break the contract
+		Collections.shuffle(list, random);
+		Collections.sort(list, UuidComparator.getDefaultInstance());
+		assertNull(list.get(0));
+		for (int i = 1; i < list.size() - 1; i++) {
+			assertTrue(UuidComparator.defaultCompare(list.get(i), list.get(i + 1)) < 0);
+			for (int j = i + 2; j < Math.min(list.size(), i + 20); j++) {
+				assertTrue(UuidComparator.defaultCompare(list.get(i), list.get(j)) < 0);
+				assertTrue(UuidComparator.defaultCompare(list.get(j), list.get(i)) > 0);
+			}
+		}
+	}
+
 	private byte[] setVersion(byte[] bytes, int version) {
 		UUID uuid = BinaryCodec.INSTANCE.decode(bytes);
 		uuid = UuidUtil.setVersion(uuid, version);
@@ -0,0 +1,127 @@
+package com.github.f4b6a3.uuid.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class UuidHashSetTest {
+
+	@Test
+	public void testAddContainsRemove() {
+		Random random = new Random();
+		UuidHashSet set = new UuidHashSet();
+		Set<UUID> expected = new HashSet<>();
+		UUID[] pool = pool(random, 5000);
+
+		for (int i = 0; i < 100_000; i++) {
+			UUID uuid = pool[random.nextInt(pool.length)];
+			switch (random.nextInt(3)) {
+			case 0:
+				assertEquals(expected.add(uuid), set.add(uuid));
+				break;
+			case 1:
+				assertEquals(expected.remove(uuid), set.remove(uuid));
+				break;
+			default:
+				assertEquals(expected.contains(uuid), set.contains(uuid));
+			}
+			assertEquals(expected.size(), set.size());
+		}
+
+		for (UUID uuid : pool) {
+			assertEquals(expected.contains(uuid), set.contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+		}
+		assertEquals(expected, toSet(set.toArray()));
+
+		set.clear();
+		assertTrue(set.isEmpty());
+		assertEquals(0, set.toArray().length);
+		for (UUID uuid : pool) {
+			assertFalse(set.contains(uuid));
+		}
+	}
+
+	@Test
+	public void testAddAll() {
+		Random random = new Random();
+		UUID[] pool = pool(random, 1000);
+		long[] uuids = new long[2 * pool.length];
+		for (int i = 0; i < pool.length; i++) {
+			uuids[2 * i] = pool[i].getMostSignificantBits();
+			uuids[2 * i + 1] = pool[i].getLeastSignificantBits();
+		}
+
+		UuidHashSet set = new UuidHashSet(0);
+		Set<UUID> expected = new HashSet<>();
+		for (int i = 1; i < pool.length; i++) {
+			expected.add(pool[i]);
+		}
+		assertEquals(expected.size(), set.addAll(uuids, 1, pool.length - 1));
+		assertEquals(0, set.addAll(uuids, 1, pool.length - 1));
+		assertEquals(expected, toSet(set.toArray()));
+
+		try {
+			set.addAll(uuids, 1, pool.length);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testExpectedSize() {
+		try {
+			new UuidHashSet(-1);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+		try {
+			new UuidHashSet(Integer.MAX_VALUE);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	static Set<UUID> toSet(long[] uuids) {
+		Set<UUID> set = new HashSet<>();
+		for (int i = 0; i < uuids.length; i += 2) {
+			assertTrue(set.add(new UUID(uuids[i], uuids[i + 1])));
+		}
+		return set;
+	}
+
+	/**
+	 * Returns random UUIDs of many versions, including the Nil UUID, UUIDs that
+	 * differ in a single bit and time-based UUIDs of a single node.
+	 */
+	static UUID[] pool(Random random, int size) {
+		UUID[] pool = new UUID[size];
+		pool[0] = new UUID(0L, 0L);
+		pool[1] = new UUID(0L, 1L);
+		pool[2] = new UUID(1L, 0L);
+		pool[3] = new UUID(Long.MIN_VALUE, 0L);
+		for (int i = 4; i < size; i++) {
+			switch (i % 4) {
+			case 0:
+				pool[i] = UUID.randomUUID();
+				break;
+			case 1:
+				pool[i] = UuidUtil.setVersion(new UUID(random.nextInt(1000) << 16, 0x8000000000000000L), 1);
+				break;
+			case 2:
+				pool[i] = new UUID(pool[i - 2].getMostSignificantBits(), pool[i - 2].getLeastSignificantBits() ^ 1L);
+				break;
+			default:
+				pool[i] = new UUID(random.nextInt(64), random.nextInt(64));
+			}
+		}
+		return pool;
+	}
+}
@@ -0,0 +1,146 @@
+package com.github.f4b6a3.uuid.util;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.util.internal.ParallelUtil;
+
+public class UuidSorterTest {
+
+	private static final int[] SIZES = { 0, 1, 2, 3, 64, 65, 1000, 3 * ParallelUtil.THRESHOLD + 1 };
+
+	private static final UuidComparator[] COMPARATORS = { UuidComparator.getDefaultInstance(),
+			UuidComparator.getOpaqueInstance() };
+
+	@Test
+	public void testSortUuidArray() {
+		Random random = new Random();
+		for (UuidComparator comparator : COMPARATORS) {
+			for (int size : SIZES) {
+				UUID[] uuids = uuids(random, size);
+				UUID[] expected = uuids.clone();
+				Arrays.sort(expected, comparator);
+
+				UUID[] actual = uuids.clone();
+				UuidSorter.sort(actual, comparator);
+				assertArrayEquals(expected, actual);
+
+				actual = uuids.clone();
+				UuidSorter.sortParallel(actual, comparator);
+				assertArrayEquals(expected, actual);
+			}
+		}
+
+		UUID[] uuids = uuids(random, 1000);
+		UUID[] expected = uuids.clone();
+		Arrays.sort(expected, UuidComparator.getDefaultInstance());
+		UuidSorter.sort(uuids);
+		assertArrayEquals(expected, uuids);
+	}
+
+	@Test
+	public void testSortUuidArrayWithNulls() {
+		Random random = new Random();
+		for (int size : SIZES) {
+			UUID[] uuids = uuids(random, size + 3);
+			UUID nil = new UUID(0L, 0L);
+			uuids[0] = null;
+			uuids[size + 1] = nil;
+			uuids[size + 2] = null;
+
+			UuidSorter.sort(uuids);
+
+			// the sort is stable, so nulls and Nil UUIDs keep their order
+			assertNull(uuids[0]);
+			assertSame(nil, uuids[1]);
+			assertNull(uuids[2]);
+			for (int i = 3; i < uuids.length - 1; i++) {
+				assertTrue(UuidComparator.defaultCompare(uuids[i], uuids[i + 1]) <= 0);
+			}
+		}
+	}
+
+	@Test
+	public void testSortLongArray() {
+		Random random = new Random();
+		for (UuidComparator comparator : COMPARATORS) {
+			for (int size : SIZES) {
+				UUID[] uuids = uuids(random, size);
+				UUID[] expected = uuids.clone();
+				Arrays.sort(expected, comparator);
+
+				// the first and the last UUIDs are not sorted
+				long[] array = new long[2 * size + 4];
+				for (int i = 0; i < size; i++) {
+					array[2 * i + 2] = uuids[i].getMostSignificantBits();
+					array[2 * i + 3] = uuids[i].getLeastSignificantBits();
+				}
+				array[0] = array[array.length - 1] = -1L;
+
+				long[] actual = array.clone();
+				UuidSorter.sort(actual, 1, size, comparator);
+				check(expected, actual);
+
+				actual = array.clone();
+				UuidSorter.sortParallel(actual, 1, size, comparator);
+				check(expected, actual);
+
+				if (comparator == UuidComparator.getDefaultInstance()) {
+					actual = array.clone();
+					UuidSorter.sort(actual, 1, size);
+					check(expected, actual);
+
+					actual = array.clone();
+					UuidSorter.sortParallel(actual, 1, size);
+					check(expected, actual);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSortOutOfBounds() {
+		long[] uuids = new long[10];
+		try {
+			UuidSorter.sort(uuids, 1, 5);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+		try {
+			UuidSorter.sortParallel(uuids, -1, 1);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	private static void check(UUID[] expected, long[] actual) {
+		assertEquals(-1L, actual[0]);
+		assertEquals(0L, actual[1]);
+		assertEquals(0L, actual[actual.length - 2]);
+		assertEquals(-1L, actual[actual.length - 1]);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], new UUID(actual[2 * i + 2], actual[2 * i + 3]));
+		}
+	}
+
+	private static UUID[] uuids(Random random, int size) {
+		UUID[] uuids = new UUID[size];
+		for (int i = 0; i < size; i++) {
+			// mixed versions, some of them with a few distinct bytes
+			long msb = i % 3 == 0 ? random.nextLong() & 0xff00f0ffL : random.nextLong();
+			long lsb = i % 5 == 0 ? random.nextLong() & 0xffL : random.nextLong();
+			uuids[i] = UuidUtil.setVersion(new UUID(msb, lsb), 1 + i % 7);
+			if (i % 11 == 0 && i > 0) {
+				uuids[i] = uuids[i - 1]; // duplicates
+			}
+		}
+		return uuids;
+	}
+}
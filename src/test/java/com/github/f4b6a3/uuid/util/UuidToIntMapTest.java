@@ -0,0 +1,60 @@
+package com.github.f4b6a3.uuid.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class UuidToIntMapTest {
+
+	@Test
+	public void testPutGetRemove() {
+		Random random = new Random();
+		UuidToIntMap map = new UuidToIntMap();
+		Map<UUID, Integer> expected = new HashMap<>();
+		UUID[] pool = UuidHashSetTest.pool(random, 5000);
+
+		for (int i = 0; i < 100_000; i++) {
+			UUID uuid = pool[random.nextInt(pool.length)];
+			int value = random.nextInt();
+			switch (random.nextInt(5)) {
+			case 0:
+				Integer previous = expected.put(uuid, value);
+				assertEquals(previous != null ? previous : 0, map.put(uuid, value));
+				break;
+			case 1:
+				int sum = expected.getOrDefault(uuid, 0) + 1;
+				expected.put(uuid, sum);
+				assertEquals(sum, map.addTo(uuid, 1));
+				break;
+			case 2:
+				assertEquals(expected.remove(uuid) != null, map.remove(uuid));
+				break;
+			case 3:
+				assertEquals(expected.containsKey(uuid), map.containsKey(uuid));
+				break;
+			default:
+				assertEquals((int) expected.getOrDefault(uuid, -1), map.getOrDefault(uuid, -1));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		long[] keys = map.keys();
+		int[] values = map.values();
+		assertEquals(expected.size(), values.length);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals((int) expected.get(new UUID(keys[2 * i], keys[2 * i + 1])), values[i]);
+		}
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		for (UUID uuid : pool) {
+			assertFalse(map.containsKey(uuid));
+			assertEquals(0, map.getOrDefault(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), 0));
+		}
+	}
+}
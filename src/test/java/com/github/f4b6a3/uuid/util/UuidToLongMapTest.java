@@ -0,0 +1,60 @@
+package com.github.f4b6a3.uuid.util;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class UuidToLongMapTest {
+
+	@Test
+	public void testPutGetRemove() {
+		Random random = new Random();
+		UuidToLongMap map = new UuidToLongMap();
+		Map<UUID, Long> expected = new HashMap<>();
+		UUID[] pool = UuidHashSetTest.pool(random, 5000);
+
+		for (int i = 0; i < 100_000; i++) {
+			UUID uuid = pool[random.nextInt(pool.length)];
+			long value = random.nextLong();
+			switch (random.nextInt(5)) {
+			case 0:
+				Long previous = expected.put(uuid, value);
+				assertEquals(previous != null ? previous : 0L, map.put(uuid, value));
+				break;
+			case 1:
+				long sum = expected.getOrDefault(uuid, 0L) + 1;
+				expected.put(uuid, sum);
+				assertEquals(sum, map.addTo(uuid, 1L));
+				break;
+			case 2:
+				assertEquals(expected.remove(uuid) != null, map.remove(uuid));
+				break;
+			case 3:
+				assertEquals(expected.containsKey(uuid), map.containsKey(uuid));
+				break;
+			default:
+				assertEquals((long) expected.getOrDefault(uuid, -1L), map.getOrDefault(uuid, -1L));
+			}
+			assertEquals(expected.size(), map.size());
+		}
+
+		long[] keys = map.keys();
+		long[] values = map.values();
+		assertEquals(expected.size(), values.length);
+		for (int i = 0; i < values.length; i++) {
+			assertEquals((long) expected.get(new UUID(keys[2 * i], keys[2 * i + 1])), values[i]);
+		}
+
+		map.clear();
+		assertTrue(map.isEmpty());
+		for (UUID uuid : pool) {
+			assertFalse(map.containsKey(uuid));
+			assertEquals(0L, map.getOrDefault(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), 0L));
+		}
+	}
+}
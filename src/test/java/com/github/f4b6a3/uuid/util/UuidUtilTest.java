@@ -89,16 +89,22 @@ public class UuidUtilTest {
 			UUID uuid1 = factory1.create();
 			long gregTimestamp1 = getTimestamp(uuid1);
 			assertEquals(gregTimestamp, gregTimestamp1);
+			assertEquals(gregTimestamp1, getTimestamp(uuid1.getMostSignificantBits(), uuid1.getLeastSignificantBits()));
 
 			TimeOrderedFactory factory2 = TimeOrderedFactory.builder().withTimeFunction(() -> unixTimestamp).build();
 			UUID uuid2 = factory2.create();
 			long gregTimestamp2 = getTimestamp(uuid2);
 			assertEquals(gregTimestamp, gregTimestamp2);
+			assertEquals(gregTimestamp2, getTimestamp(uuid2.getMostSignificantBits(), uuid2.getLeastSignificantBits()));
 
 			DceSecurityFactory factory3 = DceSecurityFactory.builder().withTimeFunction(() -> unixTimestamp).build();
 			UUID uuid3 = factory3.create(UuidLocalDomain.LOCAL_DOMAIN_PERSON, 0);
 			long gregTimestamp3 = getTimestamp(uuid3);
 			assertEquals(gregTimestamp & 0xffffffff00000000L, gregTimestamp3);
+			assertEquals(gregTimestamp3, getTimestamp(uuid3.getMostSignificantBits(), uuid3.getLeastSignificantBits()));
+
+			UUID uuid4 = UuidCreator.getTimeOrderedEpoch();
+			assertEquals(getTimestamp(uuid4), getTimestamp(uuid4.getMostSignificantBits(), uuid4.getLeastSignificantBits()));
 		}
 	}
 
@@ -198,6 +204,13 @@ public class UuidUtilTest {
 			// Success
 		}
 
+		try {
+			getTimestamp(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+			fail();
+		} catch (IllegalArgumentException e) {
+			// Success
+		}
+
 		try {
 			getClockSequence(uuid);
 			fail();
@@ -0,0 +1,202 @@
+package com.github.f4b6a3.uuid.util.immutable;
+
+import static org.junit.Assert.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeBasedFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedEpochFactory;
+import com.github.f4b6a3.uuid.factory.rfc4122.TimeOrderedFactory;
+import com.github.f4b6a3.uuid.util.UuidComparator;
+import com.github.f4b6a3.uuid.util.UuidTime;
+import com.github.f4b6a3.uuid.util.UuidUtil;
+
+public class UuidArrayTest {
+
+	private static final int COUNT = 1000;
+
+	private static final Instant START = Instant.parse("2024-01-01T00:00:00Z");
+
+	@Test
+	public void testFromAndGet() {
+		List<UUID> list = new ArrayList<>();
+		long[] longs = new long[2 * COUNT + 2];
+		for (int i = 0; i < COUNT; i++) {
+			UUID uuid = UUID.randomUUID();
+			list.add(uuid);
+			longs[2 * i + 2] = uuid.getMostSignificantBits();
+			longs[2 * i + 3] = uuid.getLeastSignificantBits();
+		}
+
+		UuidArray array = UuidArray.from(list);
+		assertEquals(COUNT, array.length());
+		assertEquals(array, UuidArray.from(list.toArray(new UUID[0])));
+		assertEquals(array, UuidArray.from(longs, 1, COUNT));
+		assertEquals(array, UuidArray.from(Arrays.copyOfRange(longs, 2, longs.length)));
+		assertEquals(array.hashCode(), UuidArray.from(longs, 1, COUNT).hashCode());
+		for (int i = 0; i < COUNT; i++) {
+			assertEquals(list.get(i), array.get(i));
+			assertEquals(list.get(i).getMostSignificantBits(), array.getMostSignificantBits(i));
+			assertEquals(list.get(i).getLeastSignificantBits(), array.getLeastSignificantBits(i));
+		}
+		assertEquals(list, array.stream().collect(Collectors.toList()));
+		assertArrayEquals(Arrays.copyOfRange(longs, 2, longs.length), array.toArray());
+
+		// immutable
+		longs[2] = 0;
+		assertEquals(list.get(0), UuidArray.from(list).get(0));
+		array.toArray()[0] = 0;
+		assertEquals(list.get(0), array.get(0));
+
+		assertEquals(0, UuidArray.empty().length());
+		assertEquals(UuidArray.empty(), UuidArray.from(new long[0]));
+		assertEquals("UuidArray [array=[" + list.get(0) + ", " + list.get(1) + "]]", array.slice(0, 2).toString());
+
+		try {
+			UuidArray.from(new long[3]);
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+		try {
+			array.get(COUNT);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testSlice() {
+		List<UUID> list = new ArrayList<>();
+		for (int i = 0; i < COUNT; i++) {
+			list.add(UUID.randomUUID());
+		}
+		UuidArray array = UuidArray.from(list);
+
+		UuidArray slice = array.slice(100, 200);
+		assertEquals(100, slice.length());
+		assertEquals(UuidArray.from(list.subList(100, 200)), slice);
+		assertEquals(UuidArray.from(list.subList(110, 120)), slice.slice(10, 20));
+		assertEquals(0, slice.slice(5, 5).length());
+
+		List<UUID> visited = new ArrayList<>();
+		slice.forEach((msb, lsb) -> visited.add(new UUID(msb, lsb)));
+		assertEquals(list.subList(100, 200), visited);
+
+		try {
+			slice.get(100);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+		try {
+			slice.slice(50, 101);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+		try {
+			slice.slice(10, 9);
+			fail("Should throw exception");
+		} catch (IndexOutOfBoundsException e) {
+			// success
+		}
+	}
+
+	@Test
+	public void testSortedAndBinarySearch() {
+		Random random = new Random();
+		List<UUID> list = new ArrayList<>();
+		for (int i = 0; i < COUNT; i++) {
+			list.add(UuidUtil.setVersion(new UUID(random.nextLong(), random.nextLong()), 1 + i % 7));
+		}
+
+		UuidArray opaque = UuidArray.from(list).sorted(UuidComparator.getOpaqueInstance());
+		Collections.sort(list, UuidComparator.getOpaqueInstance());
+		assertEquals(UuidArray.from(list), opaque);
+		for (int i = 0; i < COUNT; i++) {
+			UUID uuid = list.get(i);
+			assertEquals(i, opaque.binarySearch(uuid));
+			assertEquals(i, opaque.binarySearch(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(),
+					UuidComparator.getOpaqueInstance()));
+		}
+		assertEquals(-1, opaque.binarySearch(new UUID(0L, 0L)));
+		assertEquals(-(COUNT + 1), opaque.binarySearch(new UUID(-1L, -1L)));
+		UUID next = new UUID(list.get(500).getMostSignificantBits(), list.get(500).getLeastSignificantBits() + 1);
+		assertEquals(-(501 + 1), opaque.binarySearch(next));
+		assertEquals(-(2 + 1), opaque.slice(499, 600).binarySearch(next));
+
+		UuidArray sorted = UuidArray.from(list).sorted();
+		Collections.sort(list, UuidComparator.getDefaultInstance());
+		assertEquals(UuidArray.from(list), sorted);
+		for (int i = 0; i < COUNT; i++) {
+			UUID uuid = list.get(i);
+			assertEquals(i, sorted.binarySearch(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(),
+					UuidComparator.getDefaultInstance()));
+		}
+	}
+
+	@Test
+	public void testRange() {
+		final long[] tick = { 0 };
+		final long unix = UuidTime.toUnixTimestamp(START);
+
+		TimeOrderedEpochFactory factory7 = TimeOrderedEpochFactory.builder()
+				.withTimeFunction(() -> START.toEpochMilli() + tick[0]).build();
+		checkRange(tick, factory7::create, 1_000_000L);
+
+		TimeOrderedFactory factory6 = TimeOrderedFactory.builder().withTimeFunction(() -> unix + tick[0]).build();
+		checkRange(tick, factory6::create, 100L);
+
+		TimeBasedFactory factory1 = TimeBasedFactory.builder().withTimeFunction(() -> unix + tick[0]).build();
+		checkRange(tick, factory1::create, 100L);
+
+		UuidArray array = UuidArray.from(new UUID[] { UUID.randomUUID(), UUID.randomUUID() });
+		try {
+			array.range(START, START.plusSeconds(1));
+			fail("Should throw exception");
+		} catch (IllegalArgumentException e) {
+			// success
+		}
+	}
+
+	/**
+	 * Checks ranges of UUIDs created at consecutive ticks of a clock.
+	 */
+	private void checkRange(long[] tick, Supplier<UUID> factory, long nanosPerTick) {
+		List<UUID> list = new ArrayList<>();
+		for (int i = 0; i < COUNT; i++) {
+			tick[0] = i / 2; // two UUIDs per tick
+			list.add(factory.get());
+		}
+		Collections.shuffle(list);
+		UuidArray array = UuidArray.from(list).sorted();
+
+		for (int i = 0; i < COUNT / 2; i += 7) {
+			Instant from = START.plusNanos(i * nanosPerTick);
+			Instant to = START.plusNanos((i + 10) * nanosPerTick);
+			assertEquals(array.slice(2 * i, Math.min(COUNT, 2 * i + 20)), array.range(from, to));
+			// rounded up to the next tick
+			assertEquals(array.slice(Math.min(COUNT, 2 * i + 2), Math.min(COUNT, 2 * i + 22)),
+					array.range(from.plusNanos(1), to.plusNanos(1)));
+		}
+
+		assertEquals(array, array.range(Instant.MIN, Instant.MAX));
+		assertEquals(array, array.range(START, START.plusNanos(COUNT * nanosPerTick)));
+		assertEquals(0, array.range(START.plusSeconds(1), START).length());
+		assertEquals(0, array.range(Instant.MIN, START).length());
+		assertEquals(0, array.slice(100, 200).range(START, START.plusNanos(50 * nanosPerTick)).length());
+		assertEquals(array.slice(100, 200), array.slice(100, 200).range(Instant.MIN, Instant.MAX));
+	}
+}
@@ -0,0 +1,151 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class HexUtilTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100_000;
+
+	private static final char[] ALPHABET = "0123456789abcdef".toCharArray();
+
+	// hexadecimal digits and their neighbors in the ASCII table
+	private static final char[] SAMPLES = "0123456789abcdefABCDEF/:@G`g \u0000\u007f\u0080\u00ff\u0130\u0161\u0141"
+			.toCharArray();
+
+	private static final byte[] TABLE = new byte[256];
+	static {
+		Arrays.fill(TABLE, (byte) -1);
+		for (int i = 0; i < 16; i++) {
+			TABLE[ALPHABET[i]] = (byte) i;
+			TABLE[Character.toUpperCase(ALPHABET[i])] = (byte) i;
+		}
+	}
+
+	/**
+	 * The table version of {@link HexUtil#decode(long)}.
+	 */
+	private static long decode(String string) {
+		long value = 0;
+		for (int i = 0; i < string.length(); i++) {
+			final char c = string.charAt(i);
+			if (c > 0xff || TABLE[c] < 0) {
+				return -1L;
+			}
+			value = (value << 4) | TABLE[c];
+		}
+		return value;
+	}
+
+	/**
+	 * The table version of {@link HexUtil#encode(long)}.
+	 */
+	private static String encode(long number) {
+		final char[] chars = new char[8];
+		for (int i = 0; i < 8; i++) {
+			chars[i] = ALPHABET[(int) (number >>> (28 - 4 * i)) & 0xf];
+		}
+		return new String(chars);
+	}
+
+	private static long swarDecode(String string) {
+		return HexUtil.decode(HexUtil.pack(string, 0) << 32 | HexUtil.pack(string, 4));
+	}
+
+	private static String swarEncode(long number) {
+		final char[] chars = new char[8];
+		final long ascii = HexUtil.encode(number);
+		HexUtil.unpack(ascii >>> 32, chars, 0);
+		HexUtil.unpack(ascii, chars, 4);
+		return new String(chars);
+	}
+
+	@Test
+	public void testDecodeRandomSamples() {
+		SplittableRandom random = new SplittableRandom(1);
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			char[] chars = new char[8];
+			for (int j = 0; j < chars.length; j++) {
+				// mostly valid digits, so that both paths are exercised
+				chars[j] = random.nextInt(8) == 0 ? SAMPLES[random.nextInt(SAMPLES.length)]
+						: SAMPLES[random.nextInt(22)];
+			}
+			String string = new String(chars);
+			assertEquals(string, decode(string), swarDecode(string));
+		}
+	}
+
+	@Test
+	public void testDecodeEveryChar() {
+		SplittableRandom random = new SplittableRandom(2);
+		for (int c = 0; c <= 0xffff; c++) {
+			char[] chars = encode(random.nextInt()).toCharArray();
+			chars[c & 7] = (char) c;
+			String string = new String(chars);
+			assertEquals(string, decode(string), swarDecode(string));
+		}
+	}
+
+	@Test
+	public void testDecodeUpperCase() {
+		SplittableRandom random = new SplittableRandom(3);
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			long number = random.nextInt() & 0xffffffffL;
+			String string = encode(number).toUpperCase();
+			assertEquals(number, swarDecode(string));
+		}
+	}
+
+	@Test
+	public void testEncode() {
+		long[] edges = { 0L, 1L, 9L, 10L, 15L, 16L, 0x99999999L, 0xaaaaaaaaL, 0xffffffffL, 0x0123456789abcdefL, -1L };
+		for (long number : edges) {
+			assertEquals(encode(number), swarEncode(number));
+		}
+		SplittableRandom random = new SplittableRandom(4);
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			long number = random.nextLong();
+			String string = swarEncode(number);
+			assertEquals(encode(number), string);
+			assertEquals(number & 0xffffffffL, swarDecode(string));
+		}
+	}
+
+	@Test
+	public void testFormatAndParseBytes() {
+		SplittableRandom random = new SplittableRandom(5);
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = new UUID(random.nextLong(), random.nextLong());
+			byte[] bytes = new byte[38];
+			HexUtil.format(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), bytes, 1);
+			assertEquals(uuid.toString(), new String(bytes, 1, 36, StandardCharsets.US_ASCII));
+			assertEquals(0, bytes[0]);
+			assertEquals(0, bytes[37]);
+
+			long[] pair = new long[2];
+			assertTrue(HexUtil.parse(bytes, 1, true, pair, 0));
+			assertEquals(uuid, new UUID(pair[0], pair[1]));
+
+			// without hyphens
+			byte[] digits = uuid.toString().replace("-", "").getBytes(StandardCharsets.US_ASCII);
+			pair = new long[2];
+			assertTrue(HexUtil.parse(digits, 0, false, pair, 0));
+			assertEquals(uuid, new UUID(pair[0], pair[1]));
+		}
+
+		byte[] bytes = UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII);
+		for (int i = 0; i < bytes.length; i++) {
+			byte[] copy = bytes.clone();
+			copy[i] = 'x';
+			long[] pair = new long[2];
+			assertFalse(HexUtil.parse(copy, 0, true, pair, 0));
+			assertArrayEquals(new long[2], pair);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class HexVectorTest {
+
+	@Test
+	public void testEncodeAndDecode() {
+
+		final int count = 100;
+		SplittableRandom random = new SplittableRandom(1);
+
+		long[] uuids = new long[2 * count];
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			uuids[2 * i] = random.nextLong();
+			uuids[2 * i + 1] = random.nextLong();
+			expected.append(new UUID(uuids[2 * i], uuids[2 * i + 1]));
+		}
+
+		// the bytes out of the range are not written
+		byte[] bytes = new byte[36 * count + 2];
+		HexVector.encode(uuids, 0, count, bytes, 1);
+		assertEquals(expected.toString(), new String(bytes, 1, 36 * count, StandardCharsets.US_ASCII));
+		assertEquals(0, bytes[0]);
+		assertEquals(0, bytes[bytes.length - 1]);
+
+		long[] actual = new long[2 * count];
+		assertEquals(-1, HexVector.decode(bytes, 1, count, actual, 0));
+		assertArrayEquals(uuids, actual);
+
+		// upper case
+		byte[] upper = expected.toString().toUpperCase().getBytes(StandardCharsets.US_ASCII);
+		actual = new long[2 * count];
+		assertEquals(-1, HexVector.decode(upper, 0, count, actual, 0));
+		assertArrayEquals(uuids, actual);
+	}
+
+	@Test
+	public void testDecodeInvalid() {
+
+		final int count = 3;
+		byte[] bytes = new byte[36 * count];
+		long[] uuids = new long[2 * count];
+		for (int i = 0; i < count; i++) {
+			byte[] string = UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII);
+			System.arraycopy(string, 0, bytes, 36 * i, 36);
+		}
+
+		// every position of the last string
+		for (int i = 0; i < 36; i++) {
+			byte[] copy = bytes.clone();
+			copy[36 * (count - 1) + i] = 'g';
+			assertEquals(count - 1, HexVector.decode(copy, 0, count, uuids, 0));
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.junit.Test;
+
+/**
+ * Runs against the variant of {@link PlatformUtil} selected by the JVM, so it
+ * tests the Java 11 variant when the multi-release JAR runs on Java 11+.
+ */
+public class PlatformUtilTest {
+
+	private static final int DEFAULT_LOOP_LIMIT = 100_000;
+
+	@Test
+	public void testToString() {
+		SplittableRandom random = new SplittableRandom(1);
+		assertEquals(new UUID(0L, 0L).toString(), PlatformUtil.toString(new UUID(0L, 0L)));
+		assertEquals(new UUID(-1L, -1L).toString(), PlatformUtil.toString(new UUID(-1L, -1L)));
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			UUID uuid = new UUID(random.nextLong(), random.nextLong());
+			assertEquals(uuid.toString(), PlatformUtil.toString(uuid));
+		}
+	}
+
+	@Test
+	public void testGetLongAndPutLong() {
+		SplittableRandom random = new SplittableRandom(2);
+		byte[] bytes = new byte[19];
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			long value = random.nextLong();
+			int index = random.nextInt(bytes.length - 7);
+			PlatformUtil.putLong(bytes, index, value);
+			assertEquals(value, ByteBuffer.wrap(bytes).getLong(index));
+			assertEquals(value, PlatformUtil.getLong(bytes, index));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetLongOutOfBounds() {
+		PlatformUtil.getLong(new byte[8], 1);
+	}
+
+	@Test
+	public void testMultiplyHigh() {
+		SplittableRandom random = new SplittableRandom(3);
+		long[] edges = { 0L, 1L, -1L, Long.MAX_VALUE, Long.MIN_VALUE, 0xffffffffL, 0x100000000L };
+		for (long x : edges) {
+			for (long y : edges) {
+				assertEquals(multiplyHigh(x, y), PlatformUtil.multiplyHigh(x, y));
+			}
+		}
+		for (int i = 0; i < DEFAULT_LOOP_LIMIT; i++) {
+			long x = random.nextLong();
+			long y = random.nextLong();
+			assertEquals(multiplyHigh(x, y), PlatformUtil.multiplyHigh(x, y));
+		}
+	}
+
+	@Test
+	public void testOnSpinWait() {
+		// it must return
+		PlatformUtil.onSpinWait();
+	}
+
+	private static long multiplyHigh(long x, long y) {
+		return BigInteger.valueOf(x).multiply(BigInteger.valueOf(y)).shiftRight(64).longValue();
+	}
+}
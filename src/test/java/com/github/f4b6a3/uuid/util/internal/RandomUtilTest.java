@@ -0,0 +1,106 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.*;
+
+import java.security.ProviderException;
+import java.security.SecureRandom;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class RandomUtilTest {
+
+	@BeforeClass
+	public static void beforeClass() {
+		SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM);
+		SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM_ASYNC);
+	}
+
+	@AfterClass
+	public static void afterClass() {
+		SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM);
+		SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM_ASYNC);
+	}
+
+	@Test
+	public void testSetSecureRandomAsync() {
+		assertFalse(SettingsUtil.isSecureRandomAsync());
+		SettingsUtil.setSecureRandomAsync(true);
+		assertTrue(SettingsUtil.isSecureRandomAsync());
+		SettingsUtil.setSecureRandomAsync(false);
+		assertFalse(SettingsUtil.isSecureRandomAsync());
+	}
+
+	@Test
+	public void testNewSecureRandomNonBlocking() {
+		SettingsUtil.setSecureRandomAsync(true);
+		try {
+			SecureRandom random = RandomUtil.newSecureRandom();
+			String algorithm = random.getAlgorithm();
+			boolean available = false;
+			for (String nonblocking : RandomUtil.NON_BLOCKING_ALGORITHMS) {
+				try {
+					SecureRandom.getInstance(nonblocking);
+					// the first available must be chosen
+					assertEquals(nonblocking, algorithm);
+					available = true;
+					break;
+				} catch (java.security.NoSuchAlgorithmException e) {
+					// try the next one
+				}
+			}
+			if (!available) {
+				assertEquals(new SecureRandom().getAlgorithm(), algorithm);
+			}
+		} finally {
+			SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM_ASYNC);
+		}
+	}
+
+	@Test
+	public void testNewSecureRandomExplicitAlgorithm() {
+		SettingsUtil.setSecureRandomAsync(true);
+		SettingsUtil.setSecureRandom("SHA1PRNG");
+		try {
+			// an explicit algorithm has prevalence
+			assertEquals("SHA1PRNG", RandomUtil.newSecureRandom().getAlgorithm());
+		} finally {
+			SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM);
+			SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM_ASYNC);
+		}
+	}
+
+	@Test
+	public void testNewSeededSecureRandomFallback() {
+
+		// the supplier fails to create an instance
+		SecureRandom random = RandomUtil.newSeededSecureRandom(() -> {
+			throw new ProviderException("no entropy");
+		});
+		assertEquals(new SecureRandom().getAlgorithm(), random.getAlgorithm());
+
+		// the supplied instance fails on its first value
+		final SecureRandom failing = new SecureRandom() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void nextBytes(byte[] bytes) {
+				throw new ProviderException("no entropy");
+			}
+		};
+		random = RandomUtil.newSeededSecureRandom(() -> failing);
+		assertNotSame(failing, random);
+		random.nextLong(); // the fallback works
+	}
+
+	@Test
+	public void testBootstrapRandomUnique() {
+		Set<Long> set = new HashSet<>();
+		for (int i = 0; i < 100_000; i++) {
+			assertTrue(set.add(RandomUtil.BootstrapRandom.nextLong()));
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.github.f4b6a3.uuid.util.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.github.f4b6a3.uuid.util.internal.SecureRandomSelector.Selection;
+
+public class SecureRandomSelectorTest {
+
+	@BeforeClass
+	public static void beforeClass() {
+		SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM);
+	}
+
+	@AfterClass
+	public static void afterClass() {
+		SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM);
+	}
+
+	@Test
+	public void testGetSelection() {
+		Selection selection = SecureRandomSelector.getSelection();
+		Map<String, Long> throughputs = selection.getThroughputs();
+
+		assertNotNull(selection.getAlgorithm());
+		assertTrue(throughputs.containsKey(selection.getAlgorithm()));
+		for (long throughput : throughputs.values()) {
+			assertTrue(selection.getThroughput() >= throughput);
+		}
+
+		// the selection is done only once
+		assertSame(selection, SecureRandomSelector.getSelection());
+	}
+
+	@Test
+	public void testCandidates() {
+		// SHA1PRNG may block while seeding itself
+		assertFalse(Arrays.asList(SecureRandomSelector.CANDIDATES).contains("SHA1PRNG"));
+		for (String candidate : SecureRandomSelector.CANDIDATES) {
+			assertFalse(candidate.endsWith("Blocking") && !candidate.endsWith("NonBlocking"));
+		}
+	}
+
+	@Test
+	public void testSelectUnavailable() {
+		String[] candidates = { "UNAVAILABLE1", "SHA1PRNG", "UNAVAILABLE2" };
+		Selection selection = SecureRandomSelector.select(candidates, 100_000L);
+		assertEquals("SHA1PRNG", selection.getAlgorithm());
+		assertEquals(1, selection.getThroughputs().size());
+
+		// fall back to the default algorithm
+		candidates = new String[] { "UNAVAILABLE" };
+		selection = SecureRandomSelector.select(candidates, 100_000L);
+		assertEquals(new java.security.SecureRandom().getAlgorithm(), selection.getAlgorithm());
+	}
+
+	@Test
+	public void testNewSecureRandomAuto() {
+		SettingsUtil.setSecureRandom(SecureRandomSelector.ALGORITHM_AUTO);
+		try {
+			String expected = SecureRandomSelector.getSelection().getAlgorithm();
+			assertEquals(expected, RandomUtil.newSecureRandom().getAlgorithm());
+		} finally {
+			SettingsUtil.clearProperty(SettingsUtil.PROPERTY_SECURERANDOM);
+		}
+	}
+}